@@ -0,0 +1,94 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.projectiles.BossProjectile;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-step actor update of LevelParent: beginStep and updateActor on every actor.
+ * The MIXED population interleaves planes and the three projectile types, like the real
+ * actor lists, so the virtual calls cannot be inlined for a single type; ENEMY_PLANES shows
+ * the same work with one receiver type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS_GLASS, FxPlatform.HEADLESS_MONOCLE,
+        FxPlatform.HEADLESS_PRISM, FxPlatform.HEADLESS_AWT})
+@State(Scope.Thread)
+public class ActorUpdateBenchmark {
+
+    // Number of actors updated per step
+    @Param({"50", "500"})
+    public int actorCount;
+
+    // Which actor types are updated
+    @Param({"MIXED", "ENEMY_PLANES"})
+    public String population;
+
+    private final List<ActiveActorDestructible> actors = new ArrayList<>();
+    private final GameRandom random = new GameRandom(42);
+
+    /**
+     * Creates the actors.
+     */
+    @Setup
+    public void setUp() {
+        FxPlatform.start();
+        for (int i = 0; i < actorCount; i++) {
+            actors.add(createActor(i));
+        }
+    }
+
+    /**
+     * Creates the i-th actor of the population.
+     *
+     * @param i The index of the actor.
+     * @return The new actor.
+     */
+    private ActiveActorDestructible createActor(int i) {
+        if (population.equals("ENEMY_PLANES")) {
+            return new EnemyPlane(1000, i, random);
+        }
+        return switch (i % 4) {
+            case 0 -> new EnemyPlane(1000, i, random);
+            case 1 -> new EnemyProjectile(900, i);
+            case 2 -> new UserProjectile(100, i);
+            default -> new BossProjectile(i);
+        };
+    }
+
+    /**
+     * Runs one simulation step's worth of updates.
+     *
+     * @return The number of updated actors.
+     */
+    @Benchmark
+    public int updateActors() {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            actor.beginStep();
+            actor.updateActor();
+        }
+        return actors.size();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.benchmarks;
+
+import javafx.application.Platform;
+
+/**
+ * FxPlatform starts the JavaFX toolkit for benchmarks that create actors or images.
+ * Forked benchmark JVMs add the HEADLESS_* options, which select the Monocle headless
+ * platform and the software renderer, so no display is needed.
+ */
+public final class FxPlatform {
+
+    // JVM options for a headless JavaFX toolkit (used in @Fork annotations)
+    public static final String HEADLESS_GLASS = "-Dglass.platform=Monocle";
+    public static final String HEADLESS_MONOCLE = "-Dmonocle.platform=Headless";
+    public static final String HEADLESS_PRISM = "-Dprism.order=sw";
+    public static final String HEADLESS_AWT = "-Djava.awt.headless=true";
+
+    /**
+     * Constructor for FxPlatform. Not used; the class only has static members.
+     */
+    private FxPlatform() {
+    }
+
+    /**
+     * Starts the JavaFX toolkit if it is not running yet.
+     */
+    public static void start() {
+        try {
+            Platform.startup(() -> {
+                // Nothing to run; benchmarks only need the toolkit
+            });
+        } catch (IllegalStateException alreadyStarted) {
+            // The toolkit is already running in this JVM
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.utils.ImageCache;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading an actor image: decoding the resource again, as every actor did before
+ * the image cache, against looking it up in the shared ImageCache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS_GLASS, FxPlatform.HEADLESS_MONOCLE,
+        FxPlatform.HEADLESS_PRISM, FxPlatform.HEADLESS_AWT})
+@State(Scope.Thread)
+public class ImageLoadingBenchmark {
+
+    // Location of the game's images
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    // Image file and the height it is scaled to
+    @Param({"enemyplane.png", "bossplane.png", "fireball.png"})
+    public String imageName;
+
+    @Param({"150"})
+    public double imageHeight;
+
+    private String resourcePath;
+    private String url;
+
+    /**
+     * Resolves the image resource and fills the cache.
+     */
+    @Setup
+    public void setUp() {
+        FxPlatform.start();
+        resourcePath = IMAGE_LOCATION + imageName;
+        url = ImageLoadingBenchmark.class.getResource(resourcePath).toExternalForm();
+        ImageCache.getShared().getScaledToHeight(resourcePath, imageHeight);
+    }
+
+    /**
+     * Decodes and scales the image.
+     *
+     * @return The decoded image.
+     */
+    @Benchmark
+    public Image decode() {
+        return new Image(url, 0, imageHeight, true, true);
+    }
+
+    /**
+     * Retrieves the already decoded image from the shared cache.
+     *
+     * @return The cached image.
+     */
+    @Benchmark
+    public Image cached() {
+        return ImageCache.getShared().getScaledToHeight(resourcePath, imageHeight);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.ProjectilePools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures firing a projectile: constructing a new node against taking one from its pool.
+ * The pooled variant also destroys and recycles the projectile, as LevelParent does once it
+ * has been removed from the scene, so the pool never runs dry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS_GLASS, FxPlatform.HEADLESS_MONOCLE,
+        FxPlatform.HEADLESS_PRISM, FxPlatform.HEADLESS_AWT})
+@State(Scope.Thread)
+public class ProjectileCreationBenchmark {
+
+    /**
+     * Starts the toolkit and decodes the projectile image once, so both variants start warm.
+     */
+    @Setup
+    public void setUp() {
+        FxPlatform.start();
+        new EnemyProjectile(0, 0);
+    }
+
+    /**
+     * Creates a projectile with its constructor.
+     *
+     * @return The new projectile.
+     */
+    @Benchmark
+    public EnemyProjectile allocate() {
+        return new EnemyProjectile(900, 300);
+    }
+
+    /**
+     * Takes a projectile from the enemy pool and returns it.
+     *
+     * @return The pooled projectile.
+     */
+    @Benchmark
+    public EnemyProjectile pooled() {
+        EnemyProjectile projectile = ProjectilePools.enemyProjectile(900, 300);
+        projectile.destroy();
+        projectile.recycle();
+        return projectile;
+    }
+}
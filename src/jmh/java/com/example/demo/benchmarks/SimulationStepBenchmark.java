@@ -0,0 +1,73 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.simulation.GameOutcome;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.simulation.TickInput;
+import com.example.demo.simulation.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete step of the headless World simulation, which runs the same phases as
+ * LevelParent without a scene graph. The player holds the fire key; when a level ends a new
+ * world is started with the next seed, so the measurement covers whole playthroughs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationStepBenchmark {
+
+    // Playfield size used by the game
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    // Level to simulate
+    @Param({"LevelOne", "LevelTwo", "LevelBoss"})
+    public String levelName;
+
+    private final TickInput input = new TickInput(false, false, true);
+    private LevelRules rules;
+    private World world;
+    private long seed;
+
+    /**
+     * Selects the level rules and creates the first world.
+     */
+    @Setup
+    public void setUp() {
+        rules = switch (levelName) {
+            case "LevelOne" -> LevelRules.LEVEL_ONE;
+            case "LevelTwo" -> LevelRules.LEVEL_TWO;
+            default -> LevelRules.LEVEL_BOSS;
+        };
+        world = new World(rules, SCREEN_WIDTH, SCREEN_HEIGHT, seed);
+    }
+
+    /**
+     * Advances the simulation by one step.
+     *
+     * @return The outcome after the step.
+     */
+    @Benchmark
+    public GameOutcome step() {
+        GameOutcome outcome = world.step(input);
+        if (outcome != GameOutcome.RUNNING) {
+            world = new World(rules, SCREEN_WIDTH, SCREEN_HEIGHT, ++seed);
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.benchmarks.FxPlatform;
+import com.example.demo.projectiles.UserProjectile;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.SpatialHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures one collision pass of LevelParent: user projectiles against enemy planes.
+ * The grid variant calls LevelParent's own fillGrid and findCollisions, the code behind
+ * handleCollisions; the brute-force variant tests every pair, which is what the level did before
+ * the broadphase was added. Colliding pairs are counted instead of damaged, so every invocation
+ * sees the same actors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS_GLASS, FxPlatform.HEADLESS_MONOCLE,
+        FxPlatform.HEADLESS_PRISM, FxPlatform.HEADLESS_AWT})
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    // Playfield size used by the game
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    // Number of projectiles and of enemy planes on screen
+    @Param({"10", "100", "500"})
+    public int actorCount;
+
+    private final List<ActiveActorDestructible> projectiles = new ArrayList<>();
+    private final List<ActiveActorDestructible> enemies = new ArrayList<>();
+    private SpatialHash<ActiveActorDestructible> grid;
+
+    // Colliding pairs found by the current invocation
+    private int hits;
+    private final BiConsumer<ActiveActorDestructible, ActiveActorDestructible> countHit = (a, b) -> hits++;
+
+    /**
+     * Places the projectiles and enemies at fixed pseudo-random positions.
+     */
+    @Setup
+    public void setUp() {
+        FxPlatform.start();
+        GameRandom random = new GameRandom(42);
+        for (int i = 0; i < actorCount; i++) {
+            enemies.add(new EnemyPlane(random.nextDouble(SCREEN_WIDTH), random.nextDouble(SCREEN_HEIGHT), random));
+            projectiles.add(new UserProjectile(random.nextDouble(SCREEN_WIDTH), random.nextDouble(SCREEN_HEIGHT)));
+        }
+        grid = new SpatialHash<>(LevelParent.COLLISION_CELL_SIZE, SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    /**
+     * Tests every projectile against every enemy.
+     *
+     * @return The number of colliding pairs.
+     */
+    @Benchmark
+    public int bruteForce() {
+        hits = 0;
+        for (ActiveActorDestructible projectile : projectiles) {
+            for (ActiveActorDestructible enemy : enemies) {
+                if (projectile.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Indexes the enemies in the grid and queries it once per projectile.
+     *
+     * @return The number of colliding pairs.
+     */
+    @Benchmark
+    public int spatialHash() {
+        hits = 0;
+        LevelParent.fillGrid(grid, enemies);
+        LevelParent.findCollisions(projectiles, grid, countHit);
+        return hits;
+    }
+}
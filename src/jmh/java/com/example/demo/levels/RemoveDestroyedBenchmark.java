@@ -0,0 +1,112 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.benchmarks.FxPlatform;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.utils.GameRandom;
+import javafx.scene.Group;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures removing destroyed actors from an actor list and from the scene layers.
+ * removeDestroyedActors calls LevelParent's own removeDestroyedActors and removeCollectedFromScene,
+ * so it always measures the strategy the game uses. removeWithStreams keeps the previous strategy
+ * (stream into a list, then removeAll on the scene and the list) as a baseline.
+ * The list and the layer are refilled before every invocation, outside the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {FxPlatform.HEADLESS_GLASS, FxPlatform.HEADLESS_MONOCLE,
+        FxPlatform.HEADLESS_PRISM, FxPlatform.HEADLESS_AWT})
+@State(Scope.Thread)
+public class RemoveDestroyedBenchmark {
+
+    // Number of actors in the list and in the scene
+    @Param({"50", "500"})
+    public int actorCount;
+
+    // Every n-th actor is destroyed
+    @Param({"10", "2"})
+    public int destroyedEvery;
+
+    private final List<ActiveActorDestructible> allActors = new ArrayList<>();
+    private final List<ActiveActorDestructible> actors = new ArrayList<>();
+    private final Set<ActiveActorDestructible> removedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final SceneLayers layers = new SceneLayers(new Group());
+
+    /**
+     * Creates the actors and destroys every n-th one.
+     */
+    @Setup(Level.Trial)
+    public void createActors() {
+        FxPlatform.start();
+        GameRandom random = new GameRandom(42);
+        for (int i = 0; i < actorCount; i++) {
+            EnemyPlane enemy = new EnemyPlane(i, i, random);
+            if (i % destroyedEvery == 0) {
+                enemy.destroy();
+            }
+            allActors.add(enemy);
+        }
+    }
+
+    /**
+     * Restores the list and the planes layer before each invocation.
+     */
+    @Setup(Level.Invocation)
+    public void refill() {
+        actors.clear();
+        actors.addAll(allActors);
+        layers.get(Layer.PLANES).getChildren().setAll(allActors);
+    }
+
+    /**
+     * Removes the destroyed actors with LevelParent's code: one compaction pass over the list,
+     * then one batched removal from the scene through an identity set.
+     *
+     * @return The number of actors left.
+     */
+    @Benchmark
+    public int removeDestroyedActors() {
+        LevelParent.removeDestroyedActors(actors, removedActors);
+        LevelParent.removeCollectedFromScene(removedActors, layers);
+        return actors.size() + layers.get(Layer.PLANES).getChildren().size();
+    }
+
+    /**
+     * Removes the destroyed actors the way LevelParent did before the compaction pass.
+     *
+     * @return The number of actors left.
+     */
+    @Benchmark
+    public int removeWithStreams() {
+        List<ActiveActorDestructible> destroyedActors = actors.stream()
+                .filter(ActiveActorDestructible::isDestroyed)
+                .collect(Collectors.toList());
+        layers.get(Layer.PLANES).getChildren().removeAll(destroyedActors);
+        actors.removeAll(destroyedActors);
+        return actors.size() + layers.get(Layer.PLANES).getChildren().size();
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.demo.actors;
 
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import com.example.demo.utils.TextureAtlas;
+
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.transform.Translate;
 
 /**
  * Abstract class representing an active actor in the game.
@@ -11,32 +16,42 @@ import javafx.scene.image.ImageView;
  */
 public abstract class ActiveActor extends ImageView {
 
-    // Constant for the directory where actor images are stored
-    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
-
     // Constant for hitbox margin, reducing the size for collision detection
     private static final int HITBOX_MARGIN = 40;
 
+    // Visual-only offset used to interpolate the rendered position between simulation steps
+    private final Translate renderOffset = new Translate();
+
+    // Simulated position at the start of the current step, used as the interpolation origin
+    private double previousTranslateX;
+    private double previousTranslateY;
+
+    // Position the actor was rendered at in the previous frame, to tell whether it moved since
+    private double lastRenderX = Double.NaN;
+    private double lastRenderY = Double.NaN;
+
     /**
      * Constructor for ActiveActor. 
      * Initializes the actor's image, size, and starting position.
      *
-     * @param imageName    Name of the image file for the actor
-     * @param imageHeight  Height to scale the image to
+     * @param sprite       The actor's image and the height it is displayed at, as listed in {@link com.example.demo.utils.Sprites}
      * @param initialXPos  Initial X position of the actor on the screen
      * @param initialYPos  Initial Y position of the actor on the screen
      */
-    public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        // Set the actor's image using the utility method for loading images
-        this.setImage(loadImage(imageName));
+    public ActiveActor(ImageAsset sprite, double initialXPos, double initialYPos) {
+        // Show the actor's sprite from the shared texture atlas, decoded once per type at its display height
+        TextureAtlas.getShared().apply(this, sprite);
 
         // Set the actor's initial position on the screen
         this.setLayoutX(initialXPos);
         this.setLayoutY(initialYPos);
 
         // Scale the image while maintaining the aspect ratio
-        this.setFitHeight(imageHeight);
+        this.setFitHeight(sprite.height());
         this.setPreserveRatio(true);
+
+        // Attach the render offset; it stays at zero while the simulation runs
+        this.getTransforms().add(renderOffset);
     }
 
     /**
@@ -63,6 +78,102 @@ public abstract class ActiveActor extends ImageView {
         this.setTranslateY(getTranslateY() + verticalMove);
     }
 
+    /**
+     * Prepares the actor for a simulation step.
+     * Records the current position as the interpolation origin and removes any render offset,
+     * so that collision bounds always reflect the simulated position.
+     */
+    public void beginStep() {
+        previousTranslateX = getTranslateX();
+        previousTranslateY = getTranslateY();
+        renderOffset.setX(0);
+        renderOffset.setY(0);
+    }
+
+    /**
+     * Moves the actor back to its initial position and clears any interpolation state.
+     */
+    protected void resetPosition() {
+        setTranslateX(0);
+        setTranslateY(0);
+        beginStep(); // Start interpolating from the initial position
+    }
+
+    /**
+     * Positions the rendered image between the previous and the current simulated position.
+     * Like {@link #beginStep()}, it writes the offset every frame; the transform ignores a value it
+     * already holds, so an actor that stands still does not invalidate its node.
+     *
+     * @param alpha Fraction of a step elapsed since the last simulation step (0.0 to 1.0)
+     * @return True if the actor is rendered at a different position than in the previous frame
+     */
+    public boolean interpolatePosition(double alpha) {
+        double remaining = 1.0 - alpha;
+        double offsetX = (previousTranslateX - getTranslateX()) * remaining;
+        double offsetY = (previousTranslateY - getTranslateY()) * remaining;
+        renderOffset.setX(offsetX);
+        renderOffset.setY(offsetY);
+
+        // Compare with the previous frame, which also catches moves made by the simulation step
+        double renderX = getRenderX();
+        double renderY = getRenderY();
+        boolean moved = renderX != lastRenderX || renderY != lastRenderY;
+        lastRenderX = renderX;
+        lastRenderY = renderY;
+        return moved;
+    }
+
+    /**
+     * Retrieves the vertical render offset currently applied on top of the simulated position.
+     *
+     * @return The vertical render offset
+     */
+    protected double getRenderOffsetY() {
+        return renderOffset.getY();
+    }
+
+    /**
+     * Retrieves the X coordinate the actor is rendered at, including the interpolation offset.
+     *
+     * @return The rendered X position of the image's left edge
+     */
+    public double getRenderX() {
+        return getLayoutX() + getTranslateX() + renderOffset.getX();
+    }
+
+    /**
+     * Retrieves the Y coordinate the actor is rendered at, including the interpolation offset.
+     *
+     * @return The rendered Y position of the image's top edge
+     */
+    public double getRenderY() {
+        return getLayoutY() + getTranslateY() + renderOffset.getY();
+    }
+
+    /**
+     * Retrieves the height the actor's image is displayed at.
+     *
+     * @return The fit height, or the image's own height if none is set
+     */
+    public double getRenderHeight() {
+        if (getFitHeight() > 0) return getFitHeight();
+        return getViewport() != null ? getViewport().getHeight() : getImage().getHeight();
+    }
+
+    /**
+     * Retrieves the width the actor's image is displayed at, keeping its aspect ratio.
+     *
+     * @return The displayed width
+     */
+    public double getRenderWidth() {
+        Rectangle2D region = getViewport();
+        if (region != null) {
+            return region.getWidth() * getRenderHeight() / region.getHeight(); // Sprite packed in the atlas
+        }
+        Image image = getImage();
+        return image.getWidth() * getRenderHeight() / image.getHeight();
+    }
+
     /**
      * Calculates a reduced bounding box for collision detection.
      *
@@ -80,15 +191,4 @@ public abstract class ActiveActor extends ImageView {
             originalBounds.getHeight() - 2 * HITBOX_MARGIN // Reduce height
         );
     }
-
-    /**
-     * Loads an image for the actor from the specified location.
-     *
-     * @param imageName The name of the image file to load
-     * @return A {@link Image} object representing the actor's image
-     */
-    private Image loadImage(String imageName) {
-        // Create and return the image using the specified path
-        return new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm());
-    }
 }
@@ -1,6 +1,7 @@
 package com.example.demo.actors; // Declare package for actors
 
 import com.example.demo.Destructible; // Import Destructible interface
+import com.example.demo.utils.AssetManifest.ImageAsset; // Import the sprite description
 
 /**
  * Abstract class representing an active actor that can be destroyed.
@@ -15,13 +16,12 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
      * Constructor for ActiveActorDestructible.
      * Initializes the actor's image, position, and destruction state.
      *
-     * @param imageName    Name of the image file representing the actor
-     * @param imageHeight  Height of the image (will scale proportionally)
+     * @param sprite       The actor's image and the height it is displayed at
      * @param initialXPos  Initial X position of the actor on the screen
      * @param initialYPos  Initial Y position of the actor on the screen
      */
-    public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos); // Initialize superclass properties
+    public ActiveActorDestructible(ImageAsset sprite, double initialXPos, double initialYPos) {
+        super(sprite, initialXPos, initialYPos); // Initialize superclass properties
         isDestroyed = false; // Initialize the destroyed flag as false
     }
 
@@ -1,7 +1,12 @@
 package com.example.demo.actors;
 
+import com.example.demo.events.DamageEvent;
+import com.example.demo.events.GameEventBus;
 import com.example.demo.levels.LevelBoss;
-import com.example.demo.projectiles.BossProjectile;
+import com.example.demo.projectiles.ProjectilePools;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.Sprites;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
@@ -14,17 +19,14 @@ import com.example.demo.ui.ShieldImage;
  */
 public class Boss extends FighterPlane {
 
-    // Image file name for the boss plane
-    private static final String IMAGE_NAME = "bossplane.png";
-
     // Initial position of the boss plane
-    private static final double INITIAL_X_POSITION = 1000.0; // Starting X position
-    private static final double INITIAL_Y_POSITION = 400.0;  // Starting Y position
+    private static final double INITIAL_X_POSITION = ActorRules.BOSS_INITIAL_X; // Starting X position
+    private static final double INITIAL_Y_POSITION = ActorRules.BOSS_INITIAL_Y; // Starting Y position
 
     // Visual and gameplay parameters for the boss plane
-    private static final int IMAGE_HEIGHT = 300; // Height of the boss plane's image
-    private static final int VERTICAL_VELOCITY = 8; // Speed of vertical movement
+    private static final int VERTICAL_VELOCITY = ActorRules.BOSS_VERTICAL_VELOCITY; // Speed of vertical movement
     private static final int HEALTH = 50; // Initial health of the boss plane
+    private static final double FIRE_RATE = ActorRules.BOSS_FIRE_RATE; // Probability of firing a projectile each frame
     private static final boolean DEBUG_HITBOXES = true; // Enable or disable hitbox visualization
 
     // Dynamic movement boundaries based on the game screen
@@ -34,27 +36,57 @@ public class Boss extends FighterPlane {
     // Reference to the LevelBoss instance
     private final LevelBoss levelBoss;
 
+    // Bus on which health changes are posted (null without a level), and the event reused for them
+    private final GameEventBus eventBus;
+    private final DamageEvent damageEvent = new DamageEvent();
+
     // Manager for the boss's shield
     private final ShieldManager shieldManager;
 
     // Manager for the boss's movement pattern
     private final MovementPattern movementPattern;
 
+    // Source of randomness for firing, shields and movement
+    private final GameRandom random;
+
     /**
-     * Constructs a new Boss instance.
+     * Constructs a new Boss instance whose random source is derived from the game seed.
      *
      * @param levelBoss The level containing this boss.
      * @param screenHeight The height of the game screen.
      */
     public Boss(LevelBoss levelBoss, double screenHeight) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH); // Initialize parent class
+        this(levelBoss, screenHeight, GameRandom.forLevel(Boss.class.getSimpleName()));
+    }
+
+    /**
+     * Constructs a new Boss instance.
+     *
+     * @param levelBoss The level containing this boss.
+     * @param screenHeight The height of the game screen.
+     * @param random The level's source of randomness.
+     */
+    public Boss(LevelBoss levelBoss, double screenHeight, GameRandom random) {
+        super(Sprites.BOSS, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH); // Initialize parent class
         this.levelBoss = levelBoss; // Set reference to the level
-        this.shieldManager = new ShieldManager(levelBoss); // Initialize shield manager
-        this.movementPattern = new MovementPattern(VERTICAL_VELOCITY, 5, 10); // Initialize movement pattern manager
+        this.random = random; // Share the level's random source
+        this.eventBus = levelBoss != null ? levelBoss.getEventBus() : null; // Report health and shield changes to the level
+        this.shieldManager = new ShieldManager(eventBus, random); // Initialize shield manager
+        this.movementPattern = new MovementPattern(VERTICAL_VELOCITY, 5, 10, random); // Initialize movement pattern manager
 
         // Dynamically calculate movement boundaries
         this.Y_POSITION_UPPER_BOUND = 0; // Top of the screen
-        this.Y_POSITION_LOWER_BOUND = screenHeight - IMAGE_HEIGHT; // Bottom of the screen, adjusted for boss size
+        this.Y_POSITION_LOWER_BOUND = screenHeight - Sprites.BOSS.height(); // Bottom of the screen, adjusted for boss size
+    }
+
+    /**
+     * Prepares the boss for a restarted level: full health, initial position, shield down and
+     * a movement pattern shuffled again from the level's (reseeded) random source.
+     */
+    public void reset() {
+        restore(HEALTH);
+        shieldManager.reset();
+        movementPattern.reset(random);
     }
 
     /**
@@ -88,11 +120,26 @@ public class Boss extends FighterPlane {
             ShieldImage shieldImage = levelBoss.getLevelViewBoss().getShieldImage(); // Get the shield image
             if (shieldImage != null) {
                 shieldImage.setLayoutX(getLayoutX() + 30); // Position shield horizontally relative to the boss
-                shieldImage.setLayoutY(getLayoutY() + getTranslateY() - 50); // Position shield vertically relative to the boss
+                shieldImage.setLayoutY(getLayoutY() + getTranslateY() + getRenderOffsetY() - 50); // Position shield vertically relative to the rendered boss
             }
         }
     }
 
+    /**
+     * Interpolates the rendered position of the boss and keeps the shield attached to it.
+     *
+     * @param alpha Fraction of a step elapsed since the last simulation step.
+     * @return True if the boss is rendered at a different position than in the previous frame.
+     */
+    @Override
+    public boolean interpolatePosition(double alpha) {
+        boolean moved = super.interpolatePosition(alpha);
+        if (moved) {
+            synchronizeShieldPosition(); // Follow the interpolated position, not the simulated one
+        }
+        return moved;
+    }
+
     /**
      * Updates the boss, including movement and shield logic.
      */
@@ -105,13 +152,13 @@ public class Boss extends FighterPlane {
     /**
      * Fires a projectile if the fire condition is met.
      *
-     * @return A new BossProjectile or null if no projectile is fired.
+     * @return A BossProjectile taken from the pool, or null if no projectile is fired.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
         // Fire a projectile with a 4% chance per frame
-        if (Math.random() < 0.04) {
-            return new BossProjectile(getLayoutY() + getTranslateY()); // Create and return the projectile
+        if (random.chance(FIRE_RATE)) {
+            return ProjectilePools.bossProjectile(getLayoutY() + getTranslateY()); // Take a projectile from the pool
         }
         return null; // Return null if no projectile is fired
     }
@@ -123,7 +170,9 @@ public class Boss extends FighterPlane {
     public void takeDamage() {
         if (!shieldManager.isShieldActive()) { // Check if shield is inactive
             super.takeDamage(); // Reduce health using the parent class method
-            levelBoss.updateBossHealthDisplay(getHealth()); // Notify LevelBoss to update the health display
+            if (eventBus != null) {
+                eventBus.post(damageEvent.set(this, getHealth())); // Let the level update the health display
+            }
         }
     }
 
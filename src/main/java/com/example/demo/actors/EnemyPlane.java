@@ -1,7 +1,10 @@
 package com.example.demo.actors;
 
-import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.ProjectilePools;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.GameRandom;
 import com.example.demo.utils.HitboxRenderer;
+import com.example.demo.utils.Sprites;
 
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
@@ -14,24 +17,26 @@ import javafx.scene.Group;
 public class EnemyPlane extends FighterPlane {
 
     // Constants for configuring the enemy plane
-    private static final String IMAGE_NAME = "enemyplane.png"; // File name for the enemy plane's image
-    private static final int IMAGE_HEIGHT = 150; // Height of the image for scaling
-    private static final int HORIZONTAL_VELOCITY = -6; // Speed of horizontal movement
-    private static final double PROJECTILE_X_POSITION_OFFSET = -100.0; // X offset for projectile spawn
-    private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;   // Y offset for projectile spawn
+    private static final int HORIZONTAL_VELOCITY = ActorRules.ENEMY_HORIZONTAL_VELOCITY; // Speed of horizontal movement
+    private static final double PROJECTILE_X_POSITION_OFFSET = ActorRules.ENEMY_PROJECTILE_X_OFFSET; // X offset for projectile spawn
+    private static final double PROJECTILE_Y_POSITION_OFFSET = ActorRules.ENEMY_PROJECTILE_Y_OFFSET; // Y offset for projectile spawn
     private static final int INITIAL_HEALTH = 1; // Initial health of the enemy plane
-    private static final double FIRE_RATE = 0.04; // Probability of firing a projectile each frame
+    private static final double FIRE_RATE = ActorRules.ENEMY_FIRE_RATE; // Probability of firing a projectile each frame
     private static final boolean DEBUG_HITBOXES = true; // Debug flag to control hitbox rendering
 
+    private final GameRandom random; // The level's source of randomness, used to decide when to fire
+
     /**
      * Constructor for EnemyPlane.
      *
      * @param initialXPos The initial X position of the enemy plane.
      * @param initialYPos The initial Y position of the enemy plane.
+     * @param random      The level's source of randomness.
      */
-    public EnemyPlane(double initialXPos, double initialYPos) {
+    public EnemyPlane(double initialXPos, double initialYPos, GameRandom random) {
         // Call the parent class constructor with the necessary parameters
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        super(Sprites.ENEMY_PLANE, initialXPos, initialYPos, INITIAL_HEALTH);
+        this.random = random;
     }
 
     /**
@@ -46,16 +51,16 @@ public class EnemyPlane extends FighterPlane {
     /**
      * Fires a projectile from the enemy plane with a certain probability.
      *
-     * @return A new EnemyProjectile instance if fired, otherwise null.
+     * @return An EnemyProjectile taken from the pool if fired, otherwise null.
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        if (Math.random() < FIRE_RATE) { // Check if a random chance allows firing
+        if (random.chance(FIRE_RATE)) { // Check if a random chance allows firing
             // Calculate the position for the projectile
             double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            // Return a new projectile created at the calculated position
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            // Return a projectile placed at the calculated position
+            return ProjectilePools.enemyProjectile(projectileXPosition, projectileYPosition);
         }
         return null; // Return null if no projectile is fired
     }
@@ -1,5 +1,8 @@
 package com.example.demo.actors;
 
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import com.example.demo.utils.GameLogger;
+
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
@@ -19,18 +22,20 @@ public abstract class FighterPlane extends ActiveActorDestructible {
     // Debug flag to enable or disable hitbox visualization
     private static final boolean DEBUG_HITBOXES = true;
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(FighterPlane.class);
+
     /**
      * Constructor for FighterPlane.
      * Initializes the plane's image, position, and health.
      *
-     * @param imageName    Name of the image file representing the fighter plane.
-     * @param imageHeight  Height of the fighter plane's image.
+     * @param sprite       The fighter plane's image and the height it is displayed at.
      * @param initialXPos  Initial X position of the fighter plane.
      * @param initialYPos  Initial Y position of the fighter plane.
      * @param health       Initial health of the fighter plane.
      */
-    public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
-        super(imageName, imageHeight, initialXPos, initialYPos); // Call the parent class constructor
+    public FighterPlane(ImageAsset sprite, double initialXPos, double initialYPos, int health) {
+        super(sprite, initialXPos, initialYPos); // Call the parent class constructor
         this.health = health; // Set the initial health
     }
 
@@ -49,13 +54,26 @@ public abstract class FighterPlane extends ActiveActorDestructible {
     @Override
     public void takeDamage() {
         health--; // Decrease health by 1
-        System.out.println("FighterPlane took damage. Current health: " + health);
+        if (LOG.isDebugEnabled()) { // The message captures the health, so only build it when it is logged
+            LOG.debug(() -> "FighterPlane took damage. Current health: " + health);
+        }
         if (health <= 0) { // Check if health is zero or less
             this.destroy(); // Destroy the plane
-            System.out.println("FighterPlane destroyed.");
+            LOG.debug(() -> "FighterPlane destroyed.");
         }
     }
 
+    /**
+     * Restores the plane to full health at its initial position, undoing any destruction.
+     *
+     * @param health The health to restore.
+     */
+    protected void restore(int health) {
+        this.health = health;
+        setDestroyed(false);
+        resetPosition();
+    }
+
     /**
      * Retrieves the current health of the fighter plane.
      *
@@ -1,7 +1,8 @@
 package com.example.demo.actors;
 
+import com.example.demo.utils.GameRandom;
+
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,6 +11,8 @@ import java.util.List;
 public class MovementPattern {
 
     private final List<Integer> pattern; // The movement pattern
+    private final int velocity; // Vertical velocity of the moves
+    private final int cycles; // Number of up, down and stationary cycles in the pattern
     private final int maxConsecutiveFrames; // Maximum frames for the same move
     private int consecutiveFrames; // Tracks consecutive frames with the same move
     private int currentIndex; // Current index in the movement pattern
@@ -20,13 +23,29 @@ public class MovementPattern {
      * @param velocity Vertical velocity of the boss.
      * @param cycles Number of movement cycles to generate.
      * @param maxConsecutiveFrames Maximum allowed consecutive frames for a single move.
+     * @param random Source of randomness used to shuffle the pattern.
      */
-    public MovementPattern(int velocity, int cycles, int maxConsecutiveFrames) {
+    public MovementPattern(int velocity, int cycles, int maxConsecutiveFrames, GameRandom random) {
         this.pattern = new ArrayList<>();
+        this.velocity = velocity;
+        this.cycles = cycles;
         this.maxConsecutiveFrames = maxConsecutiveFrames;
         this.consecutiveFrames = 0;
         this.currentIndex = 0;
-        initializePattern(velocity, cycles);
+        initializePattern(velocity, cycles, random);
+    }
+
+    /**
+     * Rebuilds the pattern from the start, shuffled with the given random source.
+     * With a freshly reseeded source the result equals the pattern of a new instance.
+     *
+     * @param random Source of randomness used to shuffle the pattern.
+     */
+    public void reset(GameRandom random) {
+        pattern.clear();
+        consecutiveFrames = 0;
+        currentIndex = 0;
+        initializePattern(velocity, cycles, random);
     }
 
     /**
@@ -34,14 +53,15 @@ public class MovementPattern {
      *
      * @param velocity Vertical velocity of the boss.
      * @param cycles Number of movement cycles.
+     * @param random Source of randomness used to shuffle the pattern.
      */
-    private void initializePattern(int velocity, int cycles) {
+    private void initializePattern(int velocity, int cycles, GameRandom random) {
         for (int i = 0; i < cycles; i++) {
             pattern.add(velocity); // Move up
             pattern.add(-velocity); // Move down
             pattern.add(0); // Stationary (optional, reduce frequency if needed)
         }
-        Collections.shuffle(pattern); // Shuffle the pattern for randomness
+        random.shuffle(pattern); // Shuffle the pattern for randomness
     }
 
     /**
@@ -1,25 +1,32 @@
 package com.example.demo.actors;
 
-import com.example.demo.levels.LevelBoss;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.ShieldToggleEvent;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.GameRandom;
 
 /**
  * Manages the shield state for the boss, including activation and deactivation logic.
  */
 public class ShieldManager {
 
-    private static final int MAX_FRAMES_WITH_SHIELD = 300; // Maximum duration of the shield
-    private static final double SHIELD_ACTIVATION_PROBABILITY = 0.01; // Probability of activation per frame
+    private static final int MAX_FRAMES_WITH_SHIELD = ActorRules.MAX_FRAMES_WITH_SHIELD; // Maximum duration of the shield
+    private static final double SHIELD_ACTIVATION_PROBABILITY = ActorRules.SHIELD_ACTIVATION_PROBABILITY; // Probability of activation per frame
     private boolean isActive; // Indicates if the shield is currently active
     private int activeFrames; // Tracks the duration of shield activation
-    private final LevelBoss levelBoss; // Reference to the level for shield updates
+    private final GameEventBus eventBus; // Bus on which shield changes are posted, or null
+    private final ShieldToggleEvent toggleEvent = new ShieldToggleEvent(); // Reused for every change
+    private final GameRandom random; // Source of randomness for shield activation
 
     /**
      * Constructor for the ShieldManager class.
      *
-     * @param levelBoss The level associated with the boss.
+     * @param eventBus The bus on which shield changes are posted, or null if nobody listens.
+     * @param random   Source of randomness for shield activation.
      */
-    public ShieldManager(LevelBoss levelBoss) {
-        this.levelBoss = levelBoss;
+    public ShieldManager(GameEventBus eventBus, GameRandom random) {
+        this.eventBus = eventBus;
+        this.random = random;
         this.isActive = false;
         this.activeFrames = 0;
     }
@@ -44,7 +51,7 @@ public class ShieldManager {
      * @return True if the shield should activate, otherwise false.
      */
     private boolean shouldActivateShield() {
-        return Math.random() < SHIELD_ACTIVATION_PROBABILITY;
+        return random.chance(SHIELD_ACTIVATION_PROBABILITY);
     }
 
     /**
@@ -53,7 +60,7 @@ public class ShieldManager {
     private void activateShield() {
         isActive = true;
         activeFrames = 0; // Reset active duration
-        levelBoss.updateShieldState(); // Notify level to update visuals
+        postToggle(); // Let the level show the shield
     }
 
     /**
@@ -61,7 +68,25 @@ public class ShieldManager {
      */
     private void deactivateShield() {
         isActive = false;
-        levelBoss.updateShieldState(); // Notify level to hide visuals
+        postToggle(); // Let the level hide the shield
+    }
+
+    /**
+     * Posts the new shield state to the event bus, if there is one.
+     */
+    private void postToggle() {
+        if (eventBus != null) {
+            eventBus.post(toggleEvent.set(isActive));
+        }
+    }
+
+    /**
+     * Lowers the shield without an event and forgets how long it was up.
+     * The level resets its shield display itself.
+     */
+    public void reset() {
+        isActive = false;
+        activeFrames = 0;
     }
 
     /**
@@ -2,7 +2,10 @@ package com.example.demo.actors;
 
 import com.example.demo.projectiles.ProjectileFiringBehavior;
 import com.example.demo.projectiles.DefaultProjectileFiringBehavior;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.GameLogger;
 import com.example.demo.utils.KillCountTracker;
+import com.example.demo.utils.Sprites;
 import com.example.demo.utils.HitboxRenderer;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
@@ -15,15 +18,16 @@ import javafx.scene.Group;
 public class UserPlane extends FighterPlane {
 
     // Constants for the user plane's configuration
-    private static final String IMAGE_NAME = "userplane.png"; // Image file name for the user plane
-    private static final double Y_UPPER_BOUND = -40;         // Movement upper boundary
-    private static final double Y_LOWER_BOUND = 600.0;       // Movement lower boundary
-    private static final double INITIAL_X_POSITION = 5.0;    // Initial X position
-    private static final double INITIAL_Y_POSITION = 300.0;  // Initial Y position
-    private static final int IMAGE_HEIGHT = 150;             // Height of the plane's image
-    private static final int VERTICAL_VELOCITY = 8;         // Speed of vertical movement
+    private static final double Y_UPPER_BOUND = ActorRules.USER_Y_UPPER_BOUND; // Movement upper boundary
+    private static final double Y_LOWER_BOUND = ActorRules.USER_Y_LOWER_BOUND; // Movement lower boundary
+    private static final double INITIAL_X_POSITION = ActorRules.USER_INITIAL_X; // Initial X position
+    private static final double INITIAL_Y_POSITION = ActorRules.USER_INITIAL_Y; // Initial Y position
+    private static final int VERTICAL_VELOCITY = ActorRules.USER_VERTICAL_VELOCITY; // Speed of vertical movement
     private static final boolean DEBUG_HITBOXES = true;      // Enable/disable hitbox visualization
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(UserPlane.class);
+
     // Instance variables for plane behavior and tracking
     private int velocityMultiplier;                          // -1 for up, 1 for down, 0 for stationary
     private final KillCountTracker killCountTracker;         // Tracks the number of kills
@@ -36,7 +40,7 @@ public class UserPlane extends FighterPlane {
      * @param initialHealth The starting health of the user plane.
      */
     public UserPlane(int initialHealth) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+        super(Sprites.USER_PLANE, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
         this.velocityMultiplier = 0; // Initialize as stationary
         this.killCountTracker = new KillCountTracker();
 
@@ -65,7 +69,9 @@ public class UserPlane extends FighterPlane {
             }
 
             setTranslateY(newTranslateY); // Update translateY
-            System.out.println("UserPlane - Updated translateY: " + newTranslateY); // Debug log
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(() -> "UserPlane - Updated translateY: " + getTranslateY()); // Debug log
+            }
         }
     }
 
@@ -74,19 +80,13 @@ public class UserPlane extends FighterPlane {
      */
     @Override
     public void updateActor() {
-        updatePosition();
-
-        // Explicitly ensure the layout is updated for JavaFX rendering
-        setTranslateY(getTranslateY());
+        updatePosition(); // The translate properties mark the plane dirty only when it moves
 
-        // Trigger a visual refresh
-        this.setManaged(false); // Ensure it's not relying on container layout
-        this.setVisible(false); // Temporarily hide to force refresh
-        this.setVisible(true);  // Show it again
-
-        // Debugging output
-        System.out.println("UserPlane Position: X=" + (getLayoutX() + getTranslateX()) +
-                           ", Y=" + (getLayoutY() + getTranslateY()));
+        // Debugging output, skipped entirely unless debug logging is enabled
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(() -> "UserPlane Position: X=" + (getLayoutX() + getTranslateX()) +
+                            ", Y=" + (getLayoutY() + getTranslateY()));
+        }
     }
 
 
@@ -98,7 +98,7 @@ public class UserPlane extends FighterPlane {
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        double currentX = getLayoutX() + getTranslateX() + 110; // Adjust offset for alignment
+        double currentX = getLayoutX() + getTranslateX() + ActorRules.USER_PROJECTILE_X_OFFSET; // Adjust offset for alignment
         double currentY = getLayoutY() + getTranslateY();       // Sync with updated Y position
         return projectileFiringBehavior.fireProjectile(currentX, currentY);
     }
@@ -117,7 +117,7 @@ public class UserPlane extends FighterPlane {
      */
     public void moveUp() {
         velocityMultiplier = -1; // Set velocity multiplier for upward movement
-        System.out.println("UserPlane - Move Up initiated.");
+        LOG.debug(() -> "UserPlane - Move Up initiated.");
     }
 
     /**
@@ -125,7 +125,7 @@ public class UserPlane extends FighterPlane {
      */
     public void moveDown() {
         velocityMultiplier = 1; // Set velocity multiplier for downward movement
-        System.out.println("UserPlane - Move Down initiated.");
+        LOG.debug(() -> "UserPlane - Move Down initiated.");
     }
 
     /**
@@ -133,7 +133,7 @@ public class UserPlane extends FighterPlane {
      */
     public void stop() {
         velocityMultiplier = 0; // Set velocity multiplier to zero to stop movement
-        System.out.println("UserPlane - Movement stopped.");
+        LOG.debug(() -> "UserPlane - Movement stopped.");
     }
 
     /**
@@ -159,6 +159,17 @@ public class UserPlane extends FighterPlane {
         killCountTracker.resetKillCount(); // Delegate to KillCountTracker
     }
 
+    /**
+     * Prepares the plane for a restarted level: full health, initial position, no movement and no kills.
+     *
+     * @param health The health to start with.
+     */
+    public void reset(int health) {
+        restore(health);
+        velocityMultiplier = 0;
+        killCountTracker.resetKillCount();
+    }
+
     /**
      * Retrieves the reduced bounds for collision detection.
      * This reduces the effective hitbox of the user plane for better gameplay experience.
@@ -186,7 +197,9 @@ public class UserPlane extends FighterPlane {
     public void renderHitbox(Group root) {
         if (DEBUG_HITBOXES) {
             HitboxRenderer.renderHitbox(getReducedBounds(), root);
-            System.out.println("Rendering hitbox at: " + getReducedBounds());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(() -> "Rendering hitbox at: " + getReducedBounds());
+            }
         }
     }
 
@@ -0,0 +1,310 @@
+package com.example.demo.audio;
+
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.MediaCache;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * MusicService owns the game's background music across menus, levels and restarts.
+ * It keeps one MediaPlayer per track that is audible, opens tracks through the shared
+ * {@link MediaCache}, and crossfades when the track changes. Asking for the track that is already
+ * playing keeps it playing, so level transitions and restarts with the same music neither reload
+ * nor restart it. A player is disposed as soon as it has faded out, so native players never pile up.
+ *
+ * All methods must be called on the JavaFX application thread.
+ *
+ * Setting the system property {@code game.mute} to true starts the shared service muted, as it does
+ * for {@link SoundEffects}; a muted service creates no players, so it also works without an audio device.
+ */
+public final class MusicService {
+
+    // Logger for track changes
+    private static final GameLogger LOG = GameLogger.getLogger(MusicService.class);
+
+    // Default duration of crossfades and fade-outs
+    private static final Duration DEFAULT_FADE = Duration.millis(800);
+
+    // Service shared by the whole game
+    private static final MusicService SHARED = new MusicService();
+
+    // Opens a player for a track
+    private final Function<String, MediaPlayer> playerFactory;
+
+    // Live players by track, including ones that are fading out
+    private final Map<String, MediaPlayer> players = new HashMap<>();
+
+    // Running volume fades by player
+    private final Map<MediaPlayer, Timeline> fades = new HashMap<>();
+
+    // Track that is playing or fading in, or null
+    private String currentTrack;
+
+    // Music volume between 0 and 1
+    private double volume = 1.0;
+
+    // Whether music is played at all
+    private boolean muted = Boolean.getBoolean("game.mute");
+
+    /**
+     * Constructor for MusicService. Most code should use the shared service from {@link #getShared()}.
+     */
+    public MusicService() {
+        this(MusicService::createPlayer);
+    }
+
+    /**
+     * Constructor for MusicService with its own way of opening players, e.g. for tests without an audio device.
+     *
+     * @param playerFactory Opens a player for a track.
+     */
+    MusicService(Function<String, MediaPlayer> playerFactory) {
+        this.playerFactory = playerFactory;
+    }
+
+    /**
+     * Retrieves the service shared by the whole game.
+     *
+     * @return The shared music service.
+     */
+    public static MusicService getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Plays a track in a loop, crossfading from the current one.
+     *
+     * @param track The classpath location of the track.
+     * @return The player of the track, or null if music is muted or the track cannot be played.
+     * @throws IllegalArgumentException if the track does not exist.
+     */
+    public MediaPlayer play(String track) {
+        return play(track, DEFAULT_FADE);
+    }
+
+    /**
+     * Plays a track in a loop, crossfading from the current one over the given duration.
+     * If the track is already the current one it simply keeps playing.
+     * A track that cannot be played, e.g. without an audio device, is logged and leaves the music as it was.
+     *
+     * @param track     The classpath location of the track.
+     * @param crossfade Duration of the crossfade.
+     * @return The player of the track, or null if music is muted or the track cannot be played.
+     * @throws IllegalArgumentException if the track does not exist.
+     */
+    public MediaPlayer play(String track, Duration crossfade) {
+        if (muted) return null;
+        MediaPlayer player = players.get(track);
+        if (track.equals(currentTrack) && player != null && player.getStatus() == MediaPlayer.Status.PLAYING) {
+            return player; // Already playing; keep going without a restart
+        }
+
+        if (player == null) {
+            try {
+                player = playerFactory.apply(track);
+            } catch (MediaException e) {
+                LOG.error("Could not play music " + track, e);
+                return null;
+            }
+            players.put(track, player);
+        }
+        if (currentTrack != null && !currentTrack.equals(track)) {
+            fadeOutAndDispose(currentTrack, crossfade);
+        }
+        LOG.debug(() -> "Playing music " + track);
+        currentTrack = track;
+        player.play();
+        fade(player, volume, crossfade, null);
+        return player;
+    }
+
+    /**
+     * Fades out the current track and disposes its player.
+     */
+    public void stop() {
+        stop(DEFAULT_FADE);
+    }
+
+    /**
+     * Fades out the current track over the given duration and disposes its player.
+     *
+     * @param fadeOut Duration of the fade-out.
+     */
+    public void stop(Duration fadeOut) {
+        if (currentTrack != null) {
+            fadeOutAndDispose(currentTrack, fadeOut);
+            currentTrack = null;
+        }
+    }
+
+    /**
+     * Pauses the current track without fading, e.g. while the game is paused.
+     */
+    public void pause() {
+        MediaPlayer player = currentPlayer();
+        if (player != null) {
+            player.pause();
+        }
+    }
+
+    /**
+     * Resumes the current track after {@link #pause()}.
+     */
+    public void resume() {
+        MediaPlayer player = currentPlayer();
+        if (player != null) {
+            player.play();
+        }
+    }
+
+    /**
+     * Sets the music volume, applied to the current track immediately.
+     *
+     * @param volume The volume between 0 and 1.
+     */
+    public void setVolume(double volume) {
+        this.volume = Math.max(0, Math.min(1, volume));
+        MediaPlayer player = currentPlayer();
+        if (player != null && !fades.containsKey(player)) {
+            player.setVolume(this.volume);
+        }
+    }
+
+    /**
+     * Retrieves the music volume.
+     *
+     * @return The volume between 0 and 1.
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Mutes or unmutes the music. Muting stops the current track at once and disposes every player.
+     *
+     * @param muted True to mute.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (muted) {
+            shutdown();
+        }
+    }
+
+    /**
+     * Checks if the music is muted.
+     *
+     * @return True if muted, otherwise false.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Retrieves the track that is playing.
+     *
+     * @return The classpath location of the track, or null if no music plays.
+     */
+    public String getCurrentTrack() {
+        return currentTrack;
+    }
+
+    /**
+     * Retrieves the number of live players, including ones that are fading out.
+     *
+     * @return The player count.
+     */
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    /**
+     * Stops and disposes every player immediately, e.g. when the application exits.
+     */
+    public void shutdown() {
+        for (Timeline timeline : fades.values()) {
+            timeline.stop();
+        }
+        fades.clear();
+        for (MediaPlayer player : players.values()) {
+            player.stop();
+            player.dispose();
+        }
+        players.clear();
+        currentTrack = null;
+    }
+
+    /**
+     * Retrieves the player of the current track.
+     *
+     * @return The player, or null if no music plays.
+     */
+    private MediaPlayer currentPlayer() {
+        return currentTrack == null ? null : players.get(currentTrack);
+    }
+
+    /**
+     * Creates a silent, looping player for a track.
+     *
+     * @param track The classpath location of the track.
+     * @return The new player.
+     */
+    private static MediaPlayer createPlayer(String track) {
+        MediaPlayer player = new MediaPlayer(MediaCache.getShared().get(track));
+        player.setCycleCount(MediaPlayer.INDEFINITE);
+        player.setVolume(0);
+        return player;
+    }
+
+    /**
+     * Fades a track out and disposes its player once it is silent.
+     * Playing the track again before that cancels the fade and keeps the player.
+     *
+     * @param track    The track to fade out.
+     * @param duration Duration of the fade.
+     */
+    private void fadeOutAndDispose(String track, Duration duration) {
+        MediaPlayer player = players.get(track);
+        if (player == null) return;
+        fade(player, 0, duration, () -> {
+            player.stop();
+            player.dispose();
+            players.remove(track, player);
+        });
+    }
+
+    /**
+     * Fades the volume of a player to a target, replacing any fade already running on it.
+     *
+     * @param player   The player.
+     * @param target   The target volume.
+     * @param duration Duration of the fade; zero applies the target at once.
+     * @param onDone   Action to run when the fade completes, or null.
+     */
+    private void fade(MediaPlayer player, double target, Duration duration, Runnable onDone) {
+        Timeline running = fades.remove(player);
+        if (running != null) {
+            running.stop(); // A stopped timeline does not run its completion action
+        }
+        if (duration.toMillis() <= 0) {
+            player.setVolume(target);
+            if (onDone != null) onDone.run();
+            return;
+        }
+        Timeline timeline = new Timeline(new KeyFrame(duration, new KeyValue(player.volumeProperty(), target)));
+        timeline.setOnFinished(event -> {
+            fades.remove(player);
+            if (onDone != null) onDone.run();
+        });
+        fades.put(player, timeline);
+        timeline.play();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.audio;
+
+/**
+ * SoundEffect lists the short clips played by the {@link SoundEffects} mixer, with how each
+ * one competes for voices.
+ */
+public enum SoundEffect {
+
+    // Menu button feedback
+    CLICK("/com/example/demo/sounds/button_click.wav", 0.8, 2, 3),
+
+    // Advancing to the next level
+    LEVEL_UP("/com/example/demo/sounds/levelup.wav", 0.9, 1, 4),
+
+    // The player firing a projectile
+    SHOT("/com/example/demo/sounds/shot.wav", 0.35, 3, 0),
+
+    // A projectile hitting a plane without destroying it
+    HIT("/com/example/demo/sounds/hit.wav", 0.6, 3, 1),
+
+    // A plane being destroyed
+    EXPLOSION("/com/example/demo/sounds/explosion.wav", 0.7, 2, 2);
+
+    // Classpath location of the clip
+    private final String resourcePath;
+
+    // Playback volume between 0 and 1
+    private final double volume;
+
+    // Maximum number of instances of this clip playing at once
+    private final int maxVoices;
+
+    // Importance when voices run out; higher priorities may take the voices of lower ones
+    private final int priority;
+
+    /**
+     * Constructor for SoundEffect.
+     *
+     * @param resourcePath The classpath location of the clip.
+     * @param volume       Playback volume between 0 and 1.
+     * @param maxVoices    Maximum number of simultaneous instances.
+     * @param priority     Importance when voices run out.
+     */
+    SoundEffect(String resourcePath, double volume, int maxVoices, int priority) {
+        this.resourcePath = resourcePath;
+        this.volume = volume;
+        this.maxVoices = maxVoices;
+        this.priority = priority;
+    }
+
+    /**
+     * Retrieves the classpath location of the clip.
+     *
+     * @return The resource path.
+     */
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /**
+     * Retrieves the playback volume.
+     *
+     * @return The volume between 0 and 1.
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Retrieves the maximum number of simultaneous instances.
+     *
+     * @return The voice limit of this clip.
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * Retrieves the importance of the clip when voices run out.
+     *
+     * @return The priority; higher values win.
+     */
+    public int getPriority() {
+        return priority;
+    }
+}
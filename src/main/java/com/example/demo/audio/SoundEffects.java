@@ -0,0 +1,208 @@
+package com.example.demo.audio;
+
+import com.example.demo.utils.GameLogger;
+import javafx.scene.media.AudioClip;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * SoundEffects plays short clips with low latency and bounded cost.
+ * Every {@link SoundEffect} is decoded once into an AudioClip, which JavaFX keeps in memory and
+ * mixes itself, instead of opening a Media and MediaPlayer per sound.
+ *
+ * The mixer tracks the voices it started with a {@link VoiceAllocator}: each clip has its own
+ * voice limit, beyond which new requests are dropped, and the total is capped at {@link #MAX_VOICES}.
+ * When all voices are in use, a sound takes the voices of the lowest-priority clip that ranks
+ * below it, or is dropped.
+ * Playing a loaded sound allocates nothing on the caller's side, so it can be used from the
+ * game loop. Apart from {@link #preload()}, methods are meant to be called on the JavaFX
+ * application thread.
+ *
+ * Setting the system property {@code game.mute} to true starts the shared mixer muted, e.g. on
+ * machines without an audio device, where JavaFX fails to open clip players.
+ */
+public final class SoundEffects {
+
+    // Logger for clips that cannot be loaded
+    private static final GameLogger LOG = GameLogger.getLogger(SoundEffects.class);
+
+    // Total number of sound effect voices playing at once
+    public static final int MAX_VOICES = 8;
+
+    // Assumed clip length when the file's length cannot be determined
+    private static final long DEFAULT_CLIP_NANOS = 500_000_000L;
+
+    // Effects by ordinal, so lookups need no map; initialized before the shared mixer, which sizes its arrays by it
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    // Mixer shared by the whole game
+    private static final SoundEffects SHARED = new SoundEffects();
+
+    // Decoded clips by effect ordinal, null until loaded
+    private final AtomicReferenceArray<AudioClip> clips = new AtomicReferenceArray<>(EFFECTS.length);
+
+    // Clip lengths by effect ordinal, written before the clip is published
+    private final long[] clipNanos = new long[EFFECTS.length];
+
+    // Effects that failed to load and are skipped from then on
+    private final boolean[] unavailable = new boolean[EFFECTS.length];
+
+    // Decides which effects may start and whose voices they take
+    private final VoiceAllocator voices = new VoiceAllocator(MAX_VOICES);
+
+    // Stops the clip of an effect whose voices were taken; kept so playing allocates nothing
+    private final IntConsumer stopClip = index -> clips.get(index).stop();
+
+    // Whether sound effects are played at all
+    private boolean muted = Boolean.getBoolean("game.mute");
+
+    /**
+     * Constructor for SoundEffects. Most code should use the shared mixer from {@link #getShared()}.
+     */
+    public SoundEffects() {
+    }
+
+    /**
+     * Retrieves the mixer shared by the whole game.
+     *
+     * @return The shared sound effect mixer.
+     */
+    public static SoundEffects getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Decodes every clip that is not loaded yet. Safe to call from a background thread.
+     */
+    public void preload() {
+        for (SoundEffect effect : EFFECTS) {
+            clip(effect);
+        }
+    }
+
+    /**
+     * Plays a sound effect, subject to its voice limit and the total voice limit.
+     *
+     * @param effect The effect to play.
+     * @return True if the effect was started, false if it was dropped.
+     */
+    public boolean play(SoundEffect effect) {
+        if (muted) return false;
+        AudioClip clip = clip(effect);
+        if (clip == null) return false;
+
+        if (!voices.start(effect, clipNanos[effect.ordinal()], System.nanoTime(), stopClip)) {
+            return false; // Over the clip's voice limit, or every voice belongs to something at least as important
+        }
+        clip.play(effect.getVolume());
+        return true;
+    }
+
+    /**
+     * Stops every playing sound effect.
+     */
+    public void stopAll() {
+        for (int index = 0; index < EFFECTS.length; index++) {
+            AudioClip clip = clips.get(index);
+            if (clip != null) {
+                clip.stop();
+            }
+        }
+        voices.clear();
+    }
+
+    /**
+     * Mutes or unmutes sound effects. Muting also stops the ones playing.
+     *
+     * @param muted True to mute.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (muted) {
+            stopAll();
+        }
+    }
+
+    /**
+     * Checks if sound effects are muted.
+     *
+     * @return True if muted, otherwise false.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Retrieves the number of voices currently playing.
+     *
+     * @return The active voice count over all effects.
+     */
+    public int getActiveVoices() {
+        return voices.totalActiveVoices(System.nanoTime());
+    }
+
+    /**
+     * Retrieves the clip of an effect, decoding it on first use.
+     *
+     * @param effect The effect.
+     * @return The clip, or null if it cannot be loaded.
+     */
+    private AudioClip clip(SoundEffect effect) {
+        AudioClip clip = clips.get(effect.ordinal());
+        if (clip != null || unavailable[effect.ordinal()]) {
+            return clip;
+        }
+        return load(effect);
+    }
+
+    /**
+     * Decodes the clip of an effect and measures its length.
+     *
+     * @param effect The effect.
+     * @return The clip, or null if it cannot be loaded.
+     */
+    private synchronized AudioClip load(SoundEffect effect) {
+        int index = effect.ordinal();
+        AudioClip clip = clips.get(index);
+        if (clip != null || unavailable[index]) {
+            return clip; // Loaded by another thread in the meantime
+        }
+        try {
+            URL url = SoundEffects.class.getResource(effect.getResourcePath());
+            if (url == null) {
+                throw new IllegalArgumentException("Sound resource not found: " + effect.getResourcePath());
+            }
+            clipNanos[index] = clipLength(url);
+            clip = new AudioClip(url.toExternalForm());
+            clips.set(index, clip);
+            return clip;
+        } catch (RuntimeException e) {
+            unavailable[index] = true;
+            LOG.warn("Sound effect " + effect + " is unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Determines how long a clip plays from its file header.
+     *
+     * @param url The clip file.
+     * @return The length in nanoseconds, or a default if it cannot be determined.
+     */
+    private static long clipLength(URL url) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(url);
+            float frameRate = format.getFormat().getFrameRate();
+            if (format.getFrameLength() > 0 && frameRate > 0) {
+                return (long) (format.getFrameLength() / frameRate * 1e9);
+            }
+        } catch (Exception e) {
+            LOG.debug(() -> "Cannot read the length of " + url + ": " + e.getMessage());
+        }
+        return DEFAULT_CLIP_NANOS;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.audio;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * VoiceAllocator decides which sound effects may start, for the {@link SoundEffects} mixer.
+ * It only tracks when the voices it granted end, so it runs without an audio device.
+ *
+ * Each effect has its own voice limit, beyond which new requests are dropped, and the total is
+ * capped by the allocator's limit. When all voices are in use, a sound takes the voices of the
+ * lowest-priority effect that ranks below it, or is dropped.
+ */
+final class VoiceAllocator {
+
+    // Effects by ordinal, so lookups need no map
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    // Total number of voices playing at once
+    private final int maxVoices;
+
+    // End times of the voices playing per effect, as ring buffers sized by the effect's voice limit
+    private final long[][] voiceEnds = new long[EFFECTS.length][];
+    private final int[] nextVoice = new int[EFFECTS.length];
+
+    /**
+     * Constructor for VoiceAllocator.
+     *
+     * @param maxVoices The total number of voices playing at once.
+     */
+    VoiceAllocator(int maxVoices) {
+        this.maxVoices = maxVoices;
+        for (SoundEffect effect : EFFECTS) {
+            voiceEnds[effect.ordinal()] = new long[effect.getMaxVoices()];
+        }
+    }
+
+    /**
+     * Grants a voice to an effect if its own limit and the total limit allow it, taking the voices
+     * of a lower-priority effect if every voice is in use.
+     *
+     * @param effect    The effect to start.
+     * @param clipNanos How long the effect plays, in nanoseconds.
+     * @param now       The current time in nanoseconds.
+     * @param stop      Called with the ordinal of an effect whose voices were taken, to stop its clip.
+     * @return True if the effect may start, false if it was dropped.
+     */
+    boolean start(SoundEffect effect, long clipNanos, long now, IntConsumer stop) {
+        int index = effect.ordinal();
+        if (activeVoices(index, now) >= effect.getMaxVoices()) {
+            return false; // This clip is already as loud as it may get
+        }
+        if (totalActiveVoices(now) >= maxVoices && !stealVoices(effect.getPriority(), now, stop)) {
+            return false; // Every voice belongs to something at least as important
+        }
+        long[] ends = voiceEnds[index];
+        ends[nextVoice[index]] = now + clipNanos;
+        nextVoice[index] = (nextVoice[index] + 1) % ends.length;
+        return true;
+    }
+
+    /**
+     * Releases every voice.
+     */
+    void clear() {
+        for (long[] ends : voiceEnds) {
+            Arrays.fill(ends, 0);
+        }
+    }
+
+    /**
+     * Counts the voices of one effect that are still playing.
+     *
+     * @param index The effect ordinal.
+     * @param now   The current time in nanoseconds.
+     * @return The active voice count of the effect.
+     */
+    int activeVoices(int index, long now) {
+        int active = 0;
+        for (long end : voiceEnds[index]) {
+            if (end - now > 0) active++;
+        }
+        return active;
+    }
+
+    /**
+     * Counts the voices of all effects that are still playing.
+     *
+     * @param now The current time in nanoseconds.
+     * @return The active voice count.
+     */
+    int totalActiveVoices(long now) {
+        int active = 0;
+        for (int index = 0; index < EFFECTS.length; index++) {
+            active += activeVoices(index, now);
+        }
+        return active;
+    }
+
+    /**
+     * Frees voices by stopping the lowest-priority effect that ranks below the given priority.
+     * An AudioClip can only be stopped as a whole, so all voices of that effect are freed.
+     *
+     * @param priority The priority of the sound that needs a voice.
+     * @param now      The current time in nanoseconds.
+     * @param stop     Called with the ordinal of the effect whose voices are taken.
+     * @return True if voices were freed, otherwise false.
+     */
+    private boolean stealVoices(int priority, long now, IntConsumer stop) {
+        int victim = -1;
+        for (int index = 0; index < EFFECTS.length; index++) {
+            int candidatePriority = EFFECTS[index].getPriority();
+            if (candidatePriority < priority && activeVoices(index, now) > 0
+                    && (victim < 0 || candidatePriority < EFFECTS[victim].getPriority())) {
+                victim = index;
+            }
+        }
+        if (victim < 0) return false;
+        stop.accept(victim);
+        Arrays.fill(voiceEnds[victim], 0);
+        return true;
+    }
+}
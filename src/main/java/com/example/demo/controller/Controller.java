@@ -2,16 +2,32 @@ package com.example.demo.controller;
 
 // Importing necessary classes
 import com.example.demo.levels.LevelManager;
+import com.example.demo.levels.LevelRegistry;
 import com.example.demo.listeners.EventListener;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
 import com.example.demo.utils.ErrorHandler;
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.GameRandom;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * Controller class orchestrates the game's lifecycle and setup.
  * It manages the application's main stage and initiates level transitions.
  */
 public class Controller {
 
+    // Logger for game launches
+    private static final GameLogger LOG = GameLogger.getLogger(Controller.class);
+
+    // System properties selecting an input recording or a replay
+    private static final String RECORD_PROPERTY = "game.record"; // File to record the game's input to
+    private static final String REPLAY_PROPERTY = "game.replay"; // File to replay the game's input from
+    private static final String REPLAY_SPEED_PROPERTY = "game.replay.speed"; // Replay speed, 1.0 = real time
+
     // Primary stage of the application where scenes are displayed
     private final Stage stage;
 
@@ -27,11 +43,21 @@ public class Controller {
      * @param stage The primary stage of the application.
      */
     public Controller(Stage stage) {
+        this(stage, LevelRegistry.load());
+    }
+
+    /**
+     * Constructor for the Controller class playing the levels of a given registry.
+     *
+     * @param stage    The primary stage of the application.
+     * @param registry The registered levels, e.g. the ones the main menu already prefetched.
+     */
+    public Controller(Stage stage, LevelRegistry registry) {
         // Assigning the main stage
         this.stage = stage;
 
-        // Initialize the LevelManager with the main stage
-        this.levelManager = new LevelManager(stage);
+        // Initialize the LevelManager with the main stage and the shared registry
+        this.levelManager = new LevelManager(stage, registry);
 
         // Create the EventListener, passing the LevelManager as a dependency
         this.eventListener = new EventListener(levelManager);
@@ -45,11 +71,15 @@ public class Controller {
      */
     public void launchGame() {
         try {
+            // Choose the game seed and set up recording or replay before any level is created
+            GameRandom.startNewGame();
+            configureInputRecording();
+
             // Display the main stage
             stage.show();
 
-            // Start the game by transitioning to the first level
-            levelManager.goToLevel("com.example.demo.levels.LevelOne");
+            // Start the game by transitioning to the first registered level
+            levelManager.goToLevel(levelManager.getRegistry().getStartLevel().id());
         } catch (Exception e) {
             // Handle any unexpected errors that occur during game launch
             ErrorHandler.showError(
@@ -59,4 +89,35 @@ public class Controller {
             );
         }
     }
+
+    /**
+     * Sets up input replay and recording from the game.replay and game.record system properties.
+     * A replay also restores the recorded game seed, so the levels unfold exactly as recorded.
+     *
+     * @throws IOException if the replay cannot be read or the recording cannot be created.
+     */
+    private void configureInputRecording() throws IOException {
+        String replayFile = System.getProperty(REPLAY_PROPERTY);
+        if (replayFile != null) {
+            InputReplay replay = InputReplay.read(Path.of(replayFile));
+            GameRandom.setGameSeed(replay.getGameSeed()); // Recreate the recorded levels
+            double speed = Double.parseDouble(System.getProperty(REPLAY_SPEED_PROPERTY, "1.0"));
+            levelManager.setInputReplay(replay, speed);
+            LOG.info(() -> "Replaying " + replay.getLevelCount() + " level(s) from " + replayFile + " at " + speed + "x");
+        }
+
+        String recordFile = System.getProperty(RECORD_PROPERTY);
+        if (recordFile != null) {
+            InputRecorder recorder = new InputRecorder(Path.of(recordFile), GameRandom.getGameSeed());
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    recorder.close(); // Finish the file when the application exits
+                } catch (IOException e) {
+                    LOG.error("Closing the input recording failed", e);
+                }
+            }, "input-recorder-close"));
+            levelManager.setInputRecorder(recorder);
+            LOG.info(() -> "Recording input to " + recordFile + " (game seed " + GameRandom.getGameSeed() + ")");
+        }
+    }
 }
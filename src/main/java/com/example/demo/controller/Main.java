@@ -1,7 +1,9 @@
  package com.example.demo.controller;
 
 // Import necessary JavaFX and custom packages
+import com.example.demo.audio.MusicService; // Import the shared music service
 import com.example.demo.ui.MainMenu; // Import the MainMenu class
+import com.example.demo.utils.GameLogger; // Import the game's logging facade
 import javafx.application.Application; // Import JavaFX application base class
 import javafx.stage.Stage; // Import JavaFX stage class
 
@@ -15,6 +17,7 @@ public class Main extends Application {
     private static final int SCREEN_WIDTH = 1300; // Define the width of the application window
     private static final int SCREEN_HEIGHT = 750; // Define the height of the application window
     private static final String TITLE = "Sky Battle"; // Define the title of the application window
+    private static final GameLogger LOG = GameLogger.getLogger(Main.class); // Logger for startup errors
 
     /**
      * The start method is the entry point for the JavaFX application lifecycle.
@@ -35,10 +38,19 @@ public class Main extends Application {
         try {
             menuLauncher.launchMainMenu(primaryStage); // Start the main menu
         } catch (Exception e) {
-            e.printStackTrace(); // Log any exceptions that occur during menu launch
+            LOG.error("Failed to launch the main menu", e); // Log any exceptions that occur during menu launch
         }
     }
 
+    /**
+     * Called when the application exits.
+     * Releases the native players of the background music.
+     */
+    @Override
+    public void stop() {
+        MusicService.getShared().shutdown(); // Dispose all music players
+    }
+
     /**
      * The main method is the entry point of the application.
      * It starts the JavaFX application lifecycle.
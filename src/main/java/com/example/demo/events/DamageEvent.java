@@ -0,0 +1,55 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * DamageEvent reports that a plane lost health, such as the player's plane or the boss.
+ */
+public final class DamageEvent extends GameEvent {
+
+    // The damaged actor and its health afterwards
+    private ActiveActorDestructible target;
+    private int health;
+
+    /**
+     * Fills in the event.
+     *
+     * @param target The actor that took damage.
+     * @param health The actor's remaining health.
+     * @return This event, for chaining into a publish call.
+     */
+    public DamageEvent set(ActiveActorDestructible target, int health) {
+        this.target = target;
+        this.health = health;
+        return this;
+    }
+
+    /**
+     * Retrieves the actor that took damage.
+     *
+     * @return The damaged actor.
+     */
+    public ActiveActorDestructible getTarget() {
+        return target;
+    }
+
+    /**
+     * Retrieves the damaged actor's remaining health.
+     *
+     * @return The health after the damage.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new DamageEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        DamageEvent event = (DamageEvent) other;
+        set(event.target, event.health);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.events;
+
+/**
+ * GameEvent is the base class of everything published on a {@link GameEventBus}.
+ *
+ * Events are mutable and meant to be reused: a publisher keeps one instance per event type,
+ * fills it in with a setter and publishes it, so no objects are created while the game runs.
+ * Listeners must therefore read what they need during the call and never keep the event.
+ */
+public abstract class GameEvent {
+
+    /**
+     * Creates an empty event of the same type.
+     * The bus uses it to grow the slots of its deferred queue.
+     *
+     * @return A new event of this event's class.
+     */
+    protected abstract GameEvent newBlank();
+
+    /**
+     * Copies the values of another event of the same type into this one.
+     * The bus uses it to take a snapshot of a deferred event into a queue slot.
+     *
+     * @param other The event to copy; always of this event's class.
+     */
+    protected abstract void copyFrom(GameEvent other);
+}
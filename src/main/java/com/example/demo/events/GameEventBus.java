@@ -0,0 +1,222 @@
+package com.example.demo.events;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GameEventBus delivers typed game events from the level and its actors to whoever listens:
+ * the HUD, the level manager, audio, metrics or achievements.
+ *
+ * Events can be delivered in two ways:
+ * - {@link #publish(GameEvent)} calls the listeners right away, on the caller's stack.
+ * - {@link #post(GameEvent)} copies the event into a queue slot; the queued events are delivered
+ *   in posting order by {@link #flush()}, which the level calls once at the end of every step.
+ *   Listeners of posted events therefore never run in the middle of an update or collision pass.
+ *
+ * Neither way allocates once the bus is warm: listeners are kept in arrays, publishers reuse their
+ * event objects, and the queue slots are created on first use and then reused for every step.
+ * The bus is not thread-safe; it belongs to one level and is used on the FX thread.
+ */
+public final class GameEventBus {
+
+    // Initial number of deferred events the queue holds before it grows
+    private static final int INITIAL_QUEUE_CAPACITY = 32;
+
+    // Channel of every event type that has listeners or was posted
+    private final Map<Class<? extends GameEvent>, Channel> channels = new HashMap<>();
+
+    // Channels of the posted events, in posting order; each channel keeps its own copies
+    private Channel[] pending = new Channel[INITIAL_QUEUE_CAPACITY];
+    private int pendingCount;
+
+    /**
+     * Registers a listener for one type of event.
+     *
+     * @param type     The class of the events to receive.
+     * @param listener The listener.
+     * @param <E>      The event type.
+     */
+    public <E extends GameEvent> void subscribe(Class<E> type, GameEventListener<? super E> listener) {
+        channel(type).add(listener);
+    }
+
+    /**
+     * Removes a listener registered with {@link #subscribe(Class, GameEventListener)}.
+     *
+     * @param type     The class of the events the listener receives.
+     * @param listener The listener to remove.
+     * @param <E>      The event type.
+     */
+    public <E extends GameEvent> void unsubscribe(Class<E> type, GameEventListener<? super E> listener) {
+        Channel channel = channels.get(type);
+        if (channel != null) {
+            channel.remove(listener);
+        }
+    }
+
+    /**
+     * Removes every listener and drops the queued events.
+     */
+    public void clear() {
+        channels.clear();
+        Arrays.fill(pending, 0, pendingCount, null);
+        pendingCount = 0;
+    }
+
+    /**
+     * Delivers an event to its listeners immediately.
+     * The event can be reused as soon as this method returns.
+     *
+     * @param event The event to deliver.
+     */
+    public void publish(GameEvent event) {
+        Channel channel = channels.get(event.getClass());
+        if (channel != null) {
+            channel.dispatch(event);
+        }
+    }
+
+    /**
+     * Queues a copy of an event for the next {@link #flush()}.
+     * The event itself can be reused as soon as this method returns.
+     * Events without listeners are dropped right away.
+     *
+     * @param event The event to deliver later.
+     */
+    public void post(GameEvent event) {
+        Channel channel = channels.get(event.getClass());
+        if (channel == null || channel.listenerCount == 0) return; // Nobody listens
+
+        channel.enqueue(event);
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pendingCount * 2);
+        }
+        pending[pendingCount++] = channel;
+    }
+
+    /**
+     * Delivers the queued events in the order they were posted.
+     * Events posted by listeners while flushing are delivered in the same flush.
+     */
+    public void flush() {
+        for (int i = 0; i < pendingCount; i++) {
+            pending[i].dispatchNext();
+            pending[i] = null;
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Retrieves the number of events waiting for the next flush.
+     *
+     * @return The queued event count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Retrieves the channel of an event type, creating it on first use.
+     *
+     * @param type The event class.
+     * @return The channel.
+     */
+    private Channel channel(Class<? extends GameEvent> type) {
+        return channels.computeIfAbsent(type, key -> new Channel());
+    }
+
+    /**
+     * Channel holds the listeners of one event type and the copies of its queued events.
+     */
+    private static final class Channel {
+
+        // Registered listeners; replaced on every change so a dispatch in progress is not disturbed
+        private GameEventListener<?>[] listeners = new GameEventListener<?>[0];
+        private int listenerCount;
+
+        // Ring of reusable event copies waiting to be dispatched
+        private GameEvent[] slots = new GameEvent[4];
+        private int head;
+        private int size;
+
+        /**
+         * Adds a listener.
+         *
+         * @param listener The listener to add.
+         */
+        void add(GameEventListener<?> listener) {
+            listeners = Arrays.copyOf(listeners, listenerCount + 1);
+            listeners[listenerCount++] = listener;
+        }
+
+        /**
+         * Removes the first registration of a listener.
+         *
+         * @param listener The listener to remove.
+         */
+        void remove(GameEventListener<?> listener) {
+            for (int i = 0; i < listenerCount; i++) {
+                if (listeners[i] == listener) {
+                    GameEventListener<?>[] copy = new GameEventListener<?>[listenerCount - 1];
+                    System.arraycopy(listeners, 0, copy, 0, i);
+                    System.arraycopy(listeners, i + 1, copy, i, listenerCount - i - 1);
+                    listeners = copy;
+                    listenerCount--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Calls every listener with an event.
+         *
+         * @param event The event.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void dispatch(GameEvent event) {
+            GameEventListener[] current = listeners; // Listeners added during the dispatch wait for the next event
+            for (GameEventListener listener : current) {
+                listener.onEvent(event);
+            }
+        }
+
+        /**
+         * Copies an event into the next free slot.
+         *
+         * @param event The event to queue.
+         */
+        void enqueue(GameEvent event) {
+            if (size == slots.length) {
+                grow();
+            }
+            int index = (head + size) % slots.length;
+            if (slots[index] == null) {
+                slots[index] = event.newBlank(); // Created once, then reused
+            }
+            slots[index].copyFrom(event);
+            size++;
+        }
+
+        /**
+         * Dispatches the oldest queued event and frees its slot.
+         */
+        void dispatchNext() {
+            dispatch(slots[head]); // The slot stays taken, so events posted meanwhile cannot overwrite it
+            head = (head + 1) % slots.length;
+            size--;
+        }
+
+        /**
+         * Doubles the slot ring, keeping the queued events in order.
+         */
+        private void grow() {
+            GameEvent[] larger = new GameEvent[slots.length * 2];
+            for (int i = 0; i < slots.length; i++) {
+                larger[i] = slots[(head + i) % slots.length];
+            }
+            slots = larger;
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.events;
+
+/**
+ * GameEventListener receives the events of one type from a {@link GameEventBus}.
+ *
+ * @param <E> The type of event received.
+ */
+@FunctionalInterface
+public interface GameEventListener<E extends GameEvent> {
+
+    /**
+     * Handles an event. The event is reused after the call returns, so it must not be kept.
+     *
+     * @param event The event.
+     */
+    void onEvent(E event);
+}
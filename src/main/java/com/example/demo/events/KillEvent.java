@@ -0,0 +1,53 @@
+package com.example.demo.events;
+
+/**
+ * KillEvent reports enemies destroyed by the player during a simulation step.
+ */
+public final class KillEvent extends GameEvent {
+
+    // Enemies destroyed in the step and the player's total since the level started
+    private int kills;
+    private int totalKills;
+
+    /**
+     * Fills in the event.
+     *
+     * @param kills      The number of enemies destroyed in the step.
+     * @param totalKills The player's kill count including them.
+     * @return This event, for chaining into a publish call.
+     */
+    public KillEvent set(int kills, int totalKills) {
+        this.kills = kills;
+        this.totalKills = totalKills;
+        return this;
+    }
+
+    /**
+     * Retrieves the number of enemies destroyed in the step.
+     *
+     * @return The kills of the step.
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Retrieves the player's kill count.
+     *
+     * @return The total kills.
+     */
+    public int getTotalKills() {
+        return totalKills;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new KillEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        KillEvent event = (KillEvent) other;
+        set(event.kills, event.totalKills);
+    }
+}
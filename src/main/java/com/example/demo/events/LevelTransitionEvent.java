@@ -0,0 +1,40 @@
+package com.example.demo.events;
+
+/**
+ * LevelTransitionEvent asks for a level to be loaded: the next level, or the current one again on a restart.
+ */
+public final class LevelTransitionEvent extends GameEvent {
+
+    // Registry id of the level to load
+    private String levelId;
+
+    /**
+     * Fills in the event.
+     *
+     * @param levelId The registry id of the level to load.
+     * @return This event, for chaining into a publish call.
+     */
+    public LevelTransitionEvent set(String levelId) {
+        this.levelId = levelId;
+        return this;
+    }
+
+    /**
+     * Retrieves the level to load.
+     *
+     * @return The registry id of the level.
+     */
+    public String getLevelId() {
+        return levelId;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new LevelTransitionEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        set(((LevelTransitionEvent) other).levelId);
+    }
+}
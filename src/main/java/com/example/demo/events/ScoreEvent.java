@@ -0,0 +1,53 @@
+package com.example.demo.events;
+
+/**
+ * ScoreEvent reports a change of the player's score.
+ */
+public final class ScoreEvent extends GameEvent {
+
+    // Points gained and the score afterwards
+    private int points;
+    private int score;
+
+    /**
+     * Fills in the event.
+     *
+     * @param points The points gained.
+     * @param score  The score including them.
+     * @return This event, for chaining into a publish call.
+     */
+    public ScoreEvent set(int points, int score) {
+        this.points = points;
+        this.score = score;
+        return this;
+    }
+
+    /**
+     * Retrieves the points gained.
+     *
+     * @return The change of the score.
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Retrieves the new score.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new ScoreEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        ScoreEvent event = (ScoreEvent) other;
+        set(event.points, event.score);
+    }
+}
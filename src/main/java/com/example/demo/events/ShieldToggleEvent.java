@@ -0,0 +1,40 @@
+package com.example.demo.events;
+
+/**
+ * ShieldToggleEvent reports that the boss's shield went up or down.
+ */
+public final class ShieldToggleEvent extends GameEvent {
+
+    // Whether the shield is up after the toggle
+    private boolean active;
+
+    /**
+     * Fills in the event.
+     *
+     * @param active True if the shield went up, false if it went down.
+     * @return This event, for chaining into a publish call.
+     */
+    public ShieldToggleEvent set(boolean active) {
+        this.active = active;
+        return this;
+    }
+
+    /**
+     * Checks whether the shield is up.
+     *
+     * @return True if the shield went up, false if it went down.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new ShieldToggleEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        set(((ShieldToggleEvent) other).active);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.events;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+/**
+ * SpawnEvent reports that an enemy unit entered the level.
+ */
+public final class SpawnEvent extends GameEvent {
+
+    // The enemy that was added
+    private ActiveActorDestructible enemy;
+
+    /**
+     * Fills in the event.
+     *
+     * @param enemy The enemy that was added.
+     * @return This event, for chaining into a publish call.
+     */
+    public SpawnEvent set(ActiveActorDestructible enemy) {
+        this.enemy = enemy;
+        return this;
+    }
+
+    /**
+     * Retrieves the enemy that was added.
+     *
+     * @return The spawned enemy.
+     */
+    public ActiveActorDestructible getEnemy() {
+        return enemy;
+    }
+
+    @Override
+    protected GameEvent newBlank() {
+        return new SpawnEvent();
+    }
+
+    @Override
+    protected void copyFrom(GameEvent other) {
+        set(((SpawnEvent) other).enemy);
+    }
+}
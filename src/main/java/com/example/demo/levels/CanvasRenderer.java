@@ -0,0 +1,74 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActor;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.List;
+
+/**
+ * CanvasRenderer draws actors onto a single Canvas instead of showing one ImageView node per actor.
+ * Each frame the canvas is cleared and every visible actor's image, or its region of the texture
+ * atlas, is drawn at its interpolated position, so the scene graph holds one node however many
+ * sprites are on screen.
+ * The actors themselves are still used by the simulation for movement and collision bounds.
+ */
+class CanvasRenderer {
+
+    // The canvas covering the playfield and its drawing context
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+
+    /**
+     * Constructor for CanvasRenderer.
+     *
+     * @param width  The width of the playfield.
+     * @param height The height of the playfield.
+     */
+    CanvasRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        canvas.setMouseTransparent(true); // Input goes to the background, as with ImageView actors
+    }
+
+    /**
+     * Retrieves the canvas, to be added to the scene.
+     *
+     * @return The canvas the actors are drawn on.
+     */
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Clears the canvas for a new frame.
+     */
+    void beginFrame() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Draws every visible actor of a list, in list order.
+     *
+     * @param actors The actors to draw.
+     */
+    void draw(List<? extends ActiveActor> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActor actor = actors.get(i);
+            Image image = actor.getImage();
+            if (image == null || !actor.isVisible()) continue;
+            Rectangle2D region = actor.getViewport();
+            if (region != null) {
+                // Copy the actor's region of the shared texture atlas
+                graphics.drawImage(image, region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+                        actor.getRenderX(), actor.getRenderY(), actor.getRenderWidth(), actor.getRenderHeight());
+            } else {
+                graphics.drawImage(image, actor.getRenderX(), actor.getRenderY(),
+                        actor.getRenderWidth(), actor.getRenderHeight());
+            }
+        }
+    }
+}
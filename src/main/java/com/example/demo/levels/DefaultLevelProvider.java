@@ -0,0 +1,21 @@
+package com.example.demo.levels;
+
+/**
+ * DefaultLevelProvider registers the game's built-in campaign: LevelOne, LevelTwo and LevelBoss,
+ * each with the assets it needs. This is the only place the order of the levels is declared;
+ * levels move on through {@link LevelParent#goToNextLevel()}.
+ */
+public class DefaultLevelProvider implements LevelProvider {
+
+    /**
+     * Registers the built-in levels in the order they are played; the first one starts the game.
+     *
+     * @param registry The registry to add the levels to.
+     */
+    @Override
+    public void registerLevels(LevelRegistry registry) {
+        registry.register(LevelOne.class, LevelOne::new, LevelOne.ASSETS, LevelTwo.class);
+        registry.register(LevelTwo.class, LevelTwo::new, LevelTwo.ASSETS, LevelBoss.class);
+        registry.register(LevelBoss.class, LevelBoss::new, LevelBoss.ASSETS);
+    }
+}
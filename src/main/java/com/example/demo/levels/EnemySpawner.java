@@ -2,6 +2,7 @@ package com.example.demo.levels;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.EnemyPlane;
+import com.example.demo.utils.GameRandom;
 
 /**
  * EnemySpawner is responsible for handling the logic of spawning enemy units in a game level.
@@ -14,16 +15,21 @@ public class EnemySpawner {
     // Probability of spawning an enemy unit on each game frame
     private final double spawnProbability;
 
+    // Source of randomness for spawn decisions and positions
+    private final GameRandom random;
+
     /**
      * Constructor for EnemySpawner.
      * Initializes the spawner with the total number of enemies allowed and the probability of spawning enemies.
      *
      * @param totalEnemies     The maximum number of enemies allowed in the level at one time.
      * @param spawnProbability The probability of spawning an enemy unit on each game frame (0.0 to 1.0).
+     * @param random           The level's source of randomness.
      */
-    public EnemySpawner(int totalEnemies, double spawnProbability) {
+    public EnemySpawner(int totalEnemies, double spawnProbability, GameRandom random) {
         this.totalEnemies = totalEnemies; // Set the maximum number of enemies
         this.spawnProbability = spawnProbability; // Set the probability of spawning
+        this.random = random; // Share the level's random source
     }
 
     /**
@@ -43,12 +49,12 @@ public class EnemySpawner {
         // Loop through the number of spawn opportunities left
         for (int i = 0; i < enemiesToSpawn; i++) {
             // Check if this spawn attempt should succeed based on the spawn probability
-            if (Math.random() < spawnProbability) {
+            if (random.chance(spawnProbability)) {
                 // Generate a random vertical (Y) position for the new enemy
-                double newEnemyInitialYPosition = Math.random() * enemyMaximumYPosition;
+                double newEnemyInitialYPosition = random.nextDouble(enemyMaximumYPosition);
 
                 // Create a new enemy unit with a starting position
-                ActiveActorDestructible newEnemy = new EnemyPlane(screenWidth, newEnemyInitialYPosition);
+                ActiveActorDestructible newEnemy = new EnemyPlane(screenWidth, newEnemyInitialYPosition, random);
 
                 // Add the new enemy unit to the level
                 level.addEnemyUnit(newEnemy);
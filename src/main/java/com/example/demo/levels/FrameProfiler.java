@@ -0,0 +1,147 @@
+package com.example.demo.levels;
+
+import com.example.demo.utils.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * FrameProfiler measures how long each phase of a level's update takes.
+ * LevelParent takes a timestamp between phases with {@link #lap(Phase, long)}, and every
+ * duration is recorded in a per-phase {@link LatencyHistogram}. When the profiler is disabled
+ * the calls return immediately without reading the clock.
+ */
+public class FrameProfiler {
+
+    /**
+     * The measured parts of a simulation step and of a rendered frame.
+     */
+    public enum Phase {
+        /** Updating the player's plane. */
+        USER_UPDATE,
+        /** Spawning new enemies. */
+        SPAWN_ENEMIES,
+        /** Updating all actors. */
+        UPDATE_ACTORS,
+        /** Letting enemies fire. */
+        ENEMY_FIRE,
+        /** Counting enemies and handling enemies that passed the player. */
+        ENEMY_PENETRATION,
+        /** Retiring projectiles that left the playfield. */
+        CULLING,
+        /** Building the collision grids and running the collision passes. */
+        COLLISIONS,
+        /** Removing destroyed actors from the scene. */
+        REMOVE_DESTROYED,
+        /** Updating the kill count, score, hearts and metrics. */
+        LEVEL_VIEW,
+        /** Checking the win and loss conditions. */
+        GAME_OVER_CHECK,
+        /** A complete simulation step. */
+        STEP,
+        /** Interpolating actor positions for a rendered frame. */
+        RENDER
+    }
+
+    // Nanoseconds per microsecond, for reports
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    // One histogram per phase
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+
+    // Whether timings are recorded
+    private boolean enabled = true;
+
+    /**
+     * Constructor for FrameProfiler.
+     */
+    public FrameProfiler() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Takes the starting timestamp for a sequence of phases.
+     *
+     * @return The current time in nanoseconds, or 0 if the profiler is disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since the previous timestamp for a phase and takes a new timestamp.
+     *
+     * @param phase The phase that just finished.
+     * @param since The timestamp taken when the phase started.
+     * @return The current time in nanoseconds, to be passed to the next call, or 0 if disabled.
+     */
+    public long lap(Phase phase, long since) {
+        if (!enabled) return 0;
+        long now = System.nanoTime();
+        histograms.get(phase).record(now - since);
+        return now;
+    }
+
+    /**
+     * Enables or disables recording.
+     *
+     * @param enabled True to record timings, false to skip them.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks if timings are recorded.
+     *
+     * @return True if the profiler is enabled, otherwise false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The phase's histogram.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Discards all recorded timings.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Builds a table with the sample count, p50, p99, maximum and mean of every phase.
+     * Durations are given in microseconds.
+     *
+     * @return The formatted report.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-18s %8s %9s %9s %9s %9s%n",
+                "phase (us)", "count", "p50", "p99", "max", "mean"));
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = histograms.get(phase);
+            report.append(String.format(Locale.ROOT, "%-18s %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    phase.name(),
+                    histogram.getCount(),
+                    histogram.getPercentile(50) / NANOS_PER_MICRO,
+                    histogram.getPercentile(99) / NANOS_PER_MICRO,
+                    histogram.getMax() / NANOS_PER_MICRO,
+                    histogram.getMean() / NANOS_PER_MICRO));
+        }
+        return report.toString();
+    }
+}
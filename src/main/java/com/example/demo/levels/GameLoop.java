@@ -0,0 +1,207 @@
+package com.example.demo.levels;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * GameLoop drives a level with a fixed simulation timestep on top of an AnimationTimer.
+ * Frame time is accumulated and consumed in fixed-size steps, so the game advances at the same
+ * speed regardless of the display refresh rate. After the steps of a frame have run, the leftover
+ * fraction of a step is handed to the render callback so node positions can be interpolated.
+ */
+public class GameLoop {
+
+    // Default cap on the number of simulation steps run to catch up in a single frame
+    private static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    // Length of one simulation step in nanoseconds
+    private final long stepNanos;
+
+    // Maximum number of steps executed per frame before the backlog is dropped
+    private final int maxStepsPerFrame;
+
+    // Callback executed once per fixed simulation step
+    private final Runnable stepAction;
+
+    // Callback executed once per rendered frame with the interpolation factor (0.0 to 1.0)
+    private final DoubleConsumer renderAction;
+
+    // Pulse source, created lazily so the loop can be constructed before the toolkit is needed
+    private AnimationTimer timer;
+
+    // Timestamp of the previous frame, or -1 if the next frame should only resynchronize
+    private long lastFrameTime = -1;
+
+    // Frame time that has not yet been consumed by simulation steps
+    private long accumulator;
+
+    // Whether the loop is currently running
+    private boolean running;
+
+    // Simulated time per unit of real time (1.0 = real time, 4.0 = four times as fast)
+    private double timeScale = 1.0;
+
+    // Statistics about the loop's behaviour
+    private long totalSteps;
+    private long droppedNanos;
+
+    /**
+     * Constructor for GameLoop.
+     *
+     * @param stepMillis   The duration of one simulation step in milliseconds.
+     * @param stepAction   The action executed for every simulation step.
+     * @param renderAction The action executed once per frame with the interpolation factor.
+     */
+    public GameLoop(long stepMillis, Runnable stepAction, DoubleConsumer renderAction) {
+        this(stepMillis, DEFAULT_MAX_STEPS_PER_FRAME, stepAction, renderAction);
+    }
+
+    /**
+     * Constructor for GameLoop with a custom catch-up limit.
+     *
+     * @param stepMillis       The duration of one simulation step in milliseconds.
+     * @param maxStepsPerFrame The maximum number of steps run in a single frame.
+     * @param stepAction       The action executed for every simulation step.
+     * @param renderAction     The action executed once per frame with the interpolation factor.
+     * @throws IllegalArgumentException if the step length or the step cap is not positive.
+     */
+    public GameLoop(long stepMillis, int maxStepsPerFrame, Runnable stepAction, DoubleConsumer renderAction) {
+        if (stepMillis <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Step length and maximum steps per frame must be positive.");
+        }
+        this.stepNanos = stepMillis * 1_000_000L;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.stepAction = stepAction;
+        this.renderAction = renderAction;
+    }
+
+    /**
+     * Starts (or resumes) the loop. The first frame after starting only records its timestamp,
+     * so time spent while stopped is never simulated.
+     */
+    public void start() {
+        if (running) return;
+        running = true;
+        lastFrameTime = -1;
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onFrame(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Stops the loop. Any simulation steps still pending for the current frame are skipped.
+     */
+    public void stop() {
+        running = false;
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Handles a pulse from the AnimationTimer.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    private void onFrame(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now; // Resynchronize after a start or resume
+            return;
+        }
+        long elapsed = now - lastFrameTime;
+        lastFrameTime = now;
+        advance(elapsed);
+    }
+
+    /**
+     * Advances the loop by the given amount of real time.
+     * Runs as many fixed steps as the accumulated time allows, up to the per-frame cap,
+     * and then renders with the remaining fraction of a step.
+     *
+     * @param elapsedNanos The real time that passed since the previous frame.
+     * @return The number of simulation steps that were executed.
+     */
+    int advance(long elapsedNanos) {
+        accumulator += (long) (Math.max(0, elapsedNanos) * timeScale);
+
+        // A faster clock needs proportionally more steps per frame before it counts as falling behind
+        int stepLimit = (int) Math.ceil(maxStepsPerFrame * Math.max(1.0, timeScale));
+        int steps = 0;
+        while (running && accumulator >= stepNanos && steps < stepLimit) {
+            stepAction.run();
+            accumulator -= stepNanos;
+            steps++;
+            totalSteps++;
+        }
+
+        // Drop the backlog if we could not catch up, so the game slows down instead of spiralling
+        if (accumulator >= stepNanos) {
+            long keep = accumulator % stepNanos;
+            droppedNanos += accumulator - keep;
+            accumulator = keep;
+        }
+
+        if (running) {
+            renderAction.accept((double) accumulator / stepNanos);
+        }
+        return steps;
+    }
+
+    /**
+     * Sets how fast simulated time passes compared to real time.
+     * Replays use a scale above 1 to run faster than real time; the step length stays the same,
+     * so the simulation itself is unchanged.
+     *
+     * @param timeScale The simulated time per unit of real time.
+     * @throws IllegalArgumentException if the scale is not positive.
+     */
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale > 0)) {
+            throw new IllegalArgumentException("Time scale must be positive.");
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Retrieves how fast simulated time passes compared to real time.
+     *
+     * @return The time scale.
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Checks if the loop is running.
+     *
+     * @return True if the loop is running, otherwise false.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Retrieves the total number of simulation steps executed by this loop.
+     *
+     * @return The total step count.
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Retrieves the amount of frame time that was dropped because the step cap was reached.
+     *
+     * @return The dropped time in nanoseconds.
+     */
+    public long getDroppedNanos() {
+        return droppedNanos;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.demo.levels;
+
+/**
+ * GameMetrics collects counters about the actors of a running level.
+ * LevelParent updates them once per simulation step, so they can be shown in an overlay,
+ * logged, or checked in tests to make sure the number of live actors stays bounded.
+ * It also counts, per rendered frame, the actors whose rendered position changed: only those
+ * nodes are marked dirty, so the count shows how much of the scene a frame really redraws.
+ */
+public class GameMetrics {
+
+    // Live actor counts after the most recent step
+    private int userProjectiles;
+    private int enemyProjectiles;
+    private int enemies;
+    private int sceneNodes;
+
+    // Highest number of live projectiles (user and enemy combined) seen in a step
+    private int peakProjectiles;
+
+    // Projectiles retired because they left the playfield
+    private int culledLastStep;
+    private long culledUserProjectiles;
+    private long culledEnemyProjectiles;
+
+    // Number of steps recorded
+    private long steps;
+
+    // Actors that moved on screen, in the most recent frame and over all frames
+    private int dirtyNodesLastFrame;
+    private int peakDirtyNodes;
+    private long dirtyNodes;
+    private long frames;
+
+    /**
+     * Records the projectiles culled during the current step.
+     *
+     * @param userCulled  The number of user projectiles that left the playfield.
+     * @param enemyCulled The number of enemy projectiles that left the playfield.
+     */
+    void recordCulled(int userCulled, int enemyCulled) {
+        culledLastStep = userCulled + enemyCulled;
+        culledUserProjectiles += userCulled;
+        culledEnemyProjectiles += enemyCulled;
+    }
+
+    /**
+     * Records the live actor counts at the end of a step.
+     *
+     * @param userProjectiles  The number of live user projectiles.
+     * @param enemyProjectiles The number of live enemy projectiles.
+     * @param enemies          The number of live enemy units.
+     * @param sceneNodes       The number of nodes attached to the level's root.
+     */
+    void recordStep(int userProjectiles, int enemyProjectiles, int enemies, int sceneNodes) {
+        this.userProjectiles = userProjectiles;
+        this.enemyProjectiles = enemyProjectiles;
+        this.enemies = enemies;
+        this.sceneNodes = sceneNodes;
+        peakProjectiles = Math.max(peakProjectiles, userProjectiles + enemyProjectiles);
+        steps++;
+    }
+
+    /**
+     * Records the number of actors marked dirty by a rendered frame.
+     *
+     * @param dirtyNodes The number of actors rendered at a different position than in the previous frame.
+     */
+    void recordFrame(int dirtyNodes) {
+        dirtyNodesLastFrame = dirtyNodes;
+        peakDirtyNodes = Math.max(peakDirtyNodes, dirtyNodes);
+        this.dirtyNodes += dirtyNodes;
+        frames++;
+    }
+
+    /**
+     * Retrieves the number of live user projectiles.
+     *
+     * @return The user projectile count.
+     */
+    public int getUserProjectiles() {
+        return userProjectiles;
+    }
+
+    /**
+     * Retrieves the number of live enemy and boss projectiles.
+     *
+     * @return The enemy projectile count.
+     */
+    public int getEnemyProjectiles() {
+        return enemyProjectiles;
+    }
+
+    /**
+     * Retrieves the number of live enemy units.
+     *
+     * @return The enemy count.
+     */
+    public int getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Retrieves the number of nodes attached to the level's root.
+     *
+     * @return The scene node count.
+     */
+    public int getSceneNodes() {
+        return sceneNodes;
+    }
+
+    /**
+     * Retrieves the highest number of live projectiles seen in a single step.
+     *
+     * @return The peak projectile count.
+     */
+    public int getPeakProjectiles() {
+        return peakProjectiles;
+    }
+
+    /**
+     * Retrieves the number of projectiles culled in the most recent step.
+     *
+     * @return The culled count of the last step.
+     */
+    public int getCulledLastStep() {
+        return culledLastStep;
+    }
+
+    /**
+     * Retrieves the total number of user projectiles culled.
+     *
+     * @return The culled user projectile count.
+     */
+    public long getCulledUserProjectiles() {
+        return culledUserProjectiles;
+    }
+
+    /**
+     * Retrieves the total number of enemy projectiles culled.
+     *
+     * @return The culled enemy projectile count.
+     */
+    public long getCulledEnemyProjectiles() {
+        return culledEnemyProjectiles;
+    }
+
+    /**
+     * Retrieves the number of steps recorded.
+     *
+     * @return The step count.
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Retrieves the number of actors marked dirty by the most recent frame.
+     *
+     * @return The dirty node count of the last frame.
+     */
+    public int getDirtyNodesLastFrame() {
+        return dirtyNodesLastFrame;
+    }
+
+    /**
+     * Retrieves the highest number of actors marked dirty by a single frame.
+     *
+     * @return The peak dirty node count.
+     */
+    public int getPeakDirtyNodes() {
+        return peakDirtyNodes;
+    }
+
+    /**
+     * Retrieves the average number of actors marked dirty per frame.
+     *
+     * @return The mean dirty node count, or 0 before the first frame.
+     */
+    public double getAverageDirtyNodes() {
+        return frames == 0 ? 0 : (double) dirtyNodes / frames;
+    }
+
+    /**
+     * Retrieves the number of frames recorded.
+     *
+     * @return The frame count.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Provides a string representation of the metrics.
+     *
+     * @return A string describing the current counters.
+     */
+    @Override
+    public String toString() {
+        return "GameMetrics{" +
+                "steps=" + steps +
+                ", userProjectiles=" + userProjectiles +
+                ", enemyProjectiles=" + enemyProjectiles +
+                ", enemies=" + enemies +
+                ", sceneNodes=" + sceneNodes +
+                ", peakProjectiles=" + peakProjectiles +
+                ", culledUserProjectiles=" + culledUserProjectiles +
+                ", culledEnemyProjectiles=" + culledEnemyProjectiles +
+                ", dirtyNodesLastFrame=" + dirtyNodesLastFrame +
+                ", peakDirtyNodes=" + peakDirtyNodes +
+                String.format(", averageDirtyNodes=%.1f", getAverageDirtyNodes()) +
+                '}';
+    }
+}
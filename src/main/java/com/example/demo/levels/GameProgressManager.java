@@ -1,6 +1,7 @@
 package com.example.demo.levels;
 
 import com.example.demo.actors.UserPlane;
+import com.example.demo.utils.GameLogger;
 
 /**
  * GameProgressManager is responsible for managing the player's progress in the game.
@@ -8,22 +9,20 @@ import com.example.demo.actors.UserPlane;
  */
 public class GameProgressManager {
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(GameProgressManager.class);
+
     // The number of kills required for the player to advance to the next level
     private final int killsToAdvance;
 
-    // The fully qualified class name of the next level to transition to
-    private final String nextLevel;
-
     /**
      * Constructor for GameProgressManager.
-     * Initializes the manager with the required kills and the next level to transition to.
+     * Initializes the manager with the required kills; the next level comes from the level's registry entry.
      *
      * @param killsToAdvance The number of kills the player must achieve to advance.
-     * @param nextLevel      The fully qualified class name of the next level.
      */
-    public GameProgressManager(int killsToAdvance, String nextLevel) {
+    public GameProgressManager(int killsToAdvance) {
         this.killsToAdvance = killsToAdvance; // Set the kill count required to advance
-        this.nextLevel = nextLevel; // Set the name of the next level
     }
 
     /**
@@ -38,16 +37,16 @@ public class GameProgressManager {
         // Check if the player's plane is destroyed
         if (userPlane.getHealth() <= 0) {
             level.loseGame(); // End the game with a loss
-            System.out.println("Game over! Player's plane was destroyed.");
+            LOG.info("Game over! Player's plane was destroyed.");
         } 
         // Check if the player's kill count meets or exceeds the target to advance
         else if (userPlane.getNumberOfKills() >= killsToAdvance) {
-            level.goToNextLevel(nextLevel); // Transition to the next level
-            System.out.println("Congratulations! Advancing to the next level: " + nextLevel);
+            LOG.info("Congratulations! Advancing to the next level.");
+            level.goToNextLevel(); // Transition to the level that follows in the registry
         } 
-        // Debugging output: Log the player's current progress
-        else {
-            System.out.println("Player progress: " + userPlane.getNumberOfKills() + "/" + killsToAdvance + " kills.");
+        // Debugging output: Log the player's current progress, skipped unless debug logging is enabled
+        else if (LOG.isDebugEnabled()) {
+            LOG.debug(() -> "Player progress: " + userPlane.getNumberOfKills() + "/" + killsToAdvance + " kills.");
         }
     }
 
@@ -60,26 +59,16 @@ public class GameProgressManager {
         return killsToAdvance;
     }
 
-    /**
-     * Retrieves the name of the next level to transition to.
-     *
-     * @return The fully qualified class name of the next level.
-     */
-    public String getNextLevel() {
-        return nextLevel;
-    }
-
     /**
      * Provides a string representation of the GameProgressManager.
      * Useful for debugging or logging purposes.
      *
-     * @return A string containing the killsToAdvance and nextLevel values.
+     * @return A string containing the killsToAdvance value.
      */
     @Override
     public String toString() {
         return "GameProgressManager{" +
                "killsToAdvance=" + killsToAdvance +
-               ", nextLevel='" + nextLevel + '\'' +
                '}';
     }
 }
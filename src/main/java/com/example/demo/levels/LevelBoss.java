@@ -1,6 +1,11 @@
 package com.example.demo.levels;
 
 import com.example.demo.actors.Boss;
+import com.example.demo.events.DamageEvent;
+import com.example.demo.events.ShieldToggleEvent;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.utils.AssetManifest;
 
 import javafx.stage.Stage;
 
@@ -14,8 +19,11 @@ public class LevelBoss extends LevelParent {
     // Background image for the level
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/space3.jpg";
 
+    // Images and music to load before the level starts
+    static final AssetManifest ASSETS = levelAssets(BACKGROUND_IMAGE_NAME).build();
+
     // Initial health of the player's plane
-    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final int PLAYER_INITIAL_HEALTH = LevelRules.LEVEL_BOSS.getPlayerInitialHealth();
 
     // Instance of the boss plane
     private final Boss boss;
@@ -31,10 +39,17 @@ public class LevelBoss extends LevelParent {
      * @param stage        The main game stage.
      */
     public LevelBoss(double screenHeight, double screenWidth, Stage stage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage);
+        // The boss fills the screen with projectiles, so they are drawn onto one canvas
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, stage, RenderBackend.CANVAS);
+
+        // Initialize the boss with a reference to this LevelBoss and the level's random source
+        boss = new Boss(this, screenHeight, getRandom());
 
-        // Initialize the boss with a reference to this LevelBoss
-        boss = new Boss(this, screenHeight);
+        // Show the boss's health and shield when it reports changes
+        getEventBus().subscribe(ShieldToggleEvent.class, event -> updateShieldState());
+        getEventBus().subscribe(DamageEvent.class, event -> {
+            if (event.getTarget() == boss) updateBossHealthDisplay(event.getHealth());
+        });
     }
 
     /**
@@ -43,7 +58,7 @@ public class LevelBoss extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         // Add the user plane to the game root
-        getRoot().getChildren().add(getUser());
+        addToScene(Layer.PLANES, getUser());
     }
 
     /**
@@ -80,23 +95,22 @@ public class LevelBoss extends LevelParent {
     @Override
     protected LevelView instantiateLevelView() {
         // Create a LevelViewBoss specific to this level
-        levelView = new LevelViewBoss(getRoot(), PLAYER_INITIAL_HEALTH);
+        levelView = new LevelViewBoss(getLayers(), PLAYER_INITIAL_HEALTH);
         return levelView;
     }
 
     /**
-     * Updates the scene during each frame of the game.
-     * This includes calling the parent class's update logic and additional boss-specific updates.
+     * Puts the boss back at full health and position for a restart.
      */
     @Override
-    protected void updateScene() {
-        super.updateScene(); // Call the parent class's update logic
-        updateShieldState(); // Update the shield state for the boss
+    protected void resetLevel() {
+        boss.reset(); // Reshuffled from the reseeded random source, as on a fresh start
+        updateBossHealthDisplay(boss.getHealth());
     }
 
     /**
      * Updates the shield display for the boss.
-     * Displays the shield if active, otherwise hides it.
+     * Displays the shield if active, otherwise hides it. Called whenever the boss toggles its shield.
      */
     public void updateShieldState() {
         if (boss.isDestroyed()) return; // Do nothing if the boss is already destroyed
@@ -0,0 +1,28 @@
+package com.example.demo.levels;
+
+import com.example.demo.utils.AssetManifest;
+
+import java.util.List;
+
+/**
+ * LevelDefinition describes one registered level: its id, its class, how to create it, the
+ * assets it needs and which levels it leads to.
+ *
+ * @param id         Identifier of the level, the fully qualified name of its class.
+ * @param type       The level class.
+ * @param factory    Creates new instances of the level.
+ * @param assets     Images and media to load before the level is created.
+ * @param nextLevels Ids of the levels reachable from this one, in order.
+ */
+public record LevelDefinition(String id, Class<? extends LevelParent> type, LevelFactory factory,
+                              AssetManifest assets, List<String> nextLevels) {
+
+    /**
+     * Checks if the level leads to no other level, i.e. the game is won after it.
+     *
+     * @return True if the level is a final level, otherwise false.
+     */
+    public boolean isFinal() {
+        return nextLevels.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.levels;
+
+import javafx.stage.Stage;
+
+/**
+ * LevelFactory creates a new instance of a level.
+ * Factories are plain constructor references such as {@code LevelOne::new}, so loading a level
+ * is a direct call instead of a reflective lookup.
+ */
+@FunctionalInterface
+public interface LevelFactory {
+
+    /**
+     * Creates the level.
+     *
+     * @param screenHeight Height of the game screen.
+     * @param screenWidth  Width of the game screen.
+     * @param stage        The main game stage.
+     * @return The new level, not yet started.
+     */
+    LevelParent create(double screenHeight, double screenWidth, Stage stage);
+}
@@ -1,35 +1,104 @@
 package com.example.demo.levels;
 
 // Importing necessary classes
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-import java.lang.reflect.Constructor;
+import com.example.demo.events.LevelTransitionEvent;
 import com.example.demo.listeners.EventListener;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.utils.AssetLoad;
+import com.example.demo.utils.AssetLoader;
+import com.example.demo.utils.ErrorHandler;
+import com.example.demo.utils.GameLogger;
 
 /**
  * LevelManager class is responsible for managing level transitions in the game.
- * It handles loading levels dynamically and initializing their scenes on the stage.
+ * It creates levels through the {@link LevelRegistry} and initializes their scenes on the stage.
+ * A level is only created once its assets are loaded, and while it runs the assets of the levels
+ * it leads to are loaded in the background.
  */
 public class LevelManager {
 
+    // Logger for level loading
+    private static final GameLogger LOG = GameLogger.getLogger(LevelManager.class);
+
     // Primary stage of the application where levels are displayed
     private final Stage stage;
 
-    // Shared EventListener instance for property changes
+    // Registered levels and their factories
+    private final LevelRegistry registry;
+
+    // Loads level assets in the background
+    private final AssetLoader assetLoader;
+
+    // Shared EventListener instance for level transition events
     private EventListener eventListener;
 
+    // The level currently on the stage, disposed when the next one starts
+    private LevelParent currentLevel;
+
+    // Optional recording of the player's input, shared by all levels of the game
+    private InputRecorder inputRecorder;
+
+    // Optional recording the levels are replayed from, and the replay speed
+    private InputReplay inputReplay;
+    private double replaySpeed = 1.0;
+
     /**
      * Constructor for LevelManager.
+     * Uses the levels of every LevelProvider found on the module path.
      *
      * @param stage The primary stage of the application.
      */
     public LevelManager(Stage stage) {
+        this(stage, LevelRegistry.load());
+    }
+
+    /**
+     * Constructor for LevelManager with a given set of levels.
+     *
+     * @param stage    The primary stage of the application.
+     * @param registry The levels that can be loaded.
+     */
+    public LevelManager(Stage stage, LevelRegistry registry) {
         // Assign the stage for displaying levels
         this.stage = stage;
+        this.registry = registry;
+        this.assetLoader = AssetLoader.getShared();
+    }
+
+    /**
+     * Retrieves the registry of loadable levels.
+     *
+     * @return The level registry.
+     */
+    public LevelRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Retrieves the level currently on the stage.
+     *
+     * @return The current level, or null before the first level starts.
+     */
+    public LevelParent getCurrentLevel() {
+        return currentLevel;
     }
 
     /**
-     * Sets the EventListener instance for managing property changes.
+     * Disposes the level currently on the stage, if any, so it can be garbage collected.
+     */
+    public void disposeCurrentLevel() {
+        if (currentLevel != null) {
+            currentLevel.dispose();
+            currentLevel = null;
+        }
+    }
+
+    /**
+     * Sets the EventListener instance that handles level transition events.
      *
      * @param eventListener The EventListener to assign.
      */
@@ -39,29 +108,107 @@ public class LevelManager {
     }
 
     /**
-     * Loads and transitions to the specified level using reflection.
+     * Records the input of every level loaded from now on.
+     *
+     * @param inputRecorder The recording to write to, or null to stop recording.
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * Replays every level loaded from now on from a recording.
+     *
+     * @param inputReplay The recording to play, or null to use the keyboard.
+     * @param speed       How much faster than real time the replay runs.
+     */
+    public void setInputReplay(InputReplay inputReplay, double speed) {
+        this.inputReplay = inputReplay;
+        this.replaySpeed = speed;
+    }
+
+    /**
+     * Starts loading the assets of a level in the background.
      *
-     * @param className Fully qualified class name of the level to load.
-     * @throws Exception If the class is not found, the constructor is missing, or instantiation fails.
+     * @param levelId Id of the level.
+     * @return The asset load, which may already be complete.
+     * @throws IllegalArgumentException if the level is not registered.
      */
-    public void goToLevel(String className) throws Exception {
+    public AssetLoad prefetch(String levelId) {
+        return assetLoader.load(registry.get(levelId).assets());
+    }
+
+    /**
+     * Loads and transitions to the specified level.
+     * If the level's assets are still loading, the transition happens on the JavaFX application
+     * thread as soon as they are resident; errors at that point are reported to the user.
+     *
+     * @param levelId Id of the level to load, the fully qualified name of its class.
+     * @throws Exception If the level is not registered or creating and starting it fails.
+     */
+    public void goToLevel(String levelId) throws Exception {
+        LevelDefinition definition;
         try {
-            // Dynamically load the level class by its fully qualified class name
-            Class<?> levelClass = Class.forName(className);
+            definition = registry.get(levelId);
+        } catch (IllegalArgumentException e) {
+            // Handle case where the level is not registered
+            throw new Exception("Level not registered: " + levelId, e);
+        }
 
-            // Get the constructor of the level class with parameters: (double, double, Stage)
-            Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, Stage.class);
+        // Only create the level once everything it shows and plays is loaded
+        AssetLoad assets = assetLoader.load(definition.assets());
+        if (assets.isDone()) {
+            startLevel(definition);
+            return;
+        }
+        LOG.info(() -> "Waiting for the assets of " + levelId);
+        assets.whenLoaded(() -> Platform.runLater(() -> {
+            try {
+                startLevel(definition);
+            } catch (Exception e) {
+                ErrorHandler.showError(
+                    "Level Transition Error",
+                    "An error occurred during the level transition",
+                    e
+                );
+            }
+        }));
+    }
+
+    /**
+     * Creates and starts a level whose assets are loaded, then prefetches the levels it leads to.
+     *
+     * @param definition The level to start.
+     * @throws Exception If creating or starting the level fails.
+     */
+    private void startLevel(LevelDefinition definition) throws Exception {
+        String levelId = definition.id();
+        try {
+            // Make sure the sprites are packed; usually the main menu already did it in the background
+            LevelParent.packSpriteAtlas();
 
-            // Create an instance of the level using the constructor
-            LevelParent level = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage);
+            // Create the level through its factory, as large as the content area the current scene fills
+            Scene current = stage.getScene();
+            double width = current != null ? current.getWidth() : LevelParent.DEFAULT_SCREEN_WIDTH;
+            double height = current != null ? current.getHeight() : LevelParent.DEFAULT_SCREEN_HEIGHT;
+            LevelParent level = definition.factory().create(height, width, stage);
+            level.setRegistryEntry(registry, definition); // The level finds its successors in the registry
 
-            // Register the shared EventListener as a property change listener for the level
+            // Subscribe the shared EventListener to the level's transition requests
             if (eventListener != null) {
-                level.addPropertyChangeListener(eventListener);
+                level.getEventBus().subscribe(LevelTransitionEvent.class, eventListener);
             } else {
                 throw new IllegalStateException("EventListener is not set. Ensure it is initialized in Controller.");
             }
 
+            // Attach the input recording or replay, if any
+            if (inputRecorder != null) {
+                level.recordInput(inputRecorder);
+            }
+            if (inputReplay != null) {
+                level.replayInput(inputReplay, replaySpeed);
+            }
+
             // Initialize the level's scene
             Scene scene = level.initializeScene();
 
@@ -70,18 +217,18 @@ public class LevelManager {
 
             // Start the game for the newly loaded level
             level.startGame();
-        } catch (ClassNotFoundException e) {
-            // Handle case where the specified class does not exist
-            throw new Exception("Level class not found: " + className, e);
-        } catch (NoSuchMethodException e) {
-            // Handle case where the expected constructor is missing
-            throw new Exception("Constructor with required parameters not found in level class: " + className, e);
-        } catch (ClassCastException e) {
-            // Handle case where the loaded class cannot be cast to LevelParent
-            throw new Exception("Loaded class does not extend LevelParent: " + className, e);
+
+            // Release the previous level now that its scene is off the stage
+            disposeCurrentLevel();
+            currentLevel = level;
+
+            // Load the following levels while this one is played
+            for (LevelDefinition next : registry.getNextLevels(levelId)) {
+                assetLoader.load(next.assets());
+            }
         } catch (Exception e) {
             // Handle any other errors that occur during level loading or transition
-            throw new Exception("Failed to load level: " + className, e);
+            throw new Exception("Failed to load level: " + levelId, e);
         }
     }
 }
@@ -1,7 +1,10 @@
 package com.example.demo.levels;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.EnemyPlane;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.utils.AssetManifest;
+import com.example.demo.utils.GameLogger;
 import javafx.stage.Stage;
 
 /**
@@ -10,20 +13,20 @@ import javafx.stage.Stage;
  */
 public class LevelOne extends LevelParent {
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(LevelOne.class);
+
     // Background image for the level
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/space.jpg";
 
-    // Class name of the next level to transition to
-    private static final String NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
+    // Images and music to load before the level starts
+    static final AssetManifest ASSETS = levelAssets(BACKGROUND_IMAGE_NAME).build();
 
-    // Total number of enemies allowed in the level at one time
-    private static final int TOTAL_ENEMIES = 5;
+    // Tuning values shared with the headless simulation
+    private static final LevelRules RULES = LevelRules.LEVEL_ONE;
 
     // Kill count required to advance to the next level
-    private static final int KILLS_TO_ADVANCE = 10;
-
-    // Probability of spawning an enemy on each frame
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.20;
+    private static final int KILLS_TO_ADVANCE = RULES.getKillsToAdvance();
 
     /**
      * Constructor for LevelOne.
@@ -35,7 +38,7 @@ public class LevelOne extends LevelParent {
      */
     public LevelOne(double screenHeight, double screenWidth, Stage stage) {
         // Call the parent class constructor with specific parameters for LevelOne
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, 5, stage);
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, RULES.getPlayerInitialHealth(), stage);
     }
 
     /**
@@ -50,7 +53,7 @@ public class LevelOne extends LevelParent {
         }
         // Check if the player's kill count has reached the target to advance
         else if (getUser().getNumberOfKills() >= KILLS_TO_ADVANCE) {
-            goToNextLevel(NEXT_LEVEL); // Transition to the next level
+            goToNextLevel(); // Transition to the level that follows in the registry
         }
     }
 
@@ -61,8 +64,7 @@ public class LevelOne extends LevelParent {
     @Override
     protected void initializeFriendlyUnits() {
         // Add the user's plane to the root node of the game scene
-        getRoot().getChildren().add(getUser());
-        getUser().toFront(); // Bring to the front for visibility
+        addToScene(Layer.PLANES, getUser());
     }
 
     /**
@@ -71,14 +73,9 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies(); // Get the current number of enemies
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) { // Check spawn probability
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition(); // Random Y position
-                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition); // Create a new enemy
-                addEnemyUnit(newEnemy); // Add the enemy to the game
-            }
-        }
+        // Roll the shared spawn rule for every free slot and add an enemy at each Y position it picks
+        RULES.spawnEnemies(getCurrentNumberOfEnemies(), getRandom(), getEnemyMaximumYPosition(),
+                y -> addEnemyUnit(new EnemyPlane(getScreenWidth(), y, getRandom())));
     }
 
     /**
@@ -90,7 +87,7 @@ public class LevelOne extends LevelParent {
     @Override
     protected LevelView instantiateLevelView() {
         // Create and return a LevelView object for this level, with the player's initial health
-        return new LevelView(getRoot(), 5);
+        return new LevelView(getLayers(), RULES.getPlayerInitialHealth());
     }
 
     /**
@@ -100,8 +97,10 @@ public class LevelOne extends LevelParent {
     protected void updateScene() {
         super.updateScene(); // Ensure parent logic is also executed
 
-        // Debugging log for user plane position
-        System.out.println("UserPlane Position: X=" + (getUser().getLayoutX() + getUser().getTranslateX()) +
-                           ", Y=" + (getUser().getLayoutY() + getUser().getTranslateY()));
+        // Debugging log for user plane position, skipped unless debug logging is enabled
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(() -> "UserPlane Position: X=" + (getUser().getLayoutX() + getUser().getTranslateX()) +
+                            ", Y=" + (getUser().getLayoutY() + getUser().getTranslateY()));
+        }
     }
 }
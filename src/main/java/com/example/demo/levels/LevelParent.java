@@ -1,35 +1,62 @@
 package com.example.demo.levels;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.audio.MusicService;
+import com.example.demo.audio.SoundEffect;
+import com.example.demo.audio.SoundEffects;
+import com.example.demo.events.DamageEvent;
+import com.example.demo.events.GameEventBus;
+import com.example.demo.events.KillEvent;
+import com.example.demo.events.LevelTransitionEvent;
+import com.example.demo.events.ScoreEvent;
+import com.example.demo.events.SpawnEvent;
 import com.example.demo.actors.FighterPlane;
 import com.example.demo.actors.UserPlane;
+import com.example.demo.levels.FrameProfiler.Phase;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.projectiles.Projectile;
+import com.example.demo.replay.InputAction;
+import com.example.demo.replay.InputRecorder;
+import com.example.demo.replay.InputReplay;
+import com.example.demo.replay.LevelReplay;
 import com.example.demo.ui.MainMenu;
 import com.example.demo.ui.PauseMenu;
-
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.example.demo.ui.ProfilerOverlay;
+import com.example.demo.utils.AssetManifest;
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.ImageCache;
+import com.example.demo.utils.SpatialHash;
+import com.example.demo.utils.Sprites;
+import com.example.demo.utils.TextureAtlas;
+
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-import java.lang.reflect.Constructor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * LevelParent is an abstract class that serves as the foundation for all game levels.
  * It encapsulates common functionalities such as:
- * - Managing the game loop with a timeline
+ * - Managing the fixed-timestep game loop and render interpolation
  * - Handling user input and controls
  * - Spawning and managing enemy units and projectiles
  * - Detecting collisions and updating the game state
@@ -41,8 +68,14 @@ public abstract class LevelParent {
 
     // Constants for screen adjustment, frame delay, and default background music
     private static final double SCREEN_HEIGHT_ADJUSTMENT = 150; // Adjustment factor for screen height
-    private static final int MILLISECOND_DELAY = 50; // Delay between game loop frames
+    static final double DEFAULT_SCREEN_WIDTH = 1300; // Scene width the level assets are prepared for, as set up by MainMenu
+    static final double DEFAULT_SCREEN_HEIGHT = 750; // Scene height the level assets are prepared for, as set up by MainMenu
+    private static final int MILLISECOND_DELAY = 50; // Length of one fixed simulation step
     private static final String DEFAULT_LEVEL_MUSIC = "/com/example/demo/sounds/level_music.wav"; // Default music file path
+    static final double COLLISION_CELL_SIZE = 200; // Cell size of the collision grids, roughly one plane wide
+    private static final double DEFAULT_CULLING_MARGIN = 200; // Distance beyond the screen edges at which projectiles are retired
+    private static final GameLogger LOG = GameLogger.getLogger(LevelParent.class); // Logger for level events
+    private static final DateTimeFormatter PROFILE_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"); // Profiler dump file names
 
     // Screen dimensions and enemy positioning
     private final double screenHeight; // Height of the screen
@@ -51,10 +84,15 @@ public abstract class LevelParent {
 
     // Core game elements
     private final Group root; // Root group for the scene graph
-    private final Timeline timeline; // Timeline managing the game loop
+    private final SceneLayers layers; // Fixed stack of groups under the root, from background to overlay
+    private final RenderBackend renderBackend; // How the planes and projectiles are drawn
+    private final CanvasRenderer canvasRenderer; // Draws the actors with the canvas backend, otherwise null
+    private final GameLoop gameLoop; // Fixed-timestep loop driving the simulation and rendering
     private final UserPlane user; // User-controlled plane
     private final Scene scene; // The game scene
     private final ImageView background; // Background image for the level
+    private final GameRandom random; // Source of randomness for this level, seeded from the game seed
+    private final int playerInitialHealth; // Health the player's plane starts (and restarts) with
 
     // Lists for managing game entities
     private final List<ActiveActorDestructible> friendlyUnits; // List of friendly units
@@ -62,6 +100,28 @@ public abstract class LevelParent {
     private final List<ActiveActorDestructible> userProjectiles; // List of user-fired projectiles
     private final List<ActiveActorDestructible> enemyProjectiles; // List of enemy-fired projectiles
 
+    // Collision broadphase, rebuilt from the unit lists every step
+    private final SpatialHash<ActiveActorDestructible> friendlyGrid; // Grid of friendly units
+    private final SpatialHash<ActiveActorDestructible> enemyGrid; // Grid of enemy units
+    private final BiConsumer<ActiveActorDestructible, ActiveActorDestructible> collisionHandler = this::damageBoth;
+    private final Set<ActiveActorDestructible> removedActors = Collections.newSetFromMap(new IdentityHashMap<>()); // Actors leaving the scene this step
+    private final SoundEffects soundEffects = SoundEffects.getShared(); // Mixer for shot, hit and explosion sounds
+
+    // Offscreen culling and actor statistics
+    private double cullingMargin = DEFAULT_CULLING_MARGIN; // How far outside the screen a projectile may travel
+    private final GameMetrics metrics = new GameMetrics(); // Counters about live and culled actors
+
+    // Player input, applied at the start of the next simulation step so it can be recorded and replayed
+    private final ArrayDeque<InputAction> pendingInput = new ArrayDeque<>(); // Inputs received since the last step
+    private long tick; // Number of simulation steps run by this level
+    private InputRecorder inputRecorder; // Records every applied input, or null
+    private LevelReplay levelReplay; // This level's recorded inputs, or null when the keyboard is used
+    private InputReplay inputReplay; // The recording this level is replayed from, or null
+
+    // Frame profiling
+    private final FrameProfiler profiler = new FrameProfiler(); // Per-phase timings of each step
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay(10, 80, this::profilerReport); // On-screen statistics
+
     // Game state variables
     private int currentNumberOfEnemies; // Current count of active enemies
     private LevelView levelView; // UI and visual representation of the level
@@ -71,11 +131,18 @@ public abstract class LevelParent {
     // Pause and music controls
     private PauseMenu pauseMenu; // Pause menu interface
     private boolean isPaused; // Flag indicating if the game is paused
+    private boolean disposed; // Set once the level has released its resources
     private final Stage stage; // The main game stage
-    private MediaPlayer backgroundMusicPlayer; // Background music player
+    private LevelRegistry registry; // Registry this level was created from, handed back to the main menu
+    private LevelDefinition definition; // Registry entry of this level, naming the levels it leads to
 
-    // Listener support for property changes
-    private final PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this); // Listener management
+    // Game events, and one reusable instance of every event type this class publishes
+    private final GameEventBus eventBus = new GameEventBus(); // Delivers kills, damage, spawns, score and transitions
+    private final KillEvent killEvent = new KillEvent();
+    private final ScoreEvent scoreEvent = new ScoreEvent();
+    private final DamageEvent damageEvent = new DamageEvent();
+    private final SpawnEvent spawnEvent = new SpawnEvent();
+    private final LevelTransitionEvent transitionEvent = new LevelTransitionEvent();
 
 
     /**
@@ -89,23 +156,54 @@ public abstract class LevelParent {
      * @param stage               The primary stage on which the game will be displayed.
      */
     public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Stage stage) {
+        // Levels that do not choose a backend follow the game.renderer system property
+        this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, stage, RenderBackend.fromSystemProperty());
+    }
+
+    /**
+     * Constructor for the LevelParent class with a chosen render backend.
+     * Levels with many projectiles can pass {@link RenderBackend#CANVAS} to draw them all onto a single canvas.
+     *
+     * @param backgroundImageName Name of the background image file to be used for the level.
+     * @param screenHeight        The height of the game screen.
+     * @param screenWidth         The width of the game screen.
+     * @param playerInitialHealth The initial health value for the user's plane.
+     * @param stage               The primary stage on which the game will be displayed.
+     * @param renderBackend       How the level draws its planes and projectiles.
+     */
+    public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+                       Stage stage, RenderBackend renderBackend) {
+        this.renderBackend = renderBackend;
+        this.random = GameRandom.forLevel(getClass().getSimpleName()); // Derive this level's seed from the game seed
         this.root = new Group(); // Create the root group for the scene graph
+        this.layers = new SceneLayers(root); // Split the scene graph into layers
+        this.canvasRenderer = renderBackend == RenderBackend.CANVAS
+                ? new CanvasRenderer(screenWidth, screenHeight) : null; // Draw actors as nodes or onto one canvas
+        if (canvasRenderer != null) {
+            layers.add(Layer.PLANES, canvasRenderer.getCanvas()); // Planes and projectiles are drawn here
+        }
         this.scene = new Scene(root, screenWidth, screenHeight); // Initialize the game scene
-        this.timeline = new Timeline(); // Set up the game timeline
+        this.gameLoop = new GameLoop(MILLISECOND_DELAY, this::stepSimulation, this::renderFrame); // Set up the game loop
         this.user = new UserPlane(playerInitialHealth); // Create the user-controlled plane with initial health
+        this.playerInitialHealth = playerInitialHealth; // Kept for restarts
         this.friendlyUnits = new ArrayList<>(); // Initialize the list of friendly units
         this.enemyUnits = new ArrayList<>(); // Initialize the list of enemy units
         this.userProjectiles = new ArrayList<>(); // Initialize the list of user projectiles
         this.enemyProjectiles = new ArrayList<>(); // Initialize the list of enemy projectiles
 
         // Set up the background image for the level
-        this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+        // Looked up under the same key the manifest preloaded it with, so it is never decoded on the FX thread
+        this.background = new ImageView(ImageCache.getShared().get(backgroundAsset(backgroundImageName)));
 
         // Set screen dimensions and enemy position limits
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
         this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT; // Define the maximum Y position for enemies
 
+        // Set up the collision grids covering the playfield
+        this.friendlyGrid = new SpatialHash<>(COLLISION_CELL_SIZE, screenWidth, screenHeight);
+        this.enemyGrid = new SpatialHash<>(COLLISION_CELL_SIZE, screenWidth, screenHeight);
+
         // Initialize the level view
         this.levelView = instantiateLevelView();
 
@@ -115,24 +213,62 @@ public abstract class LevelParent {
         this.score = 0; // Initialize player score
         this.scoreDisplay = new Text(screenWidth - 150, 50, "Score: 0"); // Create the score display text
         scoreDisplay.setStyle("-fx-font-size: 24px; -fx-fill: white;"); // Set the style for the score text
-        getRoot().getChildren().add(scoreDisplay); // Add the score display to the root group
-        scoreDisplay.toFront(); // Ensure the score display is visible at the front
+        layers.add(Layer.HUD, scoreDisplay); // Add the score display to the HUD layer
 
-        // Initialize the game timeline and add the user plane to the friendly units
-        initializeTimeline();
+        // Add the user plane to the friendly units
         friendlyUnits.add(user);
 
-        // Initialize the background music with the default music file
-        initializeBackgroundMusic(DEFAULT_LEVEL_MUSIC);
+        // Keep the HUD up to date from the events of each step
+        eventBus.subscribe(ScoreEvent.class, event -> updateScoreDisplay());
+        eventBus.subscribe(DamageEvent.class, event -> {
+            if (event.getTarget() == user) updateLevelView();
+        });
+    }
+
+
+    /**
+     * Starts the asset manifest of a level with the assets every level uses: its background at the
+     * default window size, the level music and the end-of-game images.
+     * Sprites are not listed; they are packed into the shared texture atlas by {@link #packSpriteAtlas()}.
+     *
+     * @param backgroundImageName The classpath location of the level's background image.
+     * @return A builder containing the common assets.
+     */
+    protected static AssetManifest.Builder levelAssets(String backgroundImageName) {
+        return AssetManifest.builder()
+                .image(backgroundAsset(backgroundImageName))
+                .media(DEFAULT_LEVEL_MUSIC)
+                .image(Sprites.WIN)
+                .image(Sprites.GAME_OVER);
+    }
+
+    /**
+     * Describes a level background as it is preloaded and shown: decoded at the default scene size.
+     * Both the manifest and the constructor use this key, so the lookup always finds the preloaded image.
+     *
+     * @param backgroundImageName The classpath location of the background image.
+     * @return The image asset.
+     */
+    private static ImageAsset backgroundAsset(String backgroundImageName) {
+        return new ImageAsset(backgroundImageName, DEFAULT_SCREEN_WIDTH, DEFAULT_SCREEN_HEIGHT, false);
     }
 
+    /**
+     * Packs the sprites of every level into the shared texture atlas, unless that already happened.
+     * Safe to call from any thread; the main menu does it in the background.
+     *
+     * @return The shared texture atlas.
+     */
+    public static TextureAtlas packSpriteAtlas() {
+        return TextureAtlas.packShared(Sprites.ATLAS);
+    }
 
     /**
      * Initializes and adds the UserPlane to the scene graph.
      * Ensures that the UserPlane is part of the game environment and visible to the player.
      */
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(user); // Ensures UserPlane is in the scene graph
+        addToScene(Layer.PLANES, user); // Ensures UserPlane is in the scene graph
     }
 
     /**
@@ -157,21 +293,17 @@ public abstract class LevelParent {
 
 
     /**
-     * Initializes the background music for the level.
-     * Loads a media file from the specified path and sets up a MediaPlayer to play it.
-     * The music will loop indefinitely during gameplay.
-     * If an error occurs while loading the music, an error message is printed to the console.
+     * Plays the level's background music through the shared {@link MusicService}.
+     * If the previous level or a restart left the same track playing, it simply continues;
+     * otherwise the service crossfades to it. Errors are logged and the level runs without music.
      *
-     * @param musicPath The relative path to the background music file.
+     * @param musicPath The classpath location of the background music file.
      */
-    private void initializeBackgroundMusic(String musicPath) {
+    private void playBackgroundMusic(String musicPath) {
         try {
-            Media backgroundMusic = new Media(getClass().getResource(musicPath).toExternalForm());
-            backgroundMusicPlayer = new MediaPlayer(backgroundMusic);
-            backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+            MusicService.getShared().play(musicPath); // Opened from the MediaCache, preloaded by the AssetLoader
         } catch (Exception e) {
-            System.err.println("Error loading level background music: " + musicPath);
-            e.printStackTrace();
+            LOG.error("Error loading level background music: " + musicPath, e);
         }
     }
 
@@ -186,11 +318,17 @@ public abstract class LevelParent {
         initializeBackground(); // Set up the game background
         initializeFriendlyUnits(); // Add friendly units to the scene
         levelView.showHeartDisplay(); // Display player health or lives
+        layers.add(Layer.OVERLAY, profilerOverlay.getRoot()); // Add the (hidden) profiler overlay
 
-        // Configure key press event handling for pausing the game
+        // Configure key press event handling for pausing the game and the profiler tools
         scene.setOnKeyPressed(e -> {
             if (e.getCode() == KeyCode.P) {
                 togglePause();
+                recordPause(); // Keep pauses in the recording for reference
+            } else if (e.getCode() == KeyCode.F3) {
+                profilerOverlay.toggle(); // Show or hide the profiler statistics
+            } else if (e.getCode() == KeyCode.F4) {
+                dumpProfile(); // Write the profiler statistics to a file
             }
         });
 
@@ -199,31 +337,54 @@ public abstract class LevelParent {
 
 
     /**
-     * Starts the game by playing background music (if available) and initiating the game timeline.
+     * Starts the game by playing background music (if available) and starting the game loop.
      * Also ensures the game background receives focus to capture user inputs.
      */
     public void startGame() {
-        if (backgroundMusicPlayer != null) {
-            backgroundMusicPlayer.play(); // Play the background music
+        if (disposed) {
+            throw new IllegalStateException(getLevelId() + " has been disposed and cannot be started.");
         }
+        playBackgroundMusic(DEFAULT_LEVEL_MUSIC); // Play or continue the level music
         background.requestFocus(); // Set focus to the game background for input handling
-        timeline.play(); // Start the game timeline for animations and game updates
+        LOG.info(() -> getClass().getSimpleName() + " started with seed " + random.getSeed()
+                + " (game seed " + GameRandom.getGameSeed() + ")"); // Record the seeds needed to reproduce the level
+        LOG.info(() -> "Image memory: " + ImageCache.getShared()); // Report decoded image memory and the savings of display-size decoding
+        gameLoop.start(); // Start the game loop for simulation and rendering
     }
 
 
     /**
-     * Handles the transition to the next level in the game.
-     * Stops the current game timeline, logs the level transition, and notifies listeners of the change.
+     * Moves on to the level that follows this one in the {@link LevelRegistry}.
+     * The order of the levels is declared only there; if this level leads nowhere, the game is won.
+     * A level created outside a {@link LevelManager} has no registry entry and stays where it is.
+     */
+    protected void goToNextLevel() {
+        if (definition == null) {
+            LOG.warn(getLevelId() + " is not registered with a LevelManager; no next level to go to");
+            return;
+        }
+        if (definition.isFinal()) {
+            winGame();
+            return;
+        }
+        goToNextLevel(definition.nextLevels().get(0));
+    }
+
+    /**
+     * Handles the transition to a given level, e.g. for levels that branch.
+     * Stops the current game loop, logs the level transition, and notifies listeners of the change.
      *
-     * @param levelName The name of the next level to transition to.
+     * @param levelName The id of the level to transition to.
      */
     public void goToNextLevel(String levelName) {
         try {
-            System.out.println("Transitioning to next level: " + levelName); // Debug statement for tracking level changes
-            timeline.stop(); // Stop the current game timeline
-            propertyChangeSupport.firePropertyChange("levelTransition", null, levelName); // Notify observers about the level transition
+            LOG.info(() -> "Transitioning to next level: " + levelName); // Track level changes
+            gameLoop.stop(); // Stop the current game loop
+            endInputRecording(); // Close this level's part of the recording
+            soundEffects.play(SoundEffect.LEVEL_UP); // Celebrate the completed level
+            eventBus.publish(transitionEvent.set(levelName)); // Notify listeners about the level transition
         } catch (Exception e) {
-            e.printStackTrace(); // Handle any exceptions during the transition
+            LOG.error("Level transition failed", e); // Handle any exceptions during the transition
         }
     }
 
@@ -236,33 +397,244 @@ public abstract class LevelParent {
     protected void updateScene() {
         if (isPaused) return; // Skip updates if the game is paused
 
+        long time = profiler.start(); // Timestamp for the per-phase measurements
         user.updateActor(); // Update the state and position of the user-controlled actor
-        getRoot().layout(); // Re-render the scene graph to reflect changes
+        time = profiler.lap(Phase.USER_UPDATE, time);
 
         spawnEnemyUnits(); // Spawn new enemy units as needed
+        time = profiler.lap(Phase.SPAWN_ENEMIES, time);
         updateActors(); // Update all active actors in the scene
+        time = profiler.lap(Phase.UPDATE_ACTORS, time);
         generateEnemyFire(); // Handle enemy firing logic
+        time = profiler.lap(Phase.ENEMY_FIRE, time);
         updateNumberOfEnemies(); // Track the current number of enemies in play
         handleEnemyPenetration(); // Manage logic when enemies pass through certain boundaries
+        time = profiler.lap(Phase.ENEMY_PENETRATION, time);
+        cullOffscreenProjectiles(); // Retire projectiles that have left the playfield
+        time = profiler.lap(Phase.CULLING, time);
+        buildCollisionGrids(); // Index the planes so each collision pass only checks nearby actors
         handleUserProjectileCollisions(); // Check and process collisions between user projectiles and enemies
         handleEnemyProjectileCollisions(); // Check and process collisions between enemy projectiles and the user
         handlePlaneCollisions(); // Handle collisions between planes (e.g., user vs. enemy)
+        time = profiler.lap(Phase.COLLISIONS, time);
         removeAllDestroyedActors(); // Remove actors marked for destruction
+        time = profiler.lap(Phase.REMOVE_DESTROYED, time);
         updateKillCount(); // Update the player's kill count
-        updateLevelView(); // Update the level's UI and visual state
+        recordMetrics(); // Publish the actor counts of this step
+        eventBus.flush(); // Deliver the events of this step to the HUD and other listeners
+        time = profiler.lap(Phase.LEVEL_VIEW, time);
         checkIfGameOver(); // Determine if the game over condition has been met
+        profiler.lap(Phase.GAME_OVER_CHECK, time);
+    }
+
+
+    /**
+     * Runs a single fixed simulation step.
+     * Every actor records its position as the interpolation origin before the scene is updated,
+     * which keeps the step deterministic regardless of how often frames are rendered.
+     */
+    private void stepSimulation() {
+        long start = profiler.start();
+        prepareActorsForStep(friendlyUnits);
+        prepareActorsForStep(enemyUnits);
+        prepareActorsForStep(userProjectiles);
+        prepareActorsForStep(enemyProjectiles);
+        applyInput();
+        updateScene();
+        tick++;
+        profiler.lap(Phase.STEP, start);
+    }
+
+    /**
+     * Applies the player inputs for the step that is starting.
+     * While a replay is running they come from the recording; otherwise the keyboard inputs
+     * received since the previous step are applied in the order they arrived.
+     */
+    private void applyInput() {
+        if (levelReplay != null) {
+            levelReplay.forEachInputAt(tick, this::applyAndRecord);
+            if (levelReplay.isFinished(tick)) {
+                LOG.info(() -> "Replay of " + levelReplay.getLevelName() + " finished after " + tick + " steps");
+                levelReplay = null; // Hand control back to the keyboard
+            }
+            return;
+        }
+        InputAction action;
+        while ((action = pendingInput.poll()) != null) {
+            applyAndRecord(action);
+        }
     }
 
+    /**
+     * Applies a single input to the player's plane and records it if a recording is running.
+     *
+     * @param action The input to apply.
+     */
+    private void applyAndRecord(InputAction action) {
+        if (inputRecorder != null) {
+            inputRecorder.record(tick, action);
+        }
+        switch (action) {
+            case UP -> user.moveUp(); // Move user plane up
+            case DOWN -> user.moveDown(); // Move user plane down
+            case STOP -> user.stop(); // Stop user plane movement
+            case FIRE -> fireProjectile(); // Fire a projectile
+            case PAUSE -> { } // Pausing only stops the clock; it never changes the simulation
+        }
+    }
 
     /**
-     * Initializes the game timeline for managing the main game loop.
-     * Sets the timeline to run indefinitely and defines a keyframe that triggers the update logic
-     * at regular intervals based on the specified delay.
+     * Queues a keyboard input for the next simulation step. Ignored while a replay is running.
+     *
+     * @param action The input to queue.
      */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE); // Set the timeline to run continuously
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene()); // Define the game loop keyframe
-        timeline.getKeyFrames().add(gameLoop); // Add the keyframe to the timeline
+    private void queueInput(InputAction action) {
+        if (levelReplay == null) {
+            pendingInput.add(action);
+        }
+    }
+
+    /**
+     * Writes a pause or resume to the recording, if one is running.
+     */
+    private void recordPause() {
+        if (inputRecorder != null) {
+            inputRecorder.record(tick, InputAction.PAUSE);
+        }
+    }
+
+    /**
+     * Records every input applied in this level, as a new level segment of the given recording.
+     *
+     * @param recorder The recording to write to.
+     */
+    public void recordInput(InputRecorder recorder) {
+        this.inputRecorder = recorder;
+        recorder.beginLevel(getLevelId());
+    }
+
+    /**
+     * Plays this level from a recording instead of the keyboard.
+     * The level takes the next segment of the recording, which must belong to this level.
+     *
+     * @param replay The recording to play.
+     * @param speed  How much faster than real time to run, e.g. 1.0 for real time.
+     * @throws IllegalStateException if the next recorded segment belongs to another level.
+     */
+    public void replayInput(InputReplay replay, double speed) {
+        this.inputReplay = replay; // Kept so a restart can take the next segment
+        this.levelReplay = replay.nextLevel(getLevelId());
+        if (levelReplay == null) {
+            LOG.warn("The recording has no more levels; " + getClass().getSimpleName() + " uses the keyboard.");
+            return;
+        }
+        pendingInput.clear();
+        gameLoop.setTimeScale(speed);
+    }
+
+    /**
+     * Closes this level's segment of the recording, if one is running.
+     */
+    private void endInputRecording() {
+        if (inputRecorder != null) {
+            inputRecorder.endLevel(tick);
+        }
+    }
+
+    /**
+     * Retrieves the number of simulation steps this level has run.
+     *
+     * @return The step count.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Attaches the registry this level was created from and its entry in it, so it knows where it leads.
+     * Called by the {@link LevelManager} before the level starts.
+     *
+     * @param registry   The registry of the game's levels.
+     * @param definition The registered definition of this level.
+     */
+    void setRegistryEntry(LevelRegistry registry, LevelDefinition definition) {
+        this.registry = registry;
+        this.definition = definition;
+    }
+
+    /**
+     * Retrieves the id this level is registered under in the {@link LevelRegistry}.
+     *
+     * @return The fully qualified name of the level's class.
+     */
+    public String getLevelId() {
+        return getClass().getName();
+    }
+
+    /**
+     * Prepares every actor of the given list for the next simulation step.
+     *
+     * @param actors The actors to prepare.
+     */
+    private void prepareActorsForStep(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).beginStep();
+        }
+    }
+
+    /**
+     * Prepares a rendered frame: interpolates the actors and refreshes the profiler overlay.
+     * Package-private so tests can render a frame without running the game loop.
+     *
+     * @param alpha Fraction of a step elapsed since the last simulation step (0.0 to 1.0).
+     */
+    void renderFrame(double alpha) {
+        long start = profiler.start();
+        metrics.recordFrame(interpolateActors(alpha));
+        if (canvasRenderer != null) {
+            drawActorsOnCanvas();
+        }
+        profiler.lap(Phase.RENDER, start);
+        profilerOverlay.onFrame();
+    }
+
+    /**
+     * Draws all actors onto the canvas, in the order the planes and projectile layers would show them.
+     */
+    private void drawActorsOnCanvas() {
+        canvasRenderer.beginFrame();
+        canvasRenderer.draw(friendlyUnits);
+        canvasRenderer.draw(enemyUnits);
+        canvasRenderer.draw(userProjectiles);
+        canvasRenderer.draw(enemyProjectiles);
+    }
+
+    /**
+     * Interpolates the rendered positions of all actors between the last two simulation steps.
+     *
+     * @param alpha Fraction of a step elapsed since the last simulation step (0.0 to 1.0).
+     * @return The number of actors rendered at a different position than in the previous frame.
+     */
+    private int interpolateActors(double alpha) {
+        return interpolateActors(friendlyUnits, alpha)
+                + interpolateActors(enemyUnits, alpha)
+                + interpolateActors(userProjectiles, alpha)
+                + interpolateActors(enemyProjectiles, alpha);
+    }
+
+    /**
+     * Interpolates the rendered positions of the actors in the given list.
+     *
+     * @param actors The actors to interpolate.
+     * @param alpha  Fraction of a step elapsed since the last simulation step.
+     * @return The number of actors in the list that moved since the previous frame.
+     */
+    private int interpolateActors(List<ActiveActorDestructible> actors, double alpha) {
+        int moved = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            if (actors.get(i).interpolatePosition(alpha)) moved++;
+        }
+        return moved;
     }
 
 
@@ -272,24 +644,25 @@ public abstract class LevelParent {
      */
     private void initializeBackground() {
         background.setFocusTraversable(true); // Allow the background to receive focus for key events
-        background.setFitHeight(screenHeight); // Set the background height to match the screen
-        background.setFitWidth(screenWidth); // Set the background width to match the screen
+        background.setFitHeight(screenHeight); // Matches the decoded size unless the scene is not the default size
+        background.setFitWidth(screenWidth); // Matches the decoded size unless the scene is not the default size
 
         // Handle key press events for user actions
+        // Inputs take effect at the start of the next simulation step
         background.setOnKeyPressed(e -> {
             KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP) user.moveUp(); // Move user plane up
-            if (kc == KeyCode.DOWN) user.moveDown(); // Move user plane down
-            if (kc == KeyCode.SPACE) fireProjectile(); // Fire a projectile
+            if (kc == KeyCode.UP) queueInput(InputAction.UP); // Move user plane up
+            if (kc == KeyCode.DOWN) queueInput(InputAction.DOWN); // Move user plane down
+            if (kc == KeyCode.SPACE) queueInput(InputAction.FIRE); // Fire a projectile
         });
 
         // Handle key release events to stop movement
         background.setOnKeyReleased(e -> {
             KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop(); // Stop user plane movement
+            if (kc == KeyCode.UP || kc == KeyCode.DOWN) queueInput(InputAction.STOP); // Stop user plane movement
         });
 
-        root.getChildren().add(background); // Add the background to the scene's root
+        layers.add(Layer.BACKGROUND, background); // Add the background to the bottom layer
     }
 
 
@@ -297,11 +670,12 @@ public abstract class LevelParent {
      * Fires a projectile from the user-controlled actor.
      * If the user successfully fires a projectile, it is added to the scene and tracked.
      */
-    private void fireProjectile() {
+    void fireProjectile() {
         ActiveActorDestructible projectile = user.fireProjectile(); // Create a new projectile from the user
         if (projectile != null) {
-            root.getChildren().add(projectile); // Add the projectile to the scene graph
+            addToScene(Layer.PROJECTILES, projectile); // Add the projectile to the scene graph
             userProjectiles.add(projectile); // Track the projectile in the list of user projectiles
+            soundEffects.play(SoundEffect.SHOT); // Play the firing sound
         }
     }
 
@@ -323,7 +697,7 @@ public abstract class LevelParent {
      */
     private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
         if (projectile != null) {
-            root.getChildren().add(projectile); // Add the projectile to the scene graph
+            addToScene(Layer.PROJECTILES, projectile); // Add the projectile to the scene graph
             enemyProjectiles.add(projectile); // Track the projectile in the list of enemy projectiles
         }
     }
@@ -344,27 +718,67 @@ public abstract class LevelParent {
     /**
      * Removes all actors that are marked as destroyed from their respective lists.
      * This includes friendly units, enemy units, and projectiles. Helps maintain a clean game state.
+     * The lists are compacted first; the scene graph then loses all destroyed actors of the step
+     * in a single change.
+     */
+    void removeAllDestroyedActors() {
+        removeDestroyedActors(friendlyUnits, removedActors); // Remove destroyed friendly units
+        removeDestroyedActors(enemyUnits, removedActors); // Remove destroyed enemy units
+        removeDestroyedActors(userProjectiles, removedActors); // Remove destroyed user projectiles
+        removeDestroyedActors(enemyProjectiles, removedActors); // Remove destroyed enemy projectiles
+        removeCollectedFromScene(removedActors, layers);
+    }
+
+
+    /**
+     * Removes all actors that are marked as destroyed from the specified list in one pass,
+     * keeping the order of the remaining actors, and collects them for removal from the scene.
+     * Destroyed projectiles are returned to their pool so they can be fired again.
+     *
+     * @param actors        The list of actors to check and remove if destroyed.
+     * @param removedActors The set collecting the actors that leave the scene.
      */
-    private void removeAllDestroyedActors() {
-        removeDestroyedActors(friendlyUnits); // Remove destroyed friendly units
-        removeDestroyedActors(enemyUnits); // Remove destroyed enemy units
-        removeDestroyedActors(userProjectiles); // Remove destroyed user projectiles
-        removeDestroyedActors(enemyProjectiles); // Remove destroyed enemy projectiles
+    static void removeDestroyedActors(List<ActiveActorDestructible> actors, Set<ActiveActorDestructible> removedActors) {
+        int write = 0;
+        for (int read = 0; read < actors.size(); read++) {
+            ActiveActorDestructible actor = actors.get(read);
+            if (actor.isDestroyed()) {
+                collectForRemoval(actor, removedActors);
+            } else {
+                actors.set(write++, actor); // Move survivors down over the destroyed actors
+            }
+        }
+        for (int i = actors.size() - 1; i >= write; i--) {
+            actors.remove(i); // Removing from the end shifts nothing
+        }
     }
 
+    /**
+     * Marks an actor for removal from the scene and returns it to its pool if it is a projectile.
+     *
+     * @param actor         The actor leaving the level.
+     * @param removedActors The set collecting the actors that leave the scene.
+     */
+    private static void collectForRemoval(ActiveActorDestructible actor, Set<ActiveActorDestructible> removedActors) {
+        removedActors.add(actor);
+        if (actor instanceof Projectile projectile) {
+            projectile.recycle(); // Hand the projectile back to its pool for the next shot
+        }
+    }
 
     /**
-     * Removes all actors that are marked as destroyed from the specified list and the scene.
-     * Ensures destroyed actors are no longer rendered or tracked in the game.
+     * Removes the collected actors from the scene graph.
+     * The identity set makes each membership test constant time, and one removeAll call per actor
+     * layer produces a single change notification however many actors leave the scene.
      *
-     * @param actors The list of actors to check and remove if destroyed.
+     * @param removedActors The actors leaving the scene; the set is cleared afterwards.
+     * @param layers        The layers holding the actors.
      */
-    private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-                .filter(ActiveActorDestructible::isDestroyed) // Find all destroyed actors
-                .collect(Collectors.toList());
-        root.getChildren().removeAll(destroyedActors); // Remove destroyed actors from the scene
-        actors.removeAll(destroyedActors); // Remove destroyed actors from the list
+    static void removeCollectedFromScene(Set<ActiveActorDestructible> removedActors, SceneLayers layers) {
+        if (removedActors.isEmpty()) return;
+        layers.get(Layer.PLANES).getChildren().removeAll(removedActors);
+        layers.get(Layer.PROJECTILES).getChildren().removeAll(removedActors);
+        removedActors.clear();
     }
 
     /**
@@ -372,7 +786,7 @@ public abstract class LevelParent {
      * Detects and processes interactions between these two groups.
      */
     private void handlePlaneCollisions() {
-        handleCollisions(friendlyUnits, enemyUnits); // Check for collisions between friendly and enemy units
+        handleCollisions(friendlyUnits, enemyGrid); // Check for collisions between friendly and enemy units
     }
 
     /**
@@ -380,7 +794,7 @@ public abstract class LevelParent {
      * Processes interactions where user projectiles hit enemies.
      */
     private void handleUserProjectileCollisions() {
-        handleCollisions(userProjectiles, enemyUnits); // Check for collisions between user projectiles and enemies
+        handleCollisions(userProjectiles, enemyGrid); // Check for collisions between user projectiles and enemies
     }
 
     /**
@@ -388,26 +802,191 @@ public abstract class LevelParent {
      * Processes interactions where enemy projectiles hit friendly units.
      */
     private void handleEnemyProjectileCollisions() {
-        handleCollisions(enemyProjectiles, friendlyUnits); // Check for collisions between enemy projectiles and friendlies
+        handleCollisions(enemyProjectiles, friendlyGrid); // Check for collisions between enemy projectiles and friendlies
     }
 
+    /**
+     * Rebuilds the collision grids from the current friendly and enemy units.
+     * Nothing moves during the collision passes, so both grids stay valid for all three of them.
+     */
+    private void buildCollisionGrids() {
+        fillGrid(friendlyGrid, friendlyUnits);
+        fillGrid(enemyGrid, enemyUnits);
+    }
+
+    /**
+     * Clears a grid and inserts every actor of a list with its bounds in the scene.
+     *
+     * @param grid   The grid to fill.
+     * @param actors The actors to insert.
+     */
+    static void fillGrid(SpatialHash<ActiveActorDestructible> grid, List<ActiveActorDestructible> actors) {
+        grid.clear();
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            Bounds bounds = actor.getBoundsInParent();
+            grid.insert(actor, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+        }
+    }
 
     /**
-     * Detects and handles collisions between two lists of actors.
-     * If a collision is detected, both actors involved take damage.
+     * Detects and handles collisions between a list of actors and the actors indexed in a grid.
+     * Only actors in nearby grid cells are tested. If a collision is detected, both actors involved take damage.
      *
-     * @param actors1 The first list of actors to check for collisions.
-     * @param actors2 The second list of actors to check for collisions.
+     * @param actors The actors to check for collisions.
+     * @param grid   The grid holding the actors they can collide with.
      */
-    private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-        for (ActiveActorDestructible actor : actors1) {
-            for (ActiveActorDestructible otherActor : actors2) {
-                if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) { // Check for collision
-                    actor.takeDamage(); // Damage the first actor
-                    otherActor.takeDamage(); // Damage the second actor
-                }
+    private void handleCollisions(List<ActiveActorDestructible> actors, SpatialHash<ActiveActorDestructible> grid) {
+        findCollisions(actors, grid, collisionHandler);
+    }
+
+    /**
+     * Reports every pair made of an actor from the list and an overlapping actor from the grid.
+     *
+     * @param actors  The actors to check for collisions.
+     * @param grid    The grid holding the actors they can collide with.
+     * @param handler Callback invoked with each colliding pair.
+     */
+    static void findCollisions(List<ActiveActorDestructible> actors, SpatialHash<ActiveActorDestructible> grid,
+                               BiConsumer<ActiveActorDestructible, ActiveActorDestructible> handler) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            Bounds bounds = actor.getBoundsInParent();
+            grid.query(actor, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), handler);
+        }
+    }
+
+    /**
+     * Damages both actors of a colliding pair and plays a hit or explosion sound.
+     *
+     * @param actor      The first actor of the pair.
+     * @param otherActor The second actor of the pair, always a plane.
+     */
+    private void damageBoth(ActiveActorDestructible actor, ActiveActorDestructible otherActor) {
+        actor.takeDamage(); // Damage the first actor
+        otherActor.takeDamage(); // Damage the second actor
+        soundEffects.play(otherActor.isDestroyed() ? SoundEffect.EXPLOSION : SoundEffect.HIT);
+        if (actor == user || otherActor == user) {
+            postUserDamage();
+        }
+    }
+
+    /**
+     * Posts a damage event with the player's remaining health.
+     */
+    private void postUserDamage() {
+        eventBus.post(damageEvent.set(user, user.getHealth()));
+    }
+
+    /**
+     * Destroys every projectile that lies completely outside the playfield plus the culling margin.
+     * Projectiles never come back once they leave, so they would otherwise be updated and
+     * collision-tested forever. Planes are not culled here: enemies that fly past the player
+     * are already handled by {@link #handleEnemyPenetration()}.
+     */
+    void cullOffscreenProjectiles() {
+        int userCulled = cullOffscreen(userProjectiles);
+        int enemyCulled = cullOffscreen(enemyProjectiles);
+        metrics.recordCulled(userCulled, enemyCulled);
+    }
+
+    /**
+     * Destroys the actors of a list that lie completely outside the playfield plus the culling margin.
+     *
+     * @param actors The actors to check.
+     * @return The number of actors that were destroyed.
+     */
+    private int cullOffscreen(List<ActiveActorDestructible> actors) {
+        double minX = -cullingMargin;
+        double minY = -cullingMargin;
+        double maxX = screenWidth + cullingMargin;
+        double maxY = screenHeight + cullingMargin;
+        int culled = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (actor.isDestroyed()) continue;
+            Bounds bounds = actor.getBoundsInParent();
+            if (bounds.getMaxX() < minX || bounds.getMinX() > maxX
+                    || bounds.getMaxY() < minY || bounds.getMinY() > maxY) {
+                actor.destroy(); // Removed and recycled together with the other destroyed actors
+                culled++;
             }
         }
+        return culled;
+    }
+
+    /**
+     * Records the live actor counts of the current step in the level's metrics.
+     */
+    private void recordMetrics() {
+        metrics.recordStep(userProjectiles.size(), enemyProjectiles.size(), enemyUnits.size(),
+                layers.getNodeCount());
+    }
+
+    /**
+     * Sets how far outside the screen a projectile may travel before it is retired.
+     *
+     * @param cullingMargin The margin in pixels beyond each screen edge.
+     * @throws IllegalArgumentException if the margin is negative.
+     */
+    public void setCullingMargin(double cullingMargin) {
+        if (cullingMargin < 0) {
+            throw new IllegalArgumentException("Culling margin must not be negative.");
+        }
+        this.cullingMargin = cullingMargin;
+    }
+
+    /**
+     * Retrieves the margin beyond the screen edges at which projectiles are retired.
+     *
+     * @return The culling margin in pixels.
+     */
+    public double getCullingMargin() {
+        return cullingMargin;
+    }
+
+    /**
+     * Builds the text shown by the profiler overlay and written by {@link #dumpProfile()}.
+     *
+     * @return The per-phase timings followed by the actor counters.
+     */
+    private String profilerReport() {
+        return profiler.report() + System.lineSeparator() + metrics;
+    }
+
+    /**
+     * Writes the current profiler statistics to a timestamped file in the working directory.
+     * The report is built on the FX thread, but the file is written in the background.
+     */
+    private void dumpProfile() {
+        String report = getClass().getSimpleName() + System.lineSeparator() + profilerReport();
+        Path file = Path.of("profile-" + LocalDateTime.now().format(PROFILE_FILE_TIME) + ".txt");
+        CompletableFuture.runAsync(() -> {
+            try {
+                Files.writeString(file, report);
+                LOG.info(() -> "Profiler statistics written to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                LOG.error("Could not write profiler statistics to " + file, e);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the frame profiler of this level.
+     *
+     * @return The level's profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Retrieves the actor counters of this level.
+     *
+     * @return The level's metrics.
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -419,6 +998,8 @@ public abstract class LevelParent {
             if (enemyHasPenetratedDefenses(enemy)) { // Check if the enemy has penetrated defenses
                 user.takeDamage(); // Damage the user
                 enemy.destroy(); // Destroy the enemy unit
+                soundEffects.play(SoundEffect.HIT); // Signal the damage taken
+                postUserDamage(); // Update the hearts
             }
         }
     }
@@ -435,7 +1016,8 @@ public abstract class LevelParent {
     /**
      * Updates the kill count and player score based on the number of defeated enemies.
      * Calculates the difference between the initial and current number of enemies,
-     * increments the score for each kill, and updates the score display.
+     * increments the score for each kill, and posts kill and score events; the score display
+     * is refreshed when they are delivered.
      */
     private void updateKillCount() {
         int kills = currentNumberOfEnemies - enemyUnits.size(); // Calculate the number of kills
@@ -445,7 +1027,8 @@ public abstract class LevelParent {
                 getUser().incrementKillCount(); // Update the user's kill count
             }
             currentNumberOfEnemies = enemyUnits.size(); // Update the current enemy count
-            updateScoreDisplay(); // Refresh the score display
+            eventBus.post(killEvent.set(kills, getUser().getNumberOfKills()));
+            eventBus.post(scoreEvent.set(kills * 100, score));
         }
     }
 
@@ -455,7 +1038,6 @@ public abstract class LevelParent {
      */
     private void updateScoreDisplay() {
         scoreDisplay.setText("Score: " + score); // Update the score text
-        scoreDisplay.toFront(); // Bring the score display to the front
     }
 
 
@@ -481,32 +1063,31 @@ public abstract class LevelParent {
 
     /**
      * Handles the logic for when the player wins the game.
-     * Stops the background music, halts the game timeline, and displays a win image.
+     * Stops the background music, halts the game loop, and displays a win image.
      */
     protected void winGame() {
         stopBackgroundMusic(); // Stop the background music
-        timeline.stop(); // Halt the game timeline
+        gameLoop.stop(); // Halt the game loop
+        endInputRecording(); // Close this level's part of the recording
         levelView.showWinImage(); // Display the win image
     }
 
     /**
      * Handles the logic for when the player loses the game.
-     * Stops the background music, halts the game timeline, and displays a game over image.
+     * Stops the background music, halts the game loop, and displays a game over image.
      */
     protected void loseGame() {
         stopBackgroundMusic(); // Stop the background music
-        timeline.stop(); // Halt the game timeline
+        gameLoop.stop(); // Halt the game loop
+        endInputRecording(); // Close this level's part of the recording
         levelView.showGameOverImage(); // Display the game over image
     }
 
     /**
-     * Stops the background music if it is currently playing.
-     * Ensures that the MediaPlayer is not null before attempting to stop the music.
+     * Fades out the background music and releases its player.
      */
     protected void stopBackgroundMusic() {
-        if (backgroundMusicPlayer != null) {
-            backgroundMusicPlayer.stop(); // Stop the background music
-        }
+        MusicService.getShared().stop(); // Fade out and dispose the music player
     }
 
     /**
@@ -521,12 +1102,53 @@ public abstract class LevelParent {
     /**
      * Retrieves the root group of the scene graph.
      *
-     * @return The root Group object containing all nodes in the scene.
+     * @return The root Group object, holding one group per scene layer.
      */
     protected Group getRoot() {
         return root; // Return the root group of the scene
     }
 
+    /**
+     * Retrieves the group of one layer of the scene graph.
+     *
+     * @param layer The layer.
+     * @return The group holding the layer's nodes.
+     */
+    protected Group getLayer(Layer layer) {
+        return layers.get(layer);
+    }
+
+    /**
+     * Shows an actor in a layer of the scene graph. With the canvas backend the actor is drawn
+     * onto the canvas instead and no node is added.
+     *
+     * @param layer The layer the actor belongs to.
+     * @param actor The actor to show.
+     */
+    protected void addToScene(Layer layer, ActiveActorDestructible actor) {
+        if (canvasRenderer == null) {
+            layers.add(layer, actor);
+        }
+    }
+
+    /**
+     * Retrieves how this level draws its planes and projectiles, as chosen when it was constructed.
+     *
+     * @return The render backend of this level.
+     */
+    public RenderBackend getRenderBackend() {
+        return renderBackend;
+    }
+
+    /**
+     * Retrieves the layers of the scene graph, e.g. for building the level view.
+     *
+     * @return The level's scene layers.
+     */
+    protected SceneLayers getLayers() {
+        return layers;
+    }
+
     /**
      * Gets the current number of enemy units in the game.
      *
@@ -545,7 +1167,8 @@ public abstract class LevelParent {
      */
     protected void addEnemyUnit(ActiveActorDestructible enemy) {
         enemyUnits.add(enemy); // Add the enemy to the list of enemy units
-        root.getChildren().add(enemy); // Add the enemy to the scene graph
+        addToScene(Layer.PLANES, enemy); // Add the enemy to the scene graph
+        eventBus.post(spawnEvent.set(enemy)); // Announce the new enemy
     }
 
     /**
@@ -566,6 +1189,16 @@ public abstract class LevelParent {
         return screenWidth; // Return the screen width
     }
 
+    /**
+     * Retrieves the level's source of randomness.
+     * All random decisions of the level and its actors use it, so the level is reproducible from its seed.
+     *
+     * @return The level's random source.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
     /**
      * Checks if the user-controlled plane has been destroyed.
      *
@@ -597,96 +1230,194 @@ public abstract class LevelParent {
     }
 
     /**
-     * Pauses the game by stopping the timeline and displaying the pause menu.
+     * Pauses the game by stopping the game loop and displaying the pause menu.
      * Sets the game state to paused and adds the pause menu to the scene.
      */
     private void pauseGame() {
         isPaused = true; // Set the game state to paused
-        timeline.stop(); // Stop the game timeline
+        gameLoop.stop(); // Stop the game loop
 
         // Initialize and display the pause menu
         pauseMenu = new PauseMenu(stage, this::resumeGame, this::goToMainMenu, this::restartGame);
-        getRoot().getChildren().add(pauseMenu.getRoot()); // Add the pause menu to the scene
+        layers.add(Layer.OVERLAY, pauseMenu.getRoot()); // Add the pause menu above everything else
     }
 
 
     /**
-     * Resumes the game by playing the timeline and removing the pause menu from the scene.
+     * Resumes the game by restarting the game loop and removing the pause menu from the scene.
      * Sets the game state to running.
      */
     private void resumeGame() {
         isPaused = false; // Set the game state to running
-        timeline.play(); // Resume the game timeline
+        gameLoop.start(); // Resume the game loop
 
         if (pauseMenu != null) {
-            getRoot().getChildren().remove(pauseMenu.getRoot()); // Remove the pause menu from the scene
+            layers.remove(Layer.OVERLAY, pauseMenu.getRoot()); // Remove the pause menu from the scene
         }
     }
 
     /**
-     * Restarts the game by resetting the current level.
-     * Stops and clears the timeline, resets the user's stats, and initializes a new instance of the current level.
+     * Restarts the game by resetting the current level in place.
      */
     private void restartGame() {
         try {
-            stopBackgroundMusic(); // Stop any playing background music
-            timeline.stop(); // Halt the current game timeline
-            timeline.getKeyFrames().clear(); // Clear all keyframes from the timeline
+            LOG.info(() -> "Restarting " + getLevelId()); // Track restarts
+            reset(); // Reuse the scene, listeners and loaded assets
+        } catch (Exception e) {
+            LOG.error("Level restart failed", e); // Handle any exceptions during level restart
+        }
+    }
+
+    /**
+     * Returns the level to its starting state and starts it again, reusing its scene, event
+     * listeners and loaded images instead of building a new level.
+     * Projectiles go back to their pools, enemies are dropped, the player's plane, kills, score
+     * and HUD are reset, and the random source is reseeded so the restart plays out exactly like
+     * a fresh start of the level. A running recording or replay continues with a new level segment.
+     * The music keeps playing; the restarted level continues the same track.
+     */
+    public void reset() {
+        gameLoop.stop(); // Halt the current game loop
+        endInputRecording(); // Close this level's part of the recording
+
+        // Leave the pause menu
+        if (pauseMenu != null) {
+            layers.remove(Layer.OVERLAY, pauseMenu.getRoot());
+            pauseMenu = null;
+        }
+        isPaused = false;
+
+        // Clear the playfield and put the player back at the start
+        clearActors(enemyUnits);
+        clearActors(userProjectiles);
+        clearActors(enemyProjectiles);
+        user.reset(playerInitialHealth);
+        if (!friendlyUnits.contains(user)) {
+            friendlyUnits.add(user); // Removed from the list when it was destroyed
+        }
+        if (user.getParent() == null) {
+            addToScene(Layer.PLANES, user); // Removed from the scene when it was destroyed
+        }
 
-            user.resetKillCount(); // Reset the user's kill count
-            currentNumberOfEnemies = 0; // Reset the current enemy count
+        // Reset the game state and the HUD
+        currentNumberOfEnemies = 0;
+        score = 0;
+        tick = 0;
+        pendingInput.clear();
+        updateScoreDisplay();
+        levelView.reset(playerInitialHealth);
+
+        // Replay the same random sequence as a fresh instance of the level
+        random.reseed(GameRandom.levelSeed(GameRandom.getGameSeed(), getClass().getSimpleName()));
+        resetLevel();
+
+        // Continue the recording or replay with a new segment for this level
+        if (inputRecorder != null) {
+            inputRecorder.beginLevel(getLevelId());
+        }
+        if (inputReplay != null) {
+            levelReplay = inputReplay.nextLevel(getLevelId());
+        }
 
-            // Create a new instance of the current level using reflection
-            Constructor<?> constructor = this.getClass().getConstructor(double.class, double.class, Stage.class);
-            LevelParent newLevel = (LevelParent) constructor.newInstance(screenHeight, screenWidth, stage);
+        startGame();
+    }
 
-            // Transfer property change listeners to the new level
-            newLevel.addPropertyChangeListener(propertyChangeSupport.getPropertyChangeListeners()[0]);
+    /**
+     * Resets the state a subclass keeps beyond what {@link #reset()} covers.
+     * Called after the random source is reseeded; does nothing by default.
+     */
+    protected void resetLevel() {
+    }
 
-            // Initialize and start the new level
-            Scene newScene = newLevel.initializeScene();
-            stage.setScene(newScene); // Set the new scene on the stage
-            newLevel.startGame(); // Start the new level
-        } catch (Exception e) {
-            e.printStackTrace(); // Handle any exceptions during level restart
+    /**
+     * Removes every actor of a list from the scene and the list, returning projectiles to their pools.
+     *
+     * @param actors The actors to remove.
+     */
+    private void clearActors(List<ActiveActorDestructible> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            collectForRemoval(actors.get(i), removedActors);
         }
+        actors.clear();
+        removeCollectedFromScene(removedActors, layers); // One scene graph change for the whole list
     }
 
 
     /**
      * Transitions the game to the main menu.
-     * Stops the background music and timeline, and initializes the main menu scene.
+     * Stops the background music and game loop, and initializes the main menu scene.
      */
     private void goToMainMenu() {
         stopBackgroundMusic(); // Stop any playing background music
-        timeline.stop(); // Halt the game timeline
+        gameLoop.stop(); // Halt the game loop
+        endInputRecording(); // Close this level's part of the recording
 
-        MainMenu mainMenu = new MainMenu(); // Create a new MainMenu instance
+        MainMenu mainMenu = registry != null ? new MainMenu(registry) : new MainMenu(); // Share the registry with the next game
         try {
             mainMenu.start(stage); // Start the main menu scene
         } catch (Exception e) {
-            e.printStackTrace(); // Handle any exceptions during the menu transition
+            LOG.error("Returning to the main menu failed", e); // Handle any exceptions during the menu transition
         }
+        dispose(); // The menu replaced this level's scene
+    }
+
+    /**
+     * Releases everything the level holds once it is no longer shown: the game loop stops,
+     * event listeners and input handlers are removed, projectiles go back to their pools and
+     * the scene graph is emptied, so nothing outside the level keeps it reachable.
+     * The shared music, sound effects and image caches are left alone; the next level reuses them.
+     * Calling this more than once has no further effect, and a disposed level cannot be started again.
+     */
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+
+        gameLoop.stop(); // Unregisters the loop's AnimationTimer from the FX pulse
+        endInputRecording(); // Close this level's part of the recording, if it is still open
+        inputRecorder = null;
+        inputReplay = null;
+        levelReplay = null;
+        pendingInput.clear();
+
+        eventBus.clear(); // Drop the level manager's and the HUD's listeners
+
+        // Remove the input handlers, which capture this level
+        scene.setOnKeyPressed(null);
+        background.setOnKeyPressed(null);
+        background.setOnKeyReleased(null);
+
+        // Return the actors and empty the scene graph
+        clearActors(friendlyUnits);
+        clearActors(enemyUnits);
+        clearActors(userProjectiles);
+        clearActors(enemyProjectiles);
+        friendlyGrid.clear();
+        enemyGrid.clear();
+        pauseMenu = null;
+        layers.clear();
+        root.getChildren().clear();
+
+        LOG.info(() -> getLevelId() + " disposed after " + tick + " steps");
     }
 
     /**
-     * Adds a property change listener to the object.
-     * Listeners will be notified when properties change.
+     * Checks whether the level has been disposed.
      *
-     * @param listener The listener to add.
+     * @return True after {@link #dispose()} has been called.
      */
-    public void addPropertyChangeListener(PropertyChangeListener listener) {
-        propertyChangeSupport.addPropertyChangeListener(listener); // Register the listener
+    public boolean isDisposed() {
+        return disposed;
     }
 
     /**
-     * Removes a property change listener from the object.
-     * Prevents the listener from receiving further property change notifications.
+     * Retrieves the event bus of this level.
+     * Level transitions are published immediately; kills, damage, spawns, score and shield changes
+     * are posted during a step and delivered together at its end.
      *
-     * @param listener The listener to remove.
+     * @return The level's event bus.
      */
-    public void removePropertyChangeListener(PropertyChangeListener listener) {
-        propertyChangeSupport.removePropertyChangeListener(listener); // Unregister the listener
+    public GameEventBus getEventBus() {
+        return eventBus;
     }
 
 }
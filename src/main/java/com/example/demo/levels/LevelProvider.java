@@ -0,0 +1,16 @@
+package com.example.demo.levels;
+
+/**
+ * LevelProvider contributes levels to a {@link LevelRegistry}.
+ * Providers are discovered with {@link java.util.ServiceLoader}; they are declared with
+ * {@code provides} in module-info (and in META-INF/services for class-path runs).
+ */
+public interface LevelProvider {
+
+    /**
+     * Registers this provider's levels.
+     *
+     * @param registry The registry to add the levels to.
+     */
+    void registerLevels(LevelRegistry registry);
+}
@@ -0,0 +1,191 @@
+package com.example.demo.levels;
+
+import com.example.demo.utils.AssetManifest;
+import com.example.demo.utils.GameLogger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * LevelRegistry maps level ids to their factories and records which level leads to which.
+ * It replaces looking levels up by class name through reflection: every level is registered up
+ * front with a constructor reference, so a transition is a map lookup and a direct call, and
+ * the resulting level graph can be validated and walked by tools.
+ *
+ * Level ids are the fully qualified class names the levels were always referred to by, so
+ * existing level transition events and input recordings keep working.
+ */
+public class LevelRegistry {
+
+    // Logger for discovered providers
+    private static final GameLogger LOG = GameLogger.getLogger(LevelRegistry.class);
+
+    // Registered levels by id, in registration order
+    private final Map<String, LevelDefinition> levels = new LinkedHashMap<>();
+
+    /**
+     * Creates a registry with the levels of every {@link LevelProvider} found by ServiceLoader.
+     * Falls back to the built-in levels if no provider is found, and validates the result.
+     *
+     * @return The populated registry.
+     * @throws IllegalStateException if a level leads to a level that is not registered.
+     */
+    public static LevelRegistry load() {
+        LevelRegistry registry = new LevelRegistry();
+        for (LevelProvider provider : ServiceLoader.load(LevelProvider.class, LevelRegistry.class.getClassLoader())) {
+            LOG.debug(() -> "Registering levels from " + provider.getClass().getName());
+            provider.registerLevels(registry);
+        }
+        if (registry.levels.isEmpty()) {
+            new DefaultLevelProvider().registerLevels(registry);
+        }
+        registry.validate();
+        return registry;
+    }
+
+    /**
+     * Registers a level without preloaded assets. The first level registered is the one the game starts with.
+     *
+     * @param type       The level class; its name becomes the level id.
+     * @param factory    Creates new instances of the level, usually a constructor reference.
+     * @param nextLevels The levels this level leads to, if any.
+     * @return The definition of the registered level.
+     * @throws IllegalArgumentException if the level is already registered.
+     */
+    @SafeVarargs
+    public final LevelDefinition register(Class<? extends LevelParent> type, LevelFactory factory,
+                                          Class<? extends LevelParent>... nextLevels) {
+        return register(type, factory, AssetManifest.EMPTY, nextLevels);
+    }
+
+    /**
+     * Registers a level. The first level registered is the one the game starts with.
+     *
+     * @param type       The level class; its name becomes the level id.
+     * @param factory    Creates new instances of the level, usually a constructor reference.
+     * @param assets     Images and media to load before the level is created.
+     * @param nextLevels The levels this level leads to, if any.
+     * @return The definition of the registered level.
+     * @throws IllegalArgumentException if the level is already registered.
+     */
+    @SafeVarargs
+    public final LevelDefinition register(Class<? extends LevelParent> type, LevelFactory factory,
+                                          AssetManifest assets, Class<? extends LevelParent>... nextLevels) {
+        List<String> next = new ArrayList<>(nextLevels.length);
+        for (Class<? extends LevelParent> nextLevel : nextLevels) {
+            next.add(nextLevel.getName());
+        }
+        LevelDefinition definition = new LevelDefinition(type.getName(), type, factory, assets, List.copyOf(next));
+        if (levels.putIfAbsent(definition.id(), definition) != null) {
+            throw new IllegalArgumentException("Level registered twice: " + definition.id());
+        }
+        return definition;
+    }
+
+    /**
+     * Retrieves a registered level.
+     *
+     * @param id The level id.
+     * @return The definition of the level.
+     * @throws IllegalArgumentException if no level with this id is registered.
+     */
+    public LevelDefinition get(String id) {
+        LevelDefinition definition = levels.get(id);
+        if (definition == null) {
+            throw new IllegalArgumentException("Unknown level: " + id);
+        }
+        return definition;
+    }
+
+    /**
+     * Checks if a level is registered.
+     *
+     * @param id The level id.
+     * @return True if the level is registered, otherwise false.
+     */
+    public boolean contains(String id) {
+        return levels.containsKey(id);
+    }
+
+    /**
+     * Retrieves the level the game starts with.
+     *
+     * @return The first registered level.
+     * @throws IllegalStateException if no level is registered.
+     */
+    public LevelDefinition getStartLevel() {
+        if (levels.isEmpty()) {
+            throw new IllegalStateException("No levels registered");
+        }
+        return levels.values().iterator().next();
+    }
+
+    /**
+     * Retrieves all registered levels.
+     *
+     * @return The levels in registration order.
+     */
+    public Collection<LevelDefinition> getLevels() {
+        return Collections.unmodifiableCollection(levels.values());
+    }
+
+    /**
+     * Retrieves the levels a level leads to.
+     *
+     * @param id The level id.
+     * @return The definitions of the next levels, in order.
+     */
+    public List<LevelDefinition> getNextLevels(String id) {
+        List<LevelDefinition> next = new ArrayList<>();
+        for (String nextId : get(id).nextLevels()) {
+            next.add(get(nextId));
+        }
+        return next;
+    }
+
+    /**
+     * Walks the level graph breadth-first from the start level.
+     *
+     * @return The levels reachable from the start level, each once, in the order they are reached.
+     */
+    public List<LevelDefinition> walk() {
+        Set<String> seen = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(getStartLevel().id());
+        while (!queue.isEmpty()) {
+            String id = queue.poll();
+            if (seen.add(id)) {
+                queue.addAll(get(id).nextLevels());
+            }
+        }
+        List<LevelDefinition> reachable = new ArrayList<>(seen.size());
+        for (String id : seen) {
+            reachable.add(levels.get(id));
+        }
+        return reachable;
+    }
+
+    /**
+     * Checks that every level leads only to registered levels.
+     *
+     * @throws IllegalStateException if a level leads to an unregistered level.
+     */
+    public void validate() {
+        for (LevelDefinition definition : levels.values()) {
+            for (String next : definition.nextLevels()) {
+                if (!levels.containsKey(next)) {
+                    throw new IllegalStateException(definition.id() + " leads to unregistered level " + next);
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.demo.levels;
 
-import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.actors.EnemyPlane;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.simulation.LevelRules;
+import com.example.demo.utils.AssetManifest;
+import com.example.demo.utils.GameLogger;
 
 import javafx.stage.Stage;
 
@@ -11,17 +14,20 @@ import javafx.stage.Stage;
  */
 public class LevelTwo extends LevelParent {
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(LevelTwo.class);
+
     // Background image for LevelTwo
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/space2.jpg";
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 
-    // Number of enemies to spawn in this level
-    private static final int TOTAL_ENEMIES = 7;
+    // Images and music to load before the level starts
+    static final AssetManifest ASSETS = levelAssets(BACKGROUND_IMAGE_NAME).build();
 
-    // Kill count required to transition to the next level
-    private static final int KILLS_TO_ADVANCE = 15;
+    // Tuning values shared with the headless simulation
+    private static final LevelRules RULES = LevelRules.LEVEL_TWO;
 
-    // Probability of spawning an enemy on each frame
-    private static final double ENEMY_SPAWN_PROBABILITY = 0.25;
+    // Kill count required to transition to the next level
+    private static final int KILLS_TO_ADVANCE = RULES.getKillsToAdvance();
 
     /**
      * Constructor for LevelTwo.
@@ -32,7 +38,7 @@ public class LevelTwo extends LevelParent {
      */
     public LevelTwo(double screenHeight, double screenWidth, Stage stage) {
         // Initialize LevelParent with the background, screen dimensions, player health, and stage
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, 5, stage);
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, RULES.getPlayerInitialHealth(), stage);
     }
 
     /**
@@ -47,10 +53,12 @@ public class LevelTwo extends LevelParent {
         }
         // Check if the player's kill count has reached the target to advance
         else if (userHasReachedKillTarget()) {
-            goToNextLevel("com.example.demo.levels.LevelBoss"); // Transition to the boss level
+            goToNextLevel(); // Transition to the level that follows in the registry
+        }
+        // Debugging output to track player's progress, skipped unless debug logging is enabled
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(() -> "Kill Target Reached: " + getUser().getNumberOfKills());
         }
-        // Debugging output to track player's progress
-        System.out.println("Kill Target Reached: " + getUser().getNumberOfKills());
     }
 
     /**
@@ -59,7 +67,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser()); // Add the user plane to the game scene
+        addToScene(Layer.PLANES, getUser()); // Add the user plane to the game scene
     }
 
     /**
@@ -68,14 +76,9 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies(); // Get the current number of enemies
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) { // Check spawn probability
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition(); // Random Y position
-                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition); // Create a new enemy
-                addEnemyUnit(newEnemy); // Add the enemy to the game
-            }
-        }
+        // Roll the shared spawn rule for every free slot and add an enemy at each Y position it picks
+        RULES.spawnEnemies(getCurrentNumberOfEnemies(), getRandom(), getEnemyMaximumYPosition(),
+                y -> addEnemyUnit(new EnemyPlane(getScreenWidth(), y, getRandom())));
     }
 
     /**
@@ -85,7 +88,7 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected LevelView instantiateLevelView() {
-        return new LevelView(getRoot(), 5); // Create and return the LevelView with 5 hearts (player health)
+        return new LevelView(getLayers(), RULES.getPlayerInitialHealth()); // Create and return the LevelView with one heart per health point
     }
 
     /**
@@ -3,8 +3,8 @@ package com.example.demo.levels;
 import com.example.demo.ui.GameOverImage;
 import com.example.demo.ui.HeartDisplay;
 import com.example.demo.ui.WinImage;
+import com.example.demo.levels.SceneLayers.Layer;
 
-import javafx.scene.Group;
 import javafx.scene.text.Text;
 
 /**
@@ -21,8 +21,8 @@ public class LevelView {
     private static final int LOSS_SCREEN_X_POSITION = -160;
     private static final int LOSS_SCREEN_Y_POSISITION = -375;
 
-    // Root group for adding and managing UI elements
-    private final Group root;
+    // Layers of the level's scene; the view's elements go to the HUD layer
+    private final SceneLayers layers;
 
     // UI components for level-specific visuals
     private final WinImage winImage;           // Image shown on level win
@@ -33,11 +33,11 @@ public class LevelView {
     /**
      * Constructor for LevelView.
      *
-     * @param root            The root group for the level.
+     * @param layers          The scene layers of the level.
      * @param heartsToDisplay The initial number of hearts to display for player health.
      */
-    public LevelView(Group root, int heartsToDisplay) {
-        this.root = root;
+    public LevelView(SceneLayers layers, int heartsToDisplay) {
+        this.layers = layers;
         
         // Initialize UI elements with specific positions
         this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
@@ -48,22 +48,22 @@ public class LevelView {
         this.scoreDisplay = new Text(10, 50, "Score: 0");
         scoreDisplay.setStyle("-fx-font-size: 20px; -fx-fill: white;"); // Set font size and color
         
-        // Add the score display to the root group
-        root.getChildren().add(scoreDisplay);
+        // Add the score display to the HUD layer
+        layers.add(Layer.HUD, scoreDisplay);
     }
 
     /**
      * Displays the heart container (health display) on the screen.
      */
     public void showHeartDisplay() {
-        root.getChildren().add(heartDisplay.getContainer()); // Add heart display to root
+        layers.add(Layer.HUD, heartDisplay.getContainer()); // Add heart display to the HUD
     }
 
     /**
      * Displays the win image on the screen.
      */
     public void showWinImage() {
-        root.getChildren().add(winImage); // Add win image to root
+        layers.add(Layer.HUD, winImage); // Add win image to the HUD
         winImage.showWinImage();          // Trigger win image animation or effects
     }
 
@@ -71,7 +71,7 @@ public class LevelView {
      * Displays the game over image on the screen.
      */
     public void showGameOverImage() {
-        root.getChildren().add(gameOverImage); // Add game over image to root
+        layers.add(Layer.HUD, gameOverImage); // Add game over image to the HUD
     }
 
     /**
@@ -86,6 +86,18 @@ public class LevelView {
         }
     }
 
+    /**
+     * Returns the view to its state at the start of the level: all hearts shown and
+     * no win or game over image.
+     *
+     * @param heartsToDisplay The number of hearts to display.
+     */
+    public void reset(int heartsToDisplay) {
+        heartDisplay.resetHearts(heartsToDisplay);
+        layers.remove(Layer.HUD, winImage);
+        layers.remove(Layer.HUD, gameOverImage);
+    }
+
     /**
      * Updates the score display to reflect the current score.
      *
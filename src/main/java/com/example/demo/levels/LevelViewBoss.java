@@ -1,8 +1,8 @@
 package com.example.demo.levels;
 
+import com.example.demo.levels.SceneLayers.Layer;
 import com.example.demo.ui.ShieldImage;
 
-import javafx.scene.Group;
 import javafx.scene.text.Text;
 
 /**
@@ -26,11 +26,11 @@ public class LevelViewBoss extends LevelView {
     /**
      * Constructor for LevelViewBoss.
      *
-     * @param root            The root group of the level, where all visual elements are added.
+     * @param layers          The scene layers of the level, where all visual elements are added.
      * @param heartsToDisplay Number of hearts to display for the player.
      */
-    public LevelViewBoss(Group root, int heartsToDisplay) {
-        super(root, heartsToDisplay); // Call the constructor of the parent LevelView class
+    public LevelViewBoss(SceneLayers layers, int heartsToDisplay) {
+        super(layers, heartsToDisplay); // Call the constructor of the parent LevelView class
 
         // Initialize the boss health display text
         bossHealthDisplay = new Text(BOSS_HEALTH_X_POSITION, BOSS_HEALTH_Y_POSITION, "Boss Health: 100");
@@ -39,11 +39,11 @@ public class LevelViewBoss extends LevelView {
         // Initialize the shield image with specific coordinates
         shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
 
-        // Add the shield image to the root group
-        root.getChildren().add(shieldImage);
+        // Add the shield image to the effects layer, above the planes
+        layers.add(Layer.EFFECTS, shieldImage);
 
-        // Add the boss health display text to the root group
-        root.getChildren().add(bossHealthDisplay);
+        // Add the boss health display text to the HUD layer
+        layers.add(Layer.HUD, bossHealthDisplay);
     }
 
     /**
@@ -57,16 +57,25 @@ public class LevelViewBoss extends LevelView {
         int clampedHealth = Math.max(health, 0);
         
         bossHealthDisplay.setText("Boss Health: " + clampedHealth); // Update the health text
-        bossHealthDisplay.toFront(); // Ensure the health display is always on top of other elements
+    }
+
+    /**
+     * Returns the view to its state at the start of the level, including a hidden shield.
+     *
+     * @param heartsToDisplay The number of hearts to display.
+     */
+    @Override
+    public void reset(int heartsToDisplay) {
+        super.reset(heartsToDisplay);
+        hideShield();
     }
 
     /**
      * Displays the boss's shield by making the ShieldImage visible.
-     * The shield image is brought to the front to render above other elements.
+     * The effects layer already draws it above the planes.
      */
     public void showShield() {
         shieldImage.showShield(); // Make the shield visible
-        shieldImage.toFront(); // Bring the shield to the front of the scene
     }
 
     /**
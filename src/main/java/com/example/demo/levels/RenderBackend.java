@@ -0,0 +1,44 @@
+package com.example.demo.levels;
+
+import com.example.demo.utils.GameLogger;
+
+import java.util.Locale;
+
+/**
+ * RenderBackend selects how a level draws its planes and projectiles.
+ * The default for every level is read from the system property {@code game.renderer}
+ * ("scene-graph" or "canvas"); a level can choose its own by passing it to the
+ * {@link LevelParent} constructor, as the bullet-heavy {@link LevelBoss} does.
+ */
+public enum RenderBackend {
+
+    /** Every actor is an ImageView node in the scene graph. */
+    SCENE_GRAPH,
+
+    /**
+     * Actors stay out of the scene graph and are drawn onto one Canvas per frame, so the number of
+     * sprites does not add nodes to sync, style or pick. Suited to bullet-heavy levels.
+     */
+    CANVAS;
+
+    // Logger for invalid property values
+    private static final GameLogger LOG = GameLogger.getLogger(RenderBackend.class);
+
+    /**
+     * Reads the default backend from the {@code game.renderer} system property.
+     *
+     * @return The configured backend, or {@link #SCENE_GRAPH} if the property is not set or invalid.
+     */
+    public static RenderBackend fromSystemProperty() {
+        String property = System.getProperty("game.renderer");
+        if (property == null) {
+            return SCENE_GRAPH;
+        }
+        try {
+            return valueOf(property.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Ignoring invalid game.renderer: " + property);
+            return SCENE_GRAPH;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.levels;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * SceneLayers splits a level's scene graph into a fixed stack of groups, one per kind of content.
+ * The layers are created once, in drawing order, so nodes only need to be added to the right layer
+ * to appear above or below others: nothing calls toFront, every layer's child list stays short,
+ * and the rarely changing HUD layer can be cached as a bitmap.
+ */
+public final class SceneLayers {
+
+    /**
+     * The layers of a level, from back to front.
+     */
+    public enum Layer {
+        /** The level's background image. */
+        BACKGROUND,
+        /** The player's plane and the enemy planes. */
+        PLANES,
+        /** Projectiles fired by the player and the enemies. */
+        PROJECTILES,
+        /** Effects drawn over the planes, such as the boss's shield. */
+        EFFECTS,
+        /** Score, hearts, boss health and the win and game over images. */
+        HUD,
+        /** The pause menu and the profiler overlay. */
+        OVERLAY
+    }
+
+    // One group per layer, indexed by the layer's ordinal
+    private final Group[] groups = new Group[Layer.values().length];
+
+    /**
+     * Constructor for SceneLayers.
+     * Adds one group per layer to the root, in drawing order.
+     *
+     * @param root The root group of the level's scene; its children are replaced by the layers.
+     */
+    public SceneLayers(Group root) {
+        for (Layer layer : Layer.values()) {
+            groups[layer.ordinal()] = new Group();
+        }
+        groups[Layer.HUD.ordinal()].setCache(true); // Redrawn from the cached bitmap until the HUD changes
+        root.getChildren().setAll(groups);
+    }
+
+    /**
+     * Retrieves the group of a layer.
+     *
+     * @param layer The layer.
+     * @return The group holding the layer's nodes.
+     */
+    public Group get(Layer layer) {
+        return groups[layer.ordinal()];
+    }
+
+    /**
+     * Adds a node to the top of a layer.
+     *
+     * @param layer The layer.
+     * @param node  The node to add.
+     */
+    public void add(Layer layer, Node node) {
+        groups[layer.ordinal()].getChildren().add(node);
+    }
+
+    /**
+     * Removes a node from a layer.
+     *
+     * @param layer The layer.
+     * @param node  The node to remove.
+     */
+    public void remove(Layer layer, Node node) {
+        groups[layer.ordinal()].getChildren().remove(node);
+    }
+
+    /**
+     * Counts the nodes in all layers.
+     *
+     * @return The number of nodes, not counting the layer groups themselves.
+     */
+    public int getNodeCount() {
+        int count = 0;
+        for (Group group : groups) {
+            count += group.getChildren().size();
+        }
+        return count;
+    }
+
+    /**
+     * Removes every node from every layer.
+     */
+    public void clear() {
+        for (Group group : groups) {
+            group.getChildren().clear();
+        }
+    }
+}
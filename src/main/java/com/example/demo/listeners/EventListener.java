@@ -1,17 +1,16 @@
 package com.example.demo.listeners;
 
 // Importing necessary classes
+import com.example.demo.events.GameEventListener;
+import com.example.demo.events.LevelTransitionEvent;
 import com.example.demo.levels.LevelManager;
 import com.example.demo.utils.ErrorHandler;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-
 /**
- * EventListener class listens for property changes and triggers appropriate actions, 
- * such as transitioning to the next level in the game.
+ * EventListener class listens for level transition events and asks the LevelManager
+ * to load the requested level.
  */
-public class EventListener implements PropertyChangeListener {
+public class EventListener implements GameEventListener<LevelTransitionEvent> {
 
     // LevelManager instance to handle level transitions
     private final LevelManager levelManager;
@@ -26,29 +25,23 @@ public class EventListener implements PropertyChangeListener {
     }
 
     /**
-     * Responds to property change events.
+     * Responds to a level transition by loading the requested level.
      *
-     * @param evt The property change event containing details of the change.
+     * @param event The transition event naming the level to load.
      */
     @Override
-    public void propertyChange(PropertyChangeEvent evt) {
-        // Check if the event corresponds to a level transition
-        if ("levelTransition".equals(evt.getPropertyName())) {
-            try {
-                // Extract the new level's class name from the event's new value
-                String nextLevelClassName = (String) evt.getNewValue();
-
-                // Trigger the transition to the next level using LevelManager
-                levelManager.goToLevel(nextLevelClassName);
-
-            } catch (Exception e) {
-                // Handle errors during level transitions
-                ErrorHandler.showError(
-                    "Level Transition Error", 
-                    "An error occurred during the level transition", 
-                    e
-                );
-            }
+    public void onEvent(LevelTransitionEvent event) {
+        try {
+            // Trigger the transition to the requested level using LevelManager
+            levelManager.goToLevel(event.getLevelId());
+
+        } catch (Exception e) {
+            // Handle errors during level transitions
+            ErrorHandler.showError(
+                "Level Transition Error",
+                "An error occurred during the level transition",
+                e
+            );
         }
     }
 }
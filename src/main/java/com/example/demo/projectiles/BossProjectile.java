@@ -1,5 +1,8 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.Sprites;
+
 /**
  * BossProjectile represents the projectiles fired by the boss.
  * It moves horizontally with a zigzag motion vertically.
@@ -7,11 +10,9 @@ package com.example.demo.projectiles;
 public class BossProjectile extends Projectile {
 
     // Constants for projectile properties
-    private static final String IMAGE_NAME = "fireball.png";   // Image representing the projectile
-    private static final int IMAGE_HEIGHT = 50;               // Height of the projectile image
-    private static final int HORIZONTAL_VELOCITY = -30;       // Speed of horizontal movement
-    private static final int INITIAL_X_POSITION = 950;        // Starting X position for the projectile
-    private static final int ZIGZAG_OFFSET = 5;               // Offset for the zigzag motion
+    private static final int HORIZONTAL_VELOCITY = ActorRules.BOSS_PROJECTILE_VELOCITY; // Speed of horizontal movement
+    static final int INITIAL_X_POSITION = ActorRules.BOSS_PROJECTILE_X; // Starting X position for the projectile
+    private static final int ZIGZAG_OFFSET = ActorRules.BOSS_PROJECTILE_ZIGZAG; // Offset for the zigzag motion
 
     // Direction of vertical movement in the zigzag pattern
     private int zigzagDirection = 1; // 1 for down, -1 for up
@@ -23,7 +24,7 @@ public class BossProjectile extends Projectile {
      */
     public BossProjectile(double initialYPos) {
         // Initialize the projectile with its image, size, and initial position
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+        super(Sprites.BOSS_PROJECTILE, INITIAL_X_POSITION, initialYPos);
     }
 
     /**
@@ -37,6 +38,14 @@ public class BossProjectile extends Projectile {
         zigzagDirection *= -1;                           // Flip the direction for the zigzag motion
     }
 
+    /**
+     * Restarts the zigzag motion when the projectile is reused from a pool.
+     */
+    @Override
+    protected void onReset() {
+        zigzagDirection = 1;
+    }
+
     /**
      * Updates the actor's state. In this case, it updates the projectile's position.
      */
@@ -60,7 +60,7 @@ public class DefaultProjectileFiringBehavior implements ProjectileFiringBehavior
         }
 
         if (firingActor instanceof UserPlane) {
-            return new UserProjectile(xPosition, yPosition); // Use the passed positions
+            return ProjectilePools.userProjectile(xPosition, yPosition); // Reuse a pooled projectile at the passed positions
         } else {
             throw new IllegalArgumentException("Unsupported firing actor type.");
         }
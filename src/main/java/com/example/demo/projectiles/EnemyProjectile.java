@@ -1,5 +1,8 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.Sprites;
+
 /**
  * EnemyProjectile represents projectiles fired by enemy planes.
  * It moves horizontally at a specified velocity.
@@ -7,8 +10,6 @@ package com.example.demo.projectiles;
 public class EnemyProjectile extends Projectile {
 
     // Constants for projectile properties
-    private static final String IMAGE_NAME = "enemyFire.png"; // Image representing the projectile
-    private static final int IMAGE_HEIGHT = 35;              // Height of the projectile image
 
     // Horizontal velocity of the projectile
     private int horizontalVelocity;
@@ -21,8 +22,8 @@ public class EnemyProjectile extends Projectile {
      * @param initialYPos The initial Y position of the projectile.
      */
     public EnemyProjectile(double initialXPos, double initialYPos) {
-        // Call the other constructor with a default horizontal velocity of -11
-        this(initialXPos, initialYPos, -11);
+        // Call the other constructor with the default horizontal velocity
+        this(initialXPos, initialYPos, ActorRules.ENEMY_PROJECTILE_VELOCITY);
     }
 
     /**
@@ -35,7 +36,7 @@ public class EnemyProjectile extends Projectile {
      */
     public EnemyProjectile(double initialXPos, double initialYPos, int horizontalVelocity) {
         // Initialize the projectile with its image, size, and position
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        super(Sprites.ENEMY_PROJECTILE, initialXPos, initialYPos);
         this.horizontalVelocity = horizontalVelocity; // Set the projectile's horizontal velocity
     }
 
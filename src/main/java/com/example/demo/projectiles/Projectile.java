@@ -1,6 +1,7 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utils.AssetManifest.ImageAsset;
 
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
@@ -11,16 +12,21 @@ import javafx.geometry.Bounds;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+    // Pool this projectile was taken from, or null if it was created directly
+    private ProjectilePool<?> pool;
+
+    // Whether the projectile is currently idle inside its pool
+    private boolean pooled;
+
     /**
      * Constructor for Projectile.
      *
-     * @param imageName     The file name of the image representing the projectile.
-     * @param imageHeight   The height of the projectile image.
+     * @param sprite        The projectile's image and the height it is displayed at.
      * @param initialXPos   The initial X position of the projectile.
      * @param initialYPos   The initial Y position of the projectile.
      */
-    public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        super(imageName, imageHeight, initialXPos, initialYPos);
+    public Projectile(ImageAsset sprite, double initialXPos, double initialYPos) {
+        super(sprite, initialXPos, initialYPos);
     }
 
     /**
@@ -39,6 +45,60 @@ public abstract class Projectile extends ActiveActorDestructible {
         this.destroy(); // Mark the projectile as destroyed
     }
 
+    /**
+     * Returns the projectile to the pool it was taken from, so its node can be reused.
+     * Does nothing for projectiles that were not created by a pool or are already idle.
+     * Must only be called once the projectile has been removed from the scene.
+     */
+    public void recycle() {
+        if (pool != null && !pooled) {
+            pool.release(this);
+        }
+    }
+
+    /**
+     * Prepares an idle projectile for another shot from the given position.
+     *
+     * @param initialXPos The new X position of the projectile.
+     * @param initialYPos The new Y position of the projectile.
+     */
+    void reset(double initialXPos, double initialYPos) {
+        setLayoutX(initialXPos);
+        setLayoutY(initialYPos);
+        setTranslateX(0);
+        setTranslateY(0);
+        setDestroyed(false);
+        beginStep(); // Start interpolation from the new position
+        onReset();
+    }
+
+    /**
+     * Hook for subclasses to restore their own state when the projectile is reused.
+     */
+    protected void onReset() {
+        // No additional state by default
+    }
+
+    /**
+     * Records that the projectile has been handed out by a pool.
+     *
+     * @param owner The pool the projectile was taken from.
+     */
+    void markInUse(ProjectilePool<?> owner) {
+        this.pool = owner;
+        this.pooled = false;
+    }
+
+    /**
+     * Records that the projectile is idle inside a pool, or was discarded by it.
+     *
+     * @param owner The pool holding the projectile, or null if it was discarded.
+     */
+    void markPooled(ProjectilePool<?> owner) {
+        this.pool = owner;
+        this.pooled = true;
+    }
+
     /**
      * Calculates the reduced hitbox bounds for the projectile.
      * This reduces the size of the hitbox for more precise collision detection.
@@ -0,0 +1,237 @@
+package com.example.demo.projectiles;
+
+import java.util.ArrayDeque;
+
+/**
+ * ProjectilePool keeps destroyed projectiles of one type and hands them out again,
+ * so that firing does not create a new ImageView (and its image lookup) for every shot.
+ *
+ * A pool retains up to {@code capacity} idle projectiles. When a projectile is requested and no
+ * idle one is available a new one is created (a miss). When more projectiles are returned than
+ * the pool can hold, the growth policy decides whether the pool grows or discards them.
+ *
+ * Pools are used from the JavaFX application thread only and are not thread-safe.
+ *
+ * @param <T> The type of projectile held by the pool.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    /**
+     * Decides what happens to a returned projectile when the pool is already full.
+     */
+    public enum GrowthPolicy {
+        /** The capacity is raised so the projectile can be kept. */
+        GROW,
+        /** The projectile is discarded and left to the garbage collector. */
+        FIXED
+    }
+
+    /**
+     * Creates a new projectile at the given position.
+     *
+     * @param <T> The type of projectile created.
+     */
+    @FunctionalInterface
+    public interface Factory<T extends Projectile> {
+
+        /**
+         * Creates a projectile.
+         *
+         * @param initialXPos The initial X position of the projectile.
+         * @param initialYPos The initial Y position of the projectile.
+         * @return The new projectile.
+         */
+        T create(double initialXPos, double initialYPos);
+    }
+
+    // Name used in statistics output
+    private final String name;
+
+    // Creates new projectiles on a miss
+    private final Factory<T> factory;
+
+    // What to do with returned projectiles when the pool is full
+    private final GrowthPolicy growthPolicy;
+
+    // Idle projectiles ready to be reused
+    private final ArrayDeque<T> idle;
+
+    // Maximum number of idle projectiles kept
+    private int capacity;
+
+    // Statistics
+    private long hits;
+    private long misses;
+    private long discarded;
+    private int inUse;
+    private int peakInUse;
+
+    /**
+     * Constructor for ProjectilePool.
+     *
+     * @param name         A name for the pool, used in statistics output.
+     * @param factory      Creates a new projectile when no idle one is available.
+     * @param capacity     The maximum number of idle projectiles kept by the pool.
+     * @param growthPolicy What to do with returned projectiles when the pool is full.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ProjectilePool(String name, Factory<T> factory, int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative.");
+        }
+        this.name = name;
+        this.factory = factory;
+        this.capacity = capacity;
+        this.growthPolicy = growthPolicy;
+        this.idle = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Creates idle projectiles up front, so the first shots of a level do not miss.
+     * Must be called on the JavaFX application thread.
+     *
+     * @param count The number of projectiles to create, limited by the capacity.
+     */
+    public void prewarm(int count) {
+        int target = Math.min(count, capacity);
+        while (idle.size() < target) {
+            T projectile = factory.create(0, 0);
+            projectile.markPooled(this);
+            idle.push(projectile);
+        }
+    }
+
+    /**
+     * Retrieves a projectile positioned at the given coordinates,
+     * reusing an idle projectile if one is available.
+     *
+     * @param initialXPos The X position of the projectile.
+     * @param initialYPos The Y position of the projectile.
+     * @return A projectile that is not destroyed and ready to be added to the scene.
+     */
+    public T acquire(double initialXPos, double initialYPos) {
+        T projectile = idle.poll();
+        if (projectile != null) {
+            hits++;
+            projectile.reset(initialXPos, initialYPos);
+        } else {
+            misses++;
+            projectile = factory.create(initialXPos, initialYPos);
+        }
+        projectile.markInUse(this);
+        inUse++;
+        peakInUse = Math.max(peakInUse, inUse);
+        return projectile;
+    }
+
+    /**
+     * Returns a projectile to the pool. Called through {@link Projectile#recycle()}.
+     *
+     * @param projectile The projectile to return.
+     */
+    void release(Projectile projectile) {
+        @SuppressWarnings("unchecked")
+        T typed = (T) projectile; // Only projectiles acquired from this pool are returned to it
+        inUse = Math.max(0, inUse - 1);
+        if (idle.size() >= capacity) {
+            if (growthPolicy == GrowthPolicy.FIXED) {
+                discarded++;
+                projectile.markPooled(null);
+                return;
+            }
+            capacity++;
+        }
+        projectile.markPooled(this);
+        idle.push(typed);
+    }
+
+    /**
+     * Drops all idle projectiles, e.g. when their images are no longer needed.
+     */
+    public void clear() {
+        idle.clear();
+    }
+
+    /**
+     * Retrieves the number of requests served by an idle projectile.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of requests that had to create a new projectile.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of returned projectiles discarded because the pool was full.
+     *
+     * @return The discard count.
+     */
+    public long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Retrieves the number of projectiles currently handed out.
+     *
+     * @return The number of projectiles in use.
+     */
+    public int getInUse() {
+        return inUse;
+    }
+
+    /**
+     * Retrieves the highest number of projectiles handed out at the same time.
+     *
+     * @return The peak number of projectiles in use.
+     */
+    public int getPeakInUse() {
+        return peakInUse;
+    }
+
+    /**
+     * Retrieves the number of idle projectiles held by the pool.
+     *
+     * @return The idle count.
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Retrieves the current capacity of the pool.
+     *
+     * @return The maximum number of idle projectiles kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Provides a string representation of the pool's statistics.
+     *
+     * @return A string describing the pool.
+     */
+    @Override
+    public String toString() {
+        return "ProjectilePool{" +
+                "name='" + name + '\'' +
+                ", capacity=" + capacity +
+                ", policy=" + growthPolicy +
+                ", idle=" + idle.size() +
+                ", inUse=" + inUse +
+                ", peakInUse=" + peakInUse +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", discarded=" + discarded +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.projectiles;
+
+import java.util.List;
+
+/**
+ * ProjectilePools holds one shared pool per projectile type.
+ * Planes take their projectiles from here, and levels recycle them once they are destroyed.
+ */
+public final class ProjectilePools {
+
+    // Pool sizes, large enough for a busy screen of each projectile type
+    private static final int USER_CAPACITY = 32;
+    private static final int ENEMY_CAPACITY = 64;
+    private static final int BOSS_CAPACITY = 32;
+
+    // Shared pools
+    private static final ProjectilePool<UserProjectile> USER = new ProjectilePool<>(
+            "UserProjectile", UserProjectile::new, USER_CAPACITY, ProjectilePool.GrowthPolicy.FIXED);
+    private static final ProjectilePool<EnemyProjectile> ENEMY = new ProjectilePool<>(
+            "EnemyProjectile", EnemyProjectile::new, ENEMY_CAPACITY, ProjectilePool.GrowthPolicy.FIXED);
+    private static final ProjectilePool<BossProjectile> BOSS = new ProjectilePool<>(
+            "BossProjectile", (x, y) -> new BossProjectile(y), BOSS_CAPACITY, ProjectilePool.GrowthPolicy.FIXED);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ProjectilePools() {
+    }
+
+    /**
+     * Retrieves a user projectile at the given position.
+     *
+     * @param initialXPos The X position of the projectile.
+     * @param initialYPos The Y position of the projectile.
+     * @return A ready-to-use user projectile.
+     */
+    public static UserProjectile userProjectile(double initialXPos, double initialYPos) {
+        return USER.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Retrieves an enemy projectile at the given position.
+     *
+     * @param initialXPos The X position of the projectile.
+     * @param initialYPos The Y position of the projectile.
+     * @return A ready-to-use enemy projectile.
+     */
+    public static EnemyProjectile enemyProjectile(double initialXPos, double initialYPos) {
+        return ENEMY.acquire(initialXPos, initialYPos);
+    }
+
+    /**
+     * Retrieves a boss projectile at the given height.
+     *
+     * @param initialYPos The Y position of the projectile.
+     * @return A ready-to-use boss projectile.
+     */
+    public static BossProjectile bossProjectile(double initialYPos) {
+        return BOSS.acquire(BossProjectile.INITIAL_X_POSITION, initialYPos);
+    }
+
+    /**
+     * Retrieves all shared pools, e.g. for reporting their statistics.
+     *
+     * @return The user, enemy and boss projectile pools.
+     */
+    public static List<ProjectilePool<?>> all() {
+        return List.of(USER, ENEMY, BOSS);
+    }
+}
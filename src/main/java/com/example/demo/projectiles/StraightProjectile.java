@@ -1,6 +1,9 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.Sprites;
 import javafx.geometry.Bounds;
 import javafx.geometry.BoundingBox;
 
@@ -10,20 +13,22 @@ import javafx.geometry.BoundingBox;
  */
 public class StraightProjectile extends ActiveActorDestructible {
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(StraightProjectile.class);
+
     // Speed of the projectile in the Y direction
     private final double speed;
 
     /**
      * Constructor for StraightProjectile.
      *
-     * @param imageName     The file name of the image representing the projectile.
-     * @param imageHeight   The height of the projectile image.
+     * @param sprite        The projectile's image and the height it is displayed at.
      * @param initialXPos   The initial X position of the projectile.
      * @param initialYPos   The initial Y position of the projectile.
      * @param speed         The speed at which the projectile moves.
      */
-    public StraightProjectile(String imageName, int imageHeight, double initialXPos, double initialYPos, double speed) {
-        super(imageName, imageHeight, initialXPos, initialYPos); // Call the parent class constructor
+    public StraightProjectile(ImageAsset sprite, double initialXPos, double initialYPos, double speed) {
+        super(sprite, initialXPos, initialYPos); // Call the parent class constructor
         this.speed = speed; // Set the speed of the projectile
     }
 
@@ -50,7 +55,7 @@ public class StraightProjectile extends ActiveActorDestructible {
         if (isOutOfBounds()) {
             // Destroy the projectile if it goes out of the game area
             destroy();
-            System.out.println("StraightProjectile went out of bounds and was destroyed."); // Debug message
+            LOG.debug(() -> "StraightProjectile went out of bounds and was destroyed."); // Debug message
         }
     }
 
@@ -62,7 +67,7 @@ public class StraightProjectile extends ActiveActorDestructible {
     public void takeDamage() {
         // Destroy the projectile upon taking damage
         destroy();
-        System.out.println("StraightProjectile took damage and was destroyed."); // Debug message
+        LOG.debug(() -> "StraightProjectile took damage and was destroyed."); // Debug message
     }
 
     /**
@@ -120,7 +125,7 @@ public class StraightProjectile extends ActiveActorDestructible {
      */
     public static void main(String[] args) {
         // Create a StraightProjectile object with test parameters
-        StraightProjectile projectile = new StraightProjectile("projectile.png", 20, 100, 500, -5.0);
+        StraightProjectile projectile = new StraightProjectile(Sprites.USER_PROJECTILE, 100, 500, -5.0);
 
         // Print the initial state of the projectile
         System.out.println("Initial Projectile: " + projectile);
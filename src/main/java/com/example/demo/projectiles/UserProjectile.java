@@ -1,6 +1,9 @@
 package com.example.demo.projectiles;
 
 import com.example.demo.actors.UserPlane;
+import com.example.demo.simulation.ActorRules;
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.Sprites;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.Group;
@@ -15,12 +18,13 @@ import javafx.scene.shape.Rectangle;
 public class UserProjectile extends Projectile {
 
     // Constants for projectile properties
-    private static final String IMAGE_NAME = "projectile.png";  // Image representing the projectile
-    private static final int IMAGE_HEIGHT = 125;               // Height of the projectile image
-    private static final int HORIZONTAL_VELOCITY = 15;         // Speed of horizontal movement
+    private static final int HORIZONTAL_VELOCITY = ActorRules.USER_PROJECTILE_VELOCITY; // Speed of horizontal movement
     private static final int HITBOX_MARGIN = 30;               // Margin to reduce the hitbox size
     private static final boolean DEBUG_HITBOXES = false;       // Enable/disable hitbox visualization
 
+    // Logger for debug output
+    private static final GameLogger LOG = GameLogger.getLogger(UserProjectile.class);
+
     private final UserPlane userPlane; // Reference to the user plane (can be null for static projectiles)
 
     /**
@@ -30,7 +34,7 @@ public class UserProjectile extends Projectile {
      * @param userPlane The UserPlane instance firing this projectile.
      */
     public UserProjectile(UserPlane userPlane) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, userPlane.getLayoutX() + 110, userPlane.getLayoutY());
+        super(Sprites.USER_PROJECTILE, userPlane.getLayoutX() + ActorRules.USER_PROJECTILE_X_OFFSET, userPlane.getLayoutY());
         this.userPlane = userPlane; // Store the reference to the UserPlane
     }
 
@@ -42,7 +46,7 @@ public class UserProjectile extends Projectile {
      * @param initialYPos The initial Y position of the projectile.
      */
     public UserProjectile(double initialXPos, double initialYPos) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+        super(Sprites.USER_PROJECTILE, initialXPos, initialYPos);
         this.userPlane = null; // No reference to a UserPlane (static projectile)
     }
 
@@ -55,7 +59,7 @@ public class UserProjectile extends Projectile {
     public void updatePosition() {
         if (userPlane != null) {
             // Dynamically align with the UserPlane
-            setTranslateX(userPlane.getLayoutX() + 110);
+            setTranslateX(userPlane.getLayoutX() + ActorRules.USER_PROJECTILE_X_OFFSET);
             setTranslateY(userPlane.getLayoutY());
         } else {
             // Move horizontally without syncing (static projectile behavior)
@@ -120,7 +124,7 @@ public class UserProjectile extends Projectile {
     public void takeDamage() {
         // Destroy the projectile upon taking damage
         destroy();
-        System.out.println("UserProjectile took damage and was destroyed."); // Debug message
+        LOG.debug(() -> "UserProjectile took damage and was destroyed."); // Debug message
     }
 
     /**
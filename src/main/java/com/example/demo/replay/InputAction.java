@@ -0,0 +1,45 @@
+package com.example.demo.replay;
+
+/**
+ * The player inputs that affect a level, as they are recorded and replayed.
+ * Each action is applied at the start of a simulation step, so a recording can reproduce
+ * exactly when it took effect.
+ */
+public enum InputAction {
+    /** UP was pressed: the plane starts moving up. */
+    UP,
+    /** DOWN was pressed: the plane starts moving down. */
+    DOWN,
+    /** UP or DOWN was released: the plane stops moving. */
+    STOP,
+    /** SPACE was pressed: the plane fires a projectile. */
+    FIRE,
+    /** P was pressed: the game was paused or resumed. Kept for reference; replays ignore it. */
+    PAUSE;
+
+    // All actions, indexed by their code
+    private static final InputAction[] BY_CODE = values();
+
+    /**
+     * Retrieves the code the action is stored as in a recording.
+     *
+     * @return The action code.
+     */
+    public int getCode() {
+        return ordinal();
+    }
+
+    /**
+     * Looks up an action by its recording code.
+     *
+     * @param code The action code.
+     * @return The action.
+     * @throws IllegalArgumentException if no action has that code.
+     */
+    public static InputAction fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown input action code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * InputRecorder writes the game seed and every applied player input to a compact binary file.
+ * Together with the seeded random sources of the levels, the file is enough to play the same
+ * game again with {@link InputReplay}. See {@link ReplayFormat} for the layout.
+ *
+ * Inputs are recorded on the JavaFX application thread; the methods are synchronized only so
+ * that a shutdown hook can close the file safely. Output is buffered and flushed at the end of
+ * every level.
+ */
+public class InputRecorder implements Closeable {
+
+    // Buffered output of the recording
+    private final DataOutputStream out;
+
+    // State of the current level segment
+    private boolean inLevel;
+    private long lastTick;
+    private boolean closed;
+
+    /**
+     * Constructor for InputRecorder. Creates (or replaces) the file and writes the header.
+     *
+     * @param file     The file to record to.
+     * @param gameSeed The seed of the recorded game.
+     * @throws IOException if the file cannot be created.
+     */
+    public InputRecorder(Path file, long gameSeed) throws IOException {
+        this(Files.newOutputStream(file), gameSeed);
+    }
+
+    /**
+     * Constructor for InputRecorder writing to a stream.
+     *
+     * @param output   The stream to record to; it is closed with the recorder.
+     * @param gameSeed The seed of the recorded game.
+     * @throws IOException if the header cannot be written.
+     */
+    public InputRecorder(OutputStream output, long gameSeed) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(ReplayFormat.MAGIC);
+        out.writeShort(ReplayFormat.VERSION);
+        out.writeLong(gameSeed);
+    }
+
+    /**
+     * Starts the segment of a new level. An unfinished previous segment is ended at its last input.
+     *
+     * @param levelName The class name of the level.
+     */
+    public synchronized void beginLevel(String levelName) {
+        if (inLevel) {
+            endLevel(lastTick);
+        }
+        write(() -> {
+            out.writeByte(ReplayFormat.TAG_LEVEL);
+            out.writeUTF(levelName);
+        });
+        inLevel = true;
+        lastTick = 0;
+    }
+
+    /**
+     * Records an input that was applied at the start of a step.
+     *
+     * @param tick   The index of the step within the current level.
+     * @param action The applied input.
+     * @throws IllegalStateException if no level has been started or the tick goes backwards.
+     */
+    public synchronized void record(long tick, InputAction action) {
+        long delta = checkTick(tick);
+        write(() -> {
+            out.writeByte(action.getCode());
+            ReplayFormat.writeVarLong(out, delta);
+        });
+        lastTick = tick;
+    }
+
+    /**
+     * Ends the current level segment and flushes the recording.
+     *
+     * @param ticks The number of steps the level ran.
+     */
+    public synchronized void endLevel(long ticks) {
+        if (!inLevel) return;
+        long delta = checkTick(ticks);
+        write(() -> {
+            out.writeByte(ReplayFormat.TAG_END_LEVEL);
+            ReplayFormat.writeVarLong(out, delta);
+            out.flush();
+        });
+        inLevel = false;
+    }
+
+    /**
+     * Validates a step index against the current segment.
+     *
+     * @param tick The step index.
+     * @return The number of steps since the previous entry.
+     */
+    private long checkTick(long tick) {
+        if (!inLevel) {
+            throw new IllegalStateException("No level has been started in the recording.");
+        }
+        if (tick < lastTick) {
+            throw new IllegalStateException("Inputs must be recorded in step order.");
+        }
+        return tick - lastTick;
+    }
+
+    /**
+     * Ends the current level, writes the end marker and closes the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        endLevel(lastTick);
+        closed = true;
+        try (out) {
+            out.writeByte(ReplayFormat.TAG_END);
+        }
+    }
+
+    /**
+     * Runs a write, turning I/O errors into unchecked exceptions so recording can be called
+     * from the game loop.
+     *
+     * @param action The write to run.
+     */
+    private void write(IoAction action) {
+        if (closed) {
+            throw new IllegalStateException("The recording has been closed.");
+        }
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing the input recording failed", e);
+        }
+    }
+
+    /**
+     * A write that may fail with an IOException.
+     */
+    @FunctionalInterface
+    private interface IoAction {
+        /**
+         * Performs the write.
+         *
+         * @throws IOException if writing fails.
+         */
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.demo.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * InputReplay holds a recording made by {@link InputRecorder}.
+ * Levels take their inputs from it one segment at a time, in the order they were played.
+ */
+public class InputReplay {
+
+    // Seed of the recorded game
+    private final long gameSeed;
+
+    // Recorded level segments, in play order
+    private final List<LevelReplay> levels;
+
+    // Index of the next segment to hand out
+    private int nextLevel;
+
+    /**
+     * Constructor for InputReplay.
+     *
+     * @param gameSeed The seed of the recorded game.
+     * @param levels   The recorded level segments.
+     */
+    private InputReplay(long gameSeed, List<LevelReplay> levels) {
+        this.gameSeed = gameSeed;
+        this.levels = levels;
+    }
+
+    /**
+     * Reads a recording file.
+     *
+     * @param file The file to read.
+     * @return The recording.
+     * @throws IOException if the file cannot be read or is not a valid recording.
+     */
+    public static InputReplay read(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input);
+        }
+    }
+
+    /**
+     * Reads a recording from a stream.
+     *
+     * @param input The stream to read; it is not closed.
+     * @return The recording.
+     * @throws IOException if the stream cannot be read or is not a valid recording.
+     */
+    public static InputReplay read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = in.readUnsignedShort();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        long gameSeed = in.readLong();
+
+        List<LevelReplay> levels = new ArrayList<>();
+        int tag;
+        while ((tag = in.readUnsignedByte()) != ReplayFormat.TAG_END) {
+            if (tag != ReplayFormat.TAG_LEVEL) {
+                throw new IOException("Expected a level segment, found tag " + tag);
+            }
+            levels.add(readLevel(in));
+        }
+        return new InputReplay(gameSeed, levels);
+    }
+
+    /**
+     * Reads one level segment, after its LEVEL tag.
+     *
+     * @param in The stream to read.
+     * @return The level's inputs.
+     * @throws IOException if the segment is malformed.
+     */
+    private static LevelReplay readLevel(DataInputStream in) throws IOException {
+        String levelName = in.readUTF();
+        List<InputAction> actions = new ArrayList<>();
+        long[] ticks = new long[16];
+        long tick = 0;
+        int tag;
+        while ((tag = in.readUnsignedByte()) != ReplayFormat.TAG_END_LEVEL) {
+            InputAction action;
+            try {
+                action = InputAction.fromCode(tag);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Malformed level segment for " + levelName, e);
+            }
+            tick += ReplayFormat.readVarLong(in);
+            if (actions.size() == ticks.length) {
+                ticks = Arrays.copyOf(ticks, ticks.length * 2);
+            }
+            ticks[actions.size()] = tick;
+            actions.add(action);
+        }
+        tick += ReplayFormat.readVarLong(in);
+        return new LevelReplay(levelName, Arrays.copyOf(ticks, actions.size()),
+                actions.toArray(new InputAction[0]), tick);
+    }
+
+    /**
+     * Retrieves the seed of the recorded game.
+     *
+     * @return The game seed.
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Retrieves the number of recorded level segments.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Hands out the inputs of the next recorded level.
+     *
+     * @param levelName The class name of the level that is starting.
+     * @return The level's inputs, or null if the recording has no more levels.
+     * @throws IllegalStateException if the next recorded level is a different level.
+     */
+    public LevelReplay nextLevel(String levelName) {
+        if (nextLevel >= levels.size()) {
+            return null;
+        }
+        LevelReplay level = levels.get(nextLevel);
+        if (!level.getLevelName().equals(levelName)) {
+            throw new IllegalStateException("Replay expected " + level.getLevelName() + " but " + levelName + " started.");
+        }
+        nextLevel++;
+        return level;
+    }
+}
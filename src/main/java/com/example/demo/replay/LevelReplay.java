@@ -0,0 +1,87 @@
+package com.example.demo.replay;
+
+import java.util.function.Consumer;
+
+/**
+ * LevelReplay holds the recorded inputs of one level and hands them out step by step.
+ */
+public class LevelReplay {
+
+    // Class name of the recorded level
+    private final String levelName;
+
+    // Step index of every input, in order, and the inputs themselves
+    private final long[] ticks;
+    private final InputAction[] actions;
+
+    // Number of steps the level ran while recording
+    private final long tickCount;
+
+    // Index of the next input to hand out
+    private int cursor;
+
+    /**
+     * Constructor for LevelReplay.
+     *
+     * @param levelName The class name of the recorded level.
+     * @param ticks     The step index of every input, in ascending order.
+     * @param actions   The inputs.
+     * @param tickCount The number of steps the level ran.
+     */
+    LevelReplay(String levelName, long[] ticks, InputAction[] actions, long tickCount) {
+        this.levelName = levelName;
+        this.ticks = ticks;
+        this.actions = actions;
+        this.tickCount = tickCount;
+    }
+
+    /**
+     * Passes every input recorded for a step, in recorded order, to a consumer.
+     * Steps must be requested in ascending order.
+     *
+     * @param tick     The index of the step that is starting.
+     * @param consumer Applies the inputs.
+     */
+    public void forEachInputAt(long tick, Consumer<InputAction> consumer) {
+        while (cursor < actions.length && ticks[cursor] <= tick) {
+            consumer.accept(actions[cursor++]);
+        }
+    }
+
+    /**
+     * Checks if the replay has reached the step at which the recording of the level ended.
+     *
+     * @param tick The index of the current step.
+     * @return True if no recorded input or step is left, otherwise false.
+     */
+    public boolean isFinished(long tick) {
+        return cursor >= actions.length && tick >= tickCount;
+    }
+
+    /**
+     * Retrieves the class name of the recorded level.
+     *
+     * @return The level name.
+     */
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Retrieves the number of recorded inputs.
+     *
+     * @return The input count.
+     */
+    public int getInputCount() {
+        return actions.length;
+    }
+
+    /**
+     * Retrieves the number of steps the level ran while recording.
+     *
+     * @return The step count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * ReplayFormat describes the binary layout of input recordings.
+ *
+ * A file starts with a header (magic number, format version, game seed), followed by one
+ * segment per level played:
+ * - LEVEL tag, then the level's class name (modified UTF-8)
+ * - one entry per input: the action code, then the number of steps since the previous input
+ * - END_LEVEL tag, then the number of steps from the last input to the end of the level
+ *
+ * The file ends with an END tag. Step counts are written as unsigned variable-length
+ * integers, so a typical input costs two bytes.
+ */
+final class ReplayFormat {
+
+    // "1942" in ASCII, identifies recording files
+    static final int MAGIC = 0x31393432;
+
+    // Version of the layout described above
+    static final int VERSION = 1;
+
+    // Tags that are not action codes
+    static final int TAG_LEVEL = 0x40;
+    static final int TAG_END_LEVEL = 0x41;
+    static final int TAG_END = 0x7F;
+
+    /**
+     * Constructor for ReplayFormat. Not used; the class only has static members.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes a non-negative number using 7 bits per byte.
+     *
+     * @param out   The stream to write to.
+     * @param value The number to write.
+     * @throws IOException if writing fails.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80); // More bytes follow
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException if reading fails or the number is malformed.
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed step count in recording");
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.simulation;
+
+/**
+ * ActorRules holds the tuning values of the planes and projectiles: where they start, how fast
+ * they move, how often they fire and when the boss raises its shield. The JavaFX actors and the
+ * headless World read the same values, so the simulation cannot drift from the game.
+ */
+public final class ActorRules {
+
+    // Player's plane
+    public static final double USER_INITIAL_X = 5.0; // Initial X position
+    public static final double USER_INITIAL_Y = 300.0; // Initial Y position
+    public static final double USER_Y_UPPER_BOUND = -40; // Movement upper boundary
+    public static final double USER_Y_LOWER_BOUND = 600.0; // Movement lower boundary
+    public static final int USER_VERTICAL_VELOCITY = 8; // Speed of vertical movement
+    public static final double USER_PROJECTILE_X_OFFSET = 110; // Distance from the plane's left edge to its projectiles
+
+    // Regular enemy planes
+    public static final int ENEMY_HORIZONTAL_VELOCITY = -6; // Speed of horizontal movement
+    public static final double ENEMY_FIRE_RATE = 0.04; // Probability of firing a projectile each step
+    public static final double ENEMY_PROJECTILE_X_OFFSET = -100.0; // X offset for projectile spawn
+    public static final double ENEMY_PROJECTILE_Y_OFFSET = 50.0; // Y offset for projectile spawn
+
+    // Boss plane and its shield
+    public static final double BOSS_INITIAL_X = 1000.0; // Starting X position
+    public static final double BOSS_INITIAL_Y = 400.0; // Starting Y position
+    public static final int BOSS_VERTICAL_VELOCITY = 8; // Speed of vertical movement
+    public static final double BOSS_FIRE_RATE = 0.04; // Probability of firing a projectile each step
+    public static final int MAX_FRAMES_WITH_SHIELD = 300; // Maximum duration of the shield
+    public static final double SHIELD_ACTIVATION_PROBABILITY = 0.01; // Probability of activation per step
+
+    // Projectiles
+    public static final int USER_PROJECTILE_VELOCITY = 15; // Speed of the player's projectiles
+    public static final int ENEMY_PROJECTILE_VELOCITY = -11; // Default speed of enemy projectiles
+    public static final int BOSS_PROJECTILE_VELOCITY = -30; // Speed of the boss's projectiles
+    public static final int BOSS_PROJECTILE_ZIGZAG = 5; // Vertical offset of the boss projectiles' zigzag
+    public static final int BOSS_PROJECTILE_X = 950; // X position the boss's projectiles start at
+
+    /**
+     * Private constructor; ActorRules only holds constants.
+     */
+    private ActorRules() {
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * BatchSimulationRunner plays many seeded headless games of one level in parallel to measure how
+ * hard the level is. Games are split over a ForkJoinPool; every game owns its World, bot and
+ * generators, and every worker aggregates into its own {@link BatchStatistics}, so no state is
+ * shared while games run. Results depend only on the arguments, not on the number of threads.
+ * <p>
+ * The games are played by {@link World}, not by the JavaFX LevelOne, LevelTwo and LevelBoss classes.
+ * World reads the same {@link ActorRules} and {@link LevelRules}, spawns enemies through
+ * {@link LevelRules#spawnEnemies} and uses the same overlap test as the levels, but it keeps its own
+ * copy of the movement, firing and damage code. The win rates are only as accurate as that copy:
+ * a gameplay change made in the levels must be made in World too before the numbers mean anything.
+ *
+ * Usage:
+ * <pre>
+ * java -cp target/classes com.example.demo.simulation.BatchSimulationRunner \
+ *     --level LevelTwo --games 10000 --bot tracking --spawn-probability 0.3
+ * </pre>
+ */
+public class BatchSimulationRunner {
+
+    // Playfield size of the game window
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    // Game time of one simulation step, matching LevelParent's fixed step
+    private static final double TICK_MILLIS = 50;
+
+    // Number of games below which a task plays its range itself instead of splitting it
+    private static final int GAMES_PER_TASK = 64;
+
+    // Default step limit per game: ten minutes of game time
+    private static final long DEFAULT_MAX_TICKS = 12_000;
+
+    // Configuration of the batch
+    private final LevelRules rules;
+    private final Supplier<Bot> bots;
+    private final long baseSeed;
+    private final long maxTicks;
+
+    /**
+     * Constructor for BatchSimulationRunner.
+     *
+     * @param rules    The level to play.
+     * @param bots     Creates a new bot for every game.
+     * @param baseSeed Seed from which the seed of every game is derived.
+     * @param maxTicks Maximum number of steps per game.
+     */
+    public BatchSimulationRunner(LevelRules rules, Supplier<Bot> bots, long baseSeed, long maxTicks) {
+        this.rules = rules;
+        this.bots = bots;
+        this.baseSeed = baseSeed;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays a batch of games on the given pool.
+     *
+     * @param games Number of games to play.
+     * @param pool  The pool to run the games on.
+     * @return The aggregated statistics of all games.
+     */
+    public BatchStatistics run(int games, ForkJoinPool pool) {
+        return pool.invoke(new GameRangeTask(0, games));
+    }
+
+    /**
+     * Plays a single game of the batch.
+     *
+     * @param index Index of the game within the batch.
+     * @return The result of the game.
+     */
+    public GameResult playGame(long index) {
+        long seed = GameRandom.levelSeed(baseSeed + index, rules.getName());
+        return GameResult.play(rules, SCREEN_WIDTH, SCREEN_HEIGHT, seed, bots.get(), maxTicks);
+    }
+
+    /**
+     * RecursiveTask that plays a range of games, splitting it in halves until it is small enough.
+     */
+    private final class GameRangeTask extends RecursiveTask<BatchStatistics> {
+
+        private static final long serialVersionUID = 1L;
+
+        // First game (inclusive) and last game (exclusive) of the range
+        private final long from;
+        private final long to;
+
+        /**
+         * Constructor for GameRangeTask.
+         *
+         * @param from Index of the first game.
+         * @param to   Index after the last game.
+         */
+        GameRangeTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Plays the range directly or forks its two halves.
+         *
+         * @return The statistics of the range.
+         */
+        @Override
+        protected BatchStatistics compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                BatchStatistics statistics = new BatchStatistics();
+                for (long index = from; index < to; index++) {
+                    statistics.add(playGame(index));
+                }
+                return statistics;
+            }
+            long middle = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, middle);
+            left.fork();
+            BatchStatistics right = new GameRangeTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Entry point of the command-line runner.
+     *
+     * @param args Options: --level, --games, --bot, --seed, --threads, --max-ticks,
+     *             --total-enemies, --spawn-probability, --kills, --health.
+     */
+    public static void main(String[] args) {
+        LevelRules base = LevelRules.LEVEL_ONE;
+        int games = 1_000;
+        String botName = "tracking";
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = DEFAULT_MAX_TICKS;
+        Integer totalEnemies = null;
+        Double spawnProbability = null;
+        Integer kills = null;
+        Integer health = null;
+        LevelRules rules;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--level" -> base = levelByName(value);
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--bot" -> botName = value;
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--max-ticks" -> maxTicks = Long.parseLong(value);
+                    case "--total-enemies" -> totalEnemies = Integer.parseInt(value);
+                    case "--spawn-probability" -> spawnProbability = Double.parseDouble(value);
+                    case "--kills" -> kills = Integer.parseInt(value);
+                    case "--health" -> health = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+            Bot.create(botName); // Fail early on an unknown bot name
+
+            // Override only the rules that were given on the command line
+            rules = new LevelRules(base.getName(),
+                    totalEnemies != null ? totalEnemies : base.getTotalEnemies(),
+                    spawnProbability != null ? spawnProbability : base.getEnemySpawnProbability(),
+                    kills != null ? kills : base.getKillsToAdvance(),
+                    health != null ? health : base.getPlayerInitialHealth(),
+                    base.isBossLevel());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        String bot = botName;
+        BatchSimulationRunner runner = new BatchSimulationRunner(rules, () -> Bot.create(bot), seed, maxTicks);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            BatchStatistics statistics = runner.run(games, pool);
+            long elapsed = System.nanoTime() - start;
+            String title = rules + " bot=" + botName + " seed=" + seed + " threads=" + threads;
+            System.out.print(statistics.report(title, elapsed, TICK_MILLIS));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Looks up the built-in rules of a level.
+     *
+     * @param name The level name, e.g. LevelOne.
+     * @return The rules of the level.
+     * @throws IllegalArgumentException if the level is unknown.
+     */
+    private static LevelRules levelByName(String name) {
+        for (LevelRules rules : new LevelRules[] {LevelRules.LEVEL_ONE, LevelRules.LEVEL_TWO, LevelRules.LEVEL_BOSS}) {
+            if (rules.getName().equalsIgnoreCase(name)) {
+                return rules;
+            }
+        }
+        throw new IllegalArgumentException("Unknown level: " + name);
+    }
+
+    /**
+     * Prints the command-line options.
+     */
+    private static void printUsage() {
+        System.err.println("""
+                Usage: BatchSimulationRunner [options]
+                Plays the level in the headless World, which mirrors the game's rules;
+                keep World in step with the levels or the win rates will not match the game.
+                  --level NAME               LevelOne, LevelTwo or LevelBoss (default LevelOne)
+                  --games N                  number of games to play (default 1000)
+                  --bot NAME                 random or tracking (default tracking)
+                  --seed N                   base seed of the batch (default 0)
+                  --threads N                worker threads (default: available processors)
+                  --max-ticks N              step limit per game (default 12000)
+                  --total-enemies N          override the enemies on screen at once
+                  --spawn-probability P      override the enemy spawn probability
+                  --kills N                  override the kills needed to advance
+                  --health N                 override the player's starting health""");
+    }
+}
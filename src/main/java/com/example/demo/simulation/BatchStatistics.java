@@ -0,0 +1,173 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.LatencyHistogram;
+
+/**
+ * BatchStatistics aggregates the results of many simulated games.
+ * Each worker fills its own instance and the instances are merged afterwards, so no state is
+ * shared between threads while games are running.
+ */
+public final class BatchStatistics {
+
+    // Game counts by outcome
+    private long games;
+    private long won;
+    private long lost;
+    private long timedOut;
+
+    // Totals over all games
+    private long totalTicks;
+    private long totalDamage;
+    private long totalKills;
+
+    // Steps needed to win, over won games only
+    private final LatencyHistogram ticksToClear = new LatencyHistogram();
+
+    /**
+     * Adds the result of one game.
+     *
+     * @param result The game result.
+     */
+    public void add(GameResult result) {
+        games++;
+        totalTicks += result.ticks();
+        totalDamage += result.damageTaken();
+        totalKills += result.kills();
+        switch (result.outcome()) {
+            case WON -> {
+                won++;
+                ticksToClear.record(result.ticks());
+            }
+            case LOST -> lost++;
+            case RUNNING -> timedOut++;
+        }
+    }
+
+    /**
+     * Adds all games of another instance to this one.
+     *
+     * @param other The statistics to merge; they are not changed.
+     * @return This instance.
+     */
+    public BatchStatistics merge(BatchStatistics other) {
+        games += other.games;
+        won += other.won;
+        lost += other.lost;
+        timedOut += other.timedOut;
+        totalTicks += other.totalTicks;
+        totalDamage += other.totalDamage;
+        totalKills += other.totalKills;
+        ticksToClear.add(other.ticksToClear);
+        return this;
+    }
+
+    /**
+     * Retrieves the number of games played.
+     *
+     * @return The game count.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Retrieves the number of games won.
+     *
+     * @return The win count.
+     */
+    public long getWon() {
+        return won;
+    }
+
+    /**
+     * Retrieves the number of games lost.
+     *
+     * @return The loss count.
+     */
+    public long getLost() {
+        return lost;
+    }
+
+    /**
+     * Retrieves the number of games that hit the step limit.
+     *
+     * @return The time-out count.
+     */
+    public long getTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Retrieves the total number of steps simulated.
+     *
+     * @return The step count.
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Retrieves the share of games won.
+     *
+     * @return The win rate between 0 and 1, or 0 if no games were played.
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) won / games;
+    }
+
+    /**
+     * Retrieves the average damage taken per game.
+     *
+     * @return The mean damage.
+     */
+    public double getMeanDamage() {
+        return games == 0 ? 0 : (double) totalDamage / games;
+    }
+
+    /**
+     * Retrieves the average number of kills per game.
+     *
+     * @return The mean kill count.
+     */
+    public double getMeanKills() {
+        return games == 0 ? 0 : (double) totalKills / games;
+    }
+
+    /**
+     * Retrieves the distribution of steps needed to win.
+     *
+     * @return The histogram over won games.
+     */
+    public LatencyHistogram getTicksToClear() {
+        return ticksToClear;
+    }
+
+    /**
+     * Formats a report of the batch.
+     *
+     * @param title        Heading of the report.
+     * @param elapsedNanos Wall-clock time the batch took.
+     * @param tickMillis   Game time of one step, used to express times to clear in seconds.
+     * @return The multi-line report.
+     */
+    public String report(String title, long elapsedNanos, double tickMillis) {
+        double seconds = elapsedNanos / 1e9;
+        double tickSeconds = tickMillis / 1000.0;
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== ").append(title).append(" ===\n");
+        sb.append(String.format("games       %d (won %d, lost %d, timed out %d)%n", games, won, lost, timedOut));
+        sb.append(String.format("win rate    %.1f%%%n", getWinRate() * 100));
+        if (won > 0) {
+            sb.append(String.format("clear time  mean %.1fs  p50 %.1fs  p90 %.1fs  max %.1fs%n",
+                    ticksToClear.getMean() * tickSeconds,
+                    ticksToClear.getPercentile(50) * tickSeconds,
+                    ticksToClear.getPercentile(90) * tickSeconds,
+                    ticksToClear.getMax() * tickSeconds));
+        }
+        sb.append(String.format("damage      %.2f per game%n", getMeanDamage()));
+        sb.append(String.format("kills       %.2f per game%n", getMeanKills()));
+        sb.append(String.format("throughput  %.0f ticks/s, %.0f games/s over %.2fs%n",
+                totalTicks / seconds, games / seconds, seconds));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+/**
+ * Bot plays a headless {@link World} by choosing the player's input for every step.
+ * A bot may keep state between steps, so each simulated game gets its own instance.
+ */
+public interface Bot {
+
+    /**
+     * Chooses the input for the next step.
+     *
+     * @param world  The world being played, in its state before the step.
+     * @param random The bot's own source of randomness, seeded per game.
+     * @param input  The input to fill in; it is reused between steps.
+     */
+    void decide(World world, GameRandom random, TickInput input);
+
+    /**
+     * Creates a new bot by name.
+     *
+     * @param name "random" for {@link RandomBot} or "tracking" for {@link TrackingBot}.
+     * @return A new bot.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    static Bot create(String name) {
+        return switch (name) {
+            case "random" -> new RandomBot();
+            case "tracking" -> new TrackingBot();
+            default -> throw new IllegalArgumentException("Unknown bot: " + name + " (expected random or tracking)");
+        };
+    }
+}
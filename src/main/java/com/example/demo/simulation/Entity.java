@@ -0,0 +1,210 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.SpatialHash;
+
+/**
+ * Entity is the pure-data representation of an actor in the headless simulation.
+ * It holds the position, hitbox, health and destroyed flag of a plane or projectile,
+ * without depending on the JavaFX scene graph.
+ */
+public final class Entity {
+
+    // Type of the entity, defining its size and behaviour
+    private final EntityKind kind;
+
+    // Spawn position, equivalent to the layout position of a JavaFX actor
+    private final double originX;
+    private final double originY;
+
+    // Current top-left position of the hitbox
+    private double x;
+    private double y;
+
+    // Remaining health and destruction state
+    private int health;
+    private boolean destroyed;
+
+    // Direction of the next vertical zigzag step (boss projectiles only)
+    private int zigzagDirection = 1;
+
+    /**
+     * Constructor for Entity.
+     *
+     * @param kind    The type of the entity.
+     * @param originX The X position the entity spawns at.
+     * @param originY The Y position the entity spawns at.
+     * @param health  The health the entity starts with.
+     */
+    Entity(EntityKind kind, double originX, double originY, int health) {
+        this.kind = kind;
+        this.originX = originX;
+        this.originY = originY;
+        this.x = originX;
+        this.y = originY;
+        this.health = health;
+    }
+
+    /**
+     * Moves the entity by the given amounts.
+     *
+     * @param dx Horizontal distance.
+     * @param dy Vertical distance.
+     */
+    void move(double dx, double dy) {
+        x += dx;
+        y += dy;
+    }
+
+    /**
+     * Places the entity at the given vertical position.
+     *
+     * @param newY The new Y position.
+     */
+    void setY(double newY) {
+        y = newY;
+    }
+
+    /**
+     * Applies one point of damage. Projectiles are destroyed immediately,
+     * planes are destroyed once their health reaches zero.
+     */
+    void takeDamage() {
+        if (kind.isProjectile()) {
+            destroyed = true;
+            return;
+        }
+        health--;
+        if (health <= 0) {
+            destroyed = true;
+        }
+    }
+
+    /**
+     * Marks the entity as destroyed.
+     */
+    void destroy() {
+        destroyed = true;
+    }
+
+    /**
+     * Flips the zigzag direction and returns the direction that was active.
+     *
+     * @return 1 for a downward step, -1 for an upward step.
+     */
+    int nextZigzagDirection() {
+        int direction = zigzagDirection;
+        zigzagDirection = -zigzagDirection;
+        return direction;
+    }
+
+    /**
+     * Checks if the hitbox of this entity overlaps the hitbox of another entity.
+     * Touching hitboxes count as overlapping, as they do for the JavaFX actors.
+     *
+     * @param other The other entity.
+     * @return True if the hitboxes intersect, otherwise false.
+     */
+    public boolean intersects(Entity other) {
+        return SpatialHash.overlaps(x, y, x + kind.getWidth(), y + kind.getHeight(),
+                other.x, other.y, other.x + other.kind.getWidth(), other.y + other.kind.getHeight());
+    }
+
+    /**
+     * Retrieves the type of the entity.
+     *
+     * @return The entity kind.
+     */
+    public EntityKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the X position of the entity's hitbox.
+     *
+     * @return The X position.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Retrieves the Y position of the entity's hitbox.
+     *
+     * @return The Y position.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Retrieves the width of the entity's hitbox.
+     *
+     * @return The hitbox width.
+     */
+    public double getWidth() {
+        return kind.getWidth();
+    }
+
+    /**
+     * Retrieves the height of the entity's hitbox.
+     *
+     * @return The hitbox height.
+     */
+    public double getHeight() {
+        return kind.getHeight();
+    }
+
+    /**
+     * Retrieves the horizontal distance travelled since spawning,
+     * equivalent to the translateX of a JavaFX actor.
+     *
+     * @return The horizontal offset from the spawn position.
+     */
+    public double getOffsetX() {
+        return x - originX;
+    }
+
+    /**
+     * Retrieves the vertical distance travelled since spawning,
+     * equivalent to the translateY of a JavaFX actor.
+     *
+     * @return The vertical offset from the spawn position.
+     */
+    public double getOffsetY() {
+        return y - originY;
+    }
+
+    /**
+     * Retrieves the remaining health of the entity.
+     *
+     * @return The current health.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Checks if the entity is destroyed.
+     *
+     * @return True if the entity is destroyed, otherwise false.
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * Provides a string representation of the entity, useful for debugging.
+     *
+     * @return A string containing the kind, position and health of the entity.
+     */
+    @Override
+    public String toString() {
+        return "Entity{" +
+               "kind=" + kind +
+               ", x=" + x +
+               ", y=" + y +
+               ", health=" + health +
+               ", destroyed=" + destroyed +
+               '}';
+    }
+}
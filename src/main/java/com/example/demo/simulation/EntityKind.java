@@ -0,0 +1,85 @@
+package com.example.demo.simulation;
+
+/**
+ * EntityKind describes the static properties of every type of entity in the headless simulation.
+ * Sizes match the fit height and aspect ratio of the sprites used by the JavaFX actors,
+ * so hitboxes in the simulation line up with the bounds of the rendered nodes.
+ */
+public enum EntityKind {
+
+    // Player's plane: userplane.png (800x600) scaled to a height of 150
+    USER_PLANE(200.0, 150.0, 0),
+
+    // Regular enemy: enemyplane.png (800x600) scaled to a height of 150
+    ENEMY_PLANE(200.0, 150.0, 1),
+
+    // Boss plane: bossplane.png (800x600) scaled to a height of 300
+    BOSS(400.0, 300.0, 50),
+
+    // Player projectile: projectile.png (800x600) scaled to a height of 125
+    USER_PROJECTILE(800.0 * 125 / 600, 125.0, 1),
+
+    // Enemy projectile: enemyFire.png (335x169) scaled to a height of 35
+    ENEMY_PROJECTILE(335.0 * 35 / 169, 35.0, 1),
+
+    // Boss projectile: fireball.png (800x318) scaled to a height of 50
+    BOSS_PROJECTILE(800.0 * 50 / 318, 50.0, 1);
+
+    // Width of the entity's hitbox
+    private final double width;
+
+    // Height of the entity's hitbox
+    private final double height;
+
+    // Health the entity starts with (0 means the level decides, as for the player)
+    private final int initialHealth;
+
+    /**
+     * Constructor for EntityKind.
+     *
+     * @param width         Width of the entity's hitbox.
+     * @param height        Height of the entity's hitbox.
+     * @param initialHealth Health the entity starts with.
+     */
+    EntityKind(double width, double height, int initialHealth) {
+        this.width = width;
+        this.height = height;
+        this.initialHealth = initialHealth;
+    }
+
+    /**
+     * Retrieves the width of the entity's hitbox.
+     *
+     * @return The hitbox width.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Retrieves the height of the entity's hitbox.
+     *
+     * @return The hitbox height.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the health the entity starts with.
+     *
+     * @return The initial health.
+     */
+    public int getInitialHealth() {
+        return initialHealth;
+    }
+
+    /**
+     * Checks if this kind of entity is a projectile.
+     *
+     * @return True for projectiles, otherwise false.
+     */
+    public boolean isProjectile() {
+        return this == USER_PROJECTILE || this == ENEMY_PROJECTILE || this == BOSS_PROJECTILE;
+    }
+}
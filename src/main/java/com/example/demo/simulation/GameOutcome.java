@@ -0,0 +1,16 @@
+package com.example.demo.simulation;
+
+/**
+ * GameOutcome describes the state of a simulated level after a step.
+ */
+public enum GameOutcome {
+
+    // The level is still being played
+    RUNNING,
+
+    // The player reached the kill target or destroyed the boss
+    WON,
+
+    // The player's plane was destroyed
+    LOST
+}
@@ -0,0 +1,38 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+/**
+ * GameResult is the summary of one simulated game.
+ *
+ * @param outcome     How the game ended; RUNNING if it hit the step limit.
+ * @param ticks       Number of steps played.
+ * @param damageTaken Damage the player's plane took.
+ * @param kills       Enemies destroyed.
+ */
+public record GameResult(GameOutcome outcome, long ticks, int damageTaken, int kills) {
+
+    /**
+     * Plays one game to its end or to the step limit.
+     *
+     * @param rules    The level to play.
+     * @param width    Width of the playfield.
+     * @param height   Height of the playfield.
+     * @param seed     Seed of the game; the world and the bot derive their generators from it.
+     * @param bot      The bot playing the game; it must not be shared with other games.
+     * @param maxTicks Maximum number of steps before the game counts as timed out.
+     * @return The result of the game.
+     */
+    public static GameResult play(LevelRules rules, double width, double height, long seed, Bot bot, long maxTicks) {
+        World world = new World(rules, width, height, seed);
+        GameRandom botRandom = new GameRandom(~seed);
+        TickInput input = new TickInput();
+
+        GameOutcome outcome = GameOutcome.RUNNING;
+        while (outcome == GameOutcome.RUNNING && world.getTick() < maxTicks) {
+            bot.decide(world, botRandom, input);
+            outcome = world.step(input);
+        }
+        return new GameResult(outcome, world.getTick(), world.getDamageTaken(), world.getKills());
+    }
+}
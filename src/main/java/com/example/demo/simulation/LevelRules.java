@@ -0,0 +1,155 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * LevelRules holds the tuning values that define a level: how many enemies may be on screen,
+ * how likely they are to spawn, how many kills advance the player and how much health the
+ * player starts with. The JavaFX levels and the headless World read the same values,
+ * so balancing changes only need to be made in one place.
+ */
+public final class LevelRules {
+
+    // Rules for the first level
+    public static final LevelRules LEVEL_ONE = new LevelRules("LevelOne", 5, 0.20, 10, 5, false);
+
+    // Rules for the second level
+    public static final LevelRules LEVEL_TWO = new LevelRules("LevelTwo", 7, 0.25, 15, 5, false);
+
+    // Rules for the boss level (the boss is the only enemy and must be destroyed)
+    public static final LevelRules LEVEL_BOSS = new LevelRules("LevelBoss", 1, 1.0, 0, 5, true);
+
+    // Human-readable name of the level
+    private final String name;
+
+    // Maximum number of enemies allowed on screen at one time
+    private final int totalEnemies;
+
+    // Probability of spawning an enemy for every free slot on each step
+    private final double enemySpawnProbability;
+
+    // Kill count required to advance to the next level
+    private final int killsToAdvance;
+
+    // Health the player's plane starts with
+    private final int playerInitialHealth;
+
+    // Whether the level is won by destroying the boss instead of reaching a kill count
+    private final boolean bossLevel;
+
+    /**
+     * Constructor for LevelRules.
+     *
+     * @param name                  Human-readable name of the level.
+     * @param totalEnemies          Maximum number of enemies on screen at one time.
+     * @param enemySpawnProbability Probability of spawning an enemy per free slot and step (0.0 to 1.0).
+     * @param killsToAdvance        Kill count required to advance.
+     * @param playerInitialHealth   Health the player's plane starts with.
+     * @param bossLevel             Whether the level is a boss level.
+     * @throws IllegalArgumentException if any of the values is out of range.
+     */
+    public LevelRules(String name, int totalEnemies, double enemySpawnProbability,
+                      int killsToAdvance, int playerInitialHealth, boolean bossLevel) {
+        if (totalEnemies < 0 || killsToAdvance < 0 || playerInitialHealth <= 0
+                || enemySpawnProbability < 0.0 || enemySpawnProbability > 1.0) {
+            throw new IllegalArgumentException("Invalid level rules for " + name);
+        }
+        this.name = name;
+        this.totalEnemies = totalEnemies;
+        this.enemySpawnProbability = enemySpawnProbability;
+        this.killsToAdvance = killsToAdvance;
+        this.playerInitialHealth = playerInitialHealth;
+        this.bossLevel = bossLevel;
+    }
+
+    /**
+     * Retrieves the name of the level.
+     *
+     * @return The level name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the maximum number of enemies allowed on screen at one time.
+     *
+     * @return The enemy limit.
+     */
+    public int getTotalEnemies() {
+        return totalEnemies;
+    }
+
+    /**
+     * Retrieves the probability of spawning an enemy per free slot and step.
+     *
+     * @return The spawn probability (0.0 to 1.0).
+     */
+    public double getEnemySpawnProbability() {
+        return enemySpawnProbability;
+    }
+
+    /**
+     * Retrieves the kill count required to advance to the next level.
+     *
+     * @return The kill target.
+     */
+    public int getKillsToAdvance() {
+        return killsToAdvance;
+    }
+
+    /**
+     * Retrieves the health the player's plane starts with.
+     *
+     * @return The player's initial health.
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Checks if the level is won by destroying the boss.
+     *
+     * @return True for boss levels, otherwise false.
+     */
+    public boolean isBossLevel() {
+        return bossLevel;
+    }
+
+    /**
+     * Rolls the spawn chance once for every free enemy slot and reports a random Y position for
+     * each enemy that should appear. The JavaFX levels and the World both spawn through this method,
+     * so they draw the same random numbers in the same order.
+     *
+     * @param currentEnemies The number of enemies already on screen.
+     * @param random         The random source of the level.
+     * @param maximumY       The largest Y position an enemy may spawn at.
+     * @param spawnAtY       Callback that creates an enemy at the given Y position.
+     */
+    public void spawnEnemies(int currentEnemies, GameRandom random, double maximumY, DoubleConsumer spawnAtY) {
+        for (int i = 0; i < totalEnemies - currentEnemies; i++) {
+            if (random.chance(enemySpawnProbability)) {
+                spawnAtY.accept(random.nextDouble(maximumY));
+            }
+        }
+    }
+
+    /**
+     * Provides a string representation of the rules, useful for debugging and reports.
+     *
+     * @return A string containing all tuning values.
+     */
+    @Override
+    public String toString() {
+        return "LevelRules{" +
+               "name='" + name + '\'' +
+               ", totalEnemies=" + totalEnemies +
+               ", enemySpawnProbability=" + enemySpawnProbability +
+               ", killsToAdvance=" + killsToAdvance +
+               ", playerInitialHealth=" + playerInitialHealth +
+               ", bossLevel=" + bossLevel +
+               '}';
+    }
+}
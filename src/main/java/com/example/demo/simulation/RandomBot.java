@@ -0,0 +1,34 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+/**
+ * RandomBot mashes keys: it holds a random direction for a while and fires at random.
+ * It gives a lower bound for how hard a level is.
+ */
+public class RandomBot implements Bot {
+
+    // Probability of picking a new direction on each step
+    private static final double DIRECTION_CHANGE_PROBABILITY = 0.1;
+
+    // Probability of firing on each step
+    private static final double FIRE_PROBABILITY = 0.3;
+
+    // Direction currently held: -1 up, 0 none, 1 down
+    private int direction;
+
+    /**
+     * Holds the current direction, sometimes switching to a new one, and fires at random.
+     *
+     * @param world  The world being played.
+     * @param random The bot's source of randomness.
+     * @param input  The input to fill in.
+     */
+    @Override
+    public void decide(World world, GameRandom random, TickInput input) {
+        if (random.chance(DIRECTION_CHANGE_PROBABILITY)) {
+            direction = random.nextInt(3) - 1;
+        }
+        input.set(direction < 0, direction > 0, random.chance(FIRE_PROBABILITY));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.simulation;
+
+/**
+ * TickInput describes the player's input for a single simulation step.
+ * Instances are mutable so a caller can reuse one object for every step.
+ */
+public final class TickInput {
+
+    // Whether the player is holding the UP key
+    private boolean up;
+
+    // Whether the player is holding the DOWN key
+    private boolean down;
+
+    // Whether the player fires a projectile during this step
+    private boolean fire;
+
+    /**
+     * Constructor for an empty TickInput (no keys held, no shot fired).
+     */
+    public TickInput() {
+    }
+
+    /**
+     * Constructor for TickInput.
+     *
+     * @param up   Whether UP is held.
+     * @param down Whether DOWN is held.
+     * @param fire Whether a projectile is fired.
+     */
+    public TickInput(boolean up, boolean down, boolean fire) {
+        set(up, down, fire);
+    }
+
+    /**
+     * Updates all input values at once.
+     *
+     * @param up   Whether UP is held.
+     * @param down Whether DOWN is held.
+     * @param fire Whether a projectile is fired.
+     * @return This instance, for chaining.
+     */
+    public TickInput set(boolean up, boolean down, boolean fire) {
+        this.up = up;
+        this.down = down;
+        this.fire = fire;
+        return this;
+    }
+
+    /**
+     * Retrieves the vertical movement direction requested by this input.
+     * UP wins over DOWN when both are held, matching the keyboard handling of the levels.
+     *
+     * @return -1 for up, 1 for down, 0 for no movement.
+     */
+    public int getVerticalDirection() {
+        if (up) return -1;
+        if (down) return 1;
+        return 0;
+    }
+
+    /**
+     * Checks if UP is held.
+     *
+     * @return True if UP is held.
+     */
+    public boolean isUp() {
+        return up;
+    }
+
+    /**
+     * Checks if DOWN is held.
+     *
+     * @return True if DOWN is held.
+     */
+    public boolean isDown() {
+        return down;
+    }
+
+    /**
+     * Checks if a projectile is fired during this step.
+     *
+     * @return True if the player fires.
+     */
+    public boolean isFire() {
+        return fire;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+
+import java.util.List;
+
+/**
+ * TrackingBot plays like an attentive player: it lines up with the enemy closest to the
+ * player's plane and fires once it is level with it.
+ */
+public class TrackingBot implements Bot {
+
+    // Vertical distance between plane and target centres within which the bot fires
+    private static final double FIRE_TOLERANCE = 40.0;
+
+    // Vertical distance within which the bot stops moving, to avoid jittering around the target
+    private static final double MOVE_TOLERANCE = 8.0;
+
+    /**
+     * Moves towards the nearest enemy ahead of the plane and fires when aligned with it.
+     *
+     * @param world  The world being played.
+     * @param random The bot's source of randomness (unused; the bot is deterministic).
+     * @param input  The input to fill in.
+     */
+    @Override
+    public void decide(World world, GameRandom random, TickInput input) {
+        Entity user = world.getUser();
+        Entity target = nearestEnemy(user, world.getEnemyUnits());
+        if (target == null) {
+            input.set(false, false, false);
+            return;
+        }
+
+        double offset = centerY(target) - centerY(user);
+        boolean up = offset < -MOVE_TOLERANCE;
+        boolean down = offset > MOVE_TOLERANCE;
+        input.set(up, down, Math.abs(offset) < FIRE_TOLERANCE);
+    }
+
+    /**
+     * Finds the enemy with the smallest horizontal distance in front of the plane.
+     *
+     * @param user    The player's plane.
+     * @param enemies The enemies on screen.
+     * @return The nearest enemy, or null if there is none.
+     */
+    private static Entity nearestEnemy(Entity user, List<Entity> enemies) {
+        Entity nearest = null;
+        for (int i = 0; i < enemies.size(); i++) {
+            Entity enemy = enemies.get(i);
+            if (enemy.getX() < user.getX()) continue; // Already behind the plane
+            if (nearest == null || enemy.getX() < nearest.getX()) {
+                nearest = enemy;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Retrieves the vertical centre of an entity's hitbox.
+     *
+     * @param entity The entity.
+     * @return The Y coordinate of the centre.
+     */
+    private static double centerY(Entity entity) {
+        return entity.getY() + entity.getHeight() / 2;
+    }
+}
@@ -0,0 +1,468 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.MovementPattern;
+import com.example.demo.utils.GameRandom;
+import com.example.demo.utils.SpatialHash;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * World is a headless model of a game level.
+ * It applies the same rules as LevelParent and its subclasses (spawning, movement, firing,
+ * collisions, kill counting and win/loss conditions) to plain {@link Entity} objects,
+ * so a level can be simulated thousands of times per second without a Stage or scene graph.
+ * The actors' tuning values come from {@link ActorRules} and the level's from {@link LevelRules},
+ * which the JavaFX classes read as well.
+ */
+public class World {
+
+    // Points awarded for each destroyed enemy
+    private static final int POINTS_PER_KILL = 100;
+
+    // Adjustment applied to the screen height to get the lowest enemy spawn position
+    private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+
+    // Cell size of the collision grids (same as LevelParent)
+    private static final double COLLISION_CELL_SIZE = 200;
+
+    // Distance beyond the screen edges at which projectiles are retired (same as LevelParent)
+    private static final double CULLING_MARGIN = 200;
+
+    // Level configuration and playfield size
+    private final LevelRules rules;
+    private final double screenWidth;
+    private final double screenHeight;
+    private final double enemyMaximumYPosition;
+
+    // Source of randomness for this world only
+    private final GameRandom random;
+
+    // Entity lists, equivalent to the actor lists of LevelParent
+    private final Entity user;
+    private final List<Entity> friendlyUnits = new ArrayList<>();
+    private final List<Entity> enemyUnits = new ArrayList<>();
+    private final List<Entity> userProjectiles = new ArrayList<>();
+    private final List<Entity> enemyProjectiles = new ArrayList<>();
+
+    // Collision broadphase, rebuilt from the unit lists every step
+    private final SpatialHash<Entity> friendlyGrid;
+    private final SpatialHash<Entity> enemyGrid;
+    private final BiConsumer<Entity, Entity> collisionHandler = this::collide;
+
+    // Boss state (only used on boss levels)
+    private final Entity boss;
+    private final MovementPattern bossMovementPattern;
+    private boolean shieldActive;
+    private int shieldFrames;
+
+    // Game state
+    private int velocityMultiplier;
+    private int currentNumberOfEnemies;
+    private int score;
+    private int kills;
+    private int damageTaken;
+    private long tick;
+    private GameOutcome outcome = GameOutcome.RUNNING;
+
+    /**
+     * Constructor for World.
+     *
+     * @param rules        The rules of the level to simulate.
+     * @param screenWidth  Width of the playfield.
+     * @param screenHeight Height of the playfield.
+     * @param seed         Seed for the world's random number generator.
+     */
+    public World(LevelRules rules, double screenWidth, double screenHeight, long seed) {
+        this.rules = rules;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+        this.random = new GameRandom(seed);
+        this.friendlyGrid = new SpatialHash<>(COLLISION_CELL_SIZE, screenWidth, screenHeight);
+        this.enemyGrid = new SpatialHash<>(COLLISION_CELL_SIZE, screenWidth, screenHeight);
+
+        this.user = new Entity(EntityKind.USER_PLANE, ActorRules.USER_INITIAL_X, ActorRules.USER_INITIAL_Y, rules.getPlayerInitialHealth());
+        friendlyUnits.add(user);
+
+        if (rules.isBossLevel()) {
+            this.boss = new Entity(EntityKind.BOSS, ActorRules.BOSS_INITIAL_X, ActorRules.BOSS_INITIAL_Y, EntityKind.BOSS.getInitialHealth());
+            this.bossMovementPattern = new MovementPattern(ActorRules.BOSS_VERTICAL_VELOCITY, 5, 10, random);
+        } else {
+            this.boss = null;
+            this.bossMovementPattern = null;
+        }
+    }
+
+    /**
+     * Advances the world by one step, in the same phase order as LevelParent.updateScene.
+     *
+     * @param input The player's input for this step.
+     * @return The outcome of the level after the step.
+     */
+    public GameOutcome step(TickInput input) {
+        if (outcome != GameOutcome.RUNNING) {
+            return outcome;
+        }
+
+        applyInput(input);
+        updateUser();
+        spawnEnemyUnits();
+        updateEntities();
+        generateEnemyFire();
+        currentNumberOfEnemies = enemyUnits.size();
+        handleEnemyPenetration();
+        cullOffscreen(userProjectiles);
+        cullOffscreen(enemyProjectiles);
+        fillGrid(friendlyGrid, friendlyUnits);
+        fillGrid(enemyGrid, enemyUnits);
+        handleCollisions(userProjectiles, enemyGrid);
+        handleCollisions(enemyProjectiles, friendlyGrid);
+        handleCollisions(friendlyUnits, enemyGrid);
+        removeDestroyed(friendlyUnits);
+        removeDestroyed(enemyUnits);
+        removeDestroyed(userProjectiles);
+        removeDestroyed(enemyProjectiles);
+        updateKillCount();
+        checkIfGameOver();
+
+        tick++;
+        return outcome;
+    }
+
+    /**
+     * Applies the player's input: sets the movement direction and fires if requested.
+     *
+     * @param input The player's input for this step.
+     */
+    private void applyInput(TickInput input) {
+        velocityMultiplier = input.getVerticalDirection();
+        if (input.isFire()) {
+            userProjectiles.add(new Entity(EntityKind.USER_PROJECTILE,
+                    user.getX() + ActorRules.USER_PROJECTILE_X_OFFSET, user.getY(), 1));
+        }
+    }
+
+    /**
+     * Moves the player's plane vertically, keeping it inside its movement boundaries.
+     */
+    private void updateUser() {
+        if (velocityMultiplier == 0) return;
+        double newY = user.getY() + ActorRules.USER_VERTICAL_VELOCITY * velocityMultiplier;
+        newY = Math.max(ActorRules.USER_Y_UPPER_BOUND, Math.min(ActorRules.USER_Y_LOWER_BOUND, newY));
+        user.setY(newY);
+    }
+
+    /**
+     * Spawns enemies according to the level rules.
+     */
+    private void spawnEnemyUnits() {
+        if (rules.isBossLevel()) {
+            if (enemyUnits.isEmpty() && !boss.isDestroyed()) {
+                enemyUnits.add(boss);
+            }
+            return;
+        }
+        rules.spawnEnemies(enemyUnits.size(), random, enemyMaximumYPosition, y ->
+                enemyUnits.add(new Entity(EntityKind.ENEMY_PLANE, screenWidth, y, EntityKind.ENEMY_PLANE.getInitialHealth())));
+    }
+
+    /**
+     * Updates every entity once, mirroring LevelParent.updateActors.
+     */
+    private void updateEntities() {
+        updateUser(); // The player's plane is also part of the friendly units
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            Entity enemy = enemyUnits.get(i);
+            if (enemy.getKind() == EntityKind.BOSS) {
+                updateBoss();
+            } else {
+                enemy.move(ActorRules.ENEMY_HORIZONTAL_VELOCITY, 0);
+            }
+        }
+        for (int i = 0; i < userProjectiles.size(); i++) {
+            userProjectiles.get(i).move(ActorRules.USER_PROJECTILE_VELOCITY, 0);
+        }
+        for (int i = 0; i < enemyProjectiles.size(); i++) {
+            Entity projectile = enemyProjectiles.get(i);
+            if (projectile.getKind() == EntityKind.BOSS_PROJECTILE) {
+                projectile.move(ActorRules.BOSS_PROJECTILE_VELOCITY, ActorRules.BOSS_PROJECTILE_ZIGZAG * projectile.nextZigzagDirection());
+            } else {
+                projectile.move(ActorRules.ENEMY_PROJECTILE_VELOCITY, 0);
+            }
+        }
+    }
+
+    /**
+     * Moves the boss along its movement pattern and updates its shield.
+     */
+    private void updateBoss() {
+        boss.move(0, bossMovementPattern.getNextMove());
+        double lowerBound = screenHeight - EntityKind.BOSS.getHeight();
+        if (boss.getY() < 0) {
+            boss.setY(0);
+        } else if (boss.getY() > lowerBound) {
+            boss.setY(lowerBound);
+        }
+
+        if (shieldActive) {
+            shieldFrames++;
+            if (shieldFrames >= ActorRules.MAX_FRAMES_WITH_SHIELD) {
+                shieldActive = false;
+            }
+        } else if (random.chance(ActorRules.SHIELD_ACTIVATION_PROBABILITY)) {
+            shieldActive = true;
+            shieldFrames = 0;
+        }
+    }
+
+    /**
+     * Lets every enemy fire with its configured probability.
+     */
+    private void generateEnemyFire() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            Entity enemy = enemyUnits.get(i);
+            if (enemy.getKind() == EntityKind.BOSS) {
+                if (random.chance(ActorRules.BOSS_FIRE_RATE)) {
+                    enemyProjectiles.add(new Entity(EntityKind.BOSS_PROJECTILE, ActorRules.BOSS_PROJECTILE_X, enemy.getY(), 1));
+                }
+            } else if (random.chance(ActorRules.ENEMY_FIRE_RATE)) {
+                enemyProjectiles.add(new Entity(EntityKind.ENEMY_PROJECTILE,
+                        enemy.getX() + ActorRules.ENEMY_PROJECTILE_X_OFFSET, enemy.getY() + ActorRules.ENEMY_PROJECTILE_Y_OFFSET, 1));
+            }
+        }
+    }
+
+    /**
+     * Damages the player for every enemy that flew past the left edge, and destroys that enemy.
+     */
+    private void handleEnemyPenetration() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            Entity enemy = enemyUnits.get(i);
+            if (Math.abs(enemy.getOffsetX()) > screenWidth) {
+                damage(user);
+                enemy.destroy();
+            }
+        }
+    }
+
+    /**
+     * Destroys the entities of a list that lie completely outside the playfield plus the culling margin.
+     *
+     * @param entities The entities to check.
+     */
+    private void cullOffscreen(List<Entity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (entity.getX() + entity.getWidth() < -CULLING_MARGIN || entity.getX() > screenWidth + CULLING_MARGIN
+                    || entity.getY() + entity.getHeight() < -CULLING_MARGIN
+                    || entity.getY() > screenHeight + CULLING_MARGIN) {
+                entity.destroy();
+            }
+        }
+    }
+
+    /**
+     * Clears a collision grid and inserts every entity of a list.
+     *
+     * @param grid     The grid to fill.
+     * @param entities The entities to insert.
+     */
+    private static void fillGrid(SpatialHash<Entity> grid, List<Entity> entities) {
+        grid.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            grid.insert(entity, entity.getX(), entity.getY(),
+                    entity.getX() + entity.getWidth(), entity.getY() + entity.getHeight());
+        }
+    }
+
+    /**
+     * Damages both entities of every intersecting pair made of an entity from the list
+     * and an entity from the grid. Only entities in nearby grid cells are tested.
+     *
+     * @param entities The entities to check.
+     * @param grid     The grid holding the entities they can collide with.
+     */
+    private void handleCollisions(List<Entity> entities, SpatialHash<Entity> grid) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            grid.query(entity, entity.getX(), entity.getY(),
+                    entity.getX() + entity.getWidth(), entity.getY() + entity.getHeight(), collisionHandler);
+        }
+    }
+
+    /**
+     * Damages both entities of a colliding pair, mirroring LevelParent.damageBoth.
+     * The grid only reports pairs that pass {@link SpatialHash#overlaps}, the same test the game uses.
+     *
+     * @param a The first entity.
+     * @param b The second entity.
+     */
+    private void collide(Entity a, Entity b) {
+        damage(a);
+        damage(b);
+    }
+
+    /**
+     * Applies one point of damage to an entity, honouring the boss shield.
+     *
+     * @param entity The entity to damage.
+     */
+    private void damage(Entity entity) {
+        if (entity == boss && shieldActive) return;
+        if (entity == user) damageTaken++;
+        entity.takeDamage();
+    }
+
+    /**
+     * Removes destroyed entities from a list in a single pass.
+     *
+     * @param entities The list to compact.
+     */
+    private void removeDestroyed(List<Entity> entities) {
+        int write = 0;
+        for (int read = 0; read < entities.size(); read++) {
+            Entity entity = entities.get(read);
+            if (!entity.isDestroyed()) {
+                entities.set(write++, entity);
+            }
+        }
+        for (int i = entities.size() - 1; i >= write; i--) {
+            entities.remove(i);
+        }
+    }
+
+    /**
+     * Counts every enemy that disappeared during this step as a kill and awards points for it.
+     */
+    private void updateKillCount() {
+        int newKills = currentNumberOfEnemies - enemyUnits.size();
+        if (newKills > 0) {
+            kills += newKills;
+            score += newKills * POINTS_PER_KILL;
+            currentNumberOfEnemies = enemyUnits.size();
+        }
+    }
+
+    /**
+     * Evaluates the win and loss conditions of the level.
+     */
+    private void checkIfGameOver() {
+        if (user.isDestroyed()) {
+            outcome = GameOutcome.LOST;
+        } else if (rules.isBossLevel() ? boss.isDestroyed() : kills >= rules.getKillsToAdvance()) {
+            outcome = GameOutcome.WON;
+        }
+    }
+
+    /**
+     * Retrieves the rules this world is simulating.
+     *
+     * @return The level rules.
+     */
+    public LevelRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Retrieves the player's plane.
+     *
+     * @return The player entity.
+     */
+    public Entity getUser() {
+        return user;
+    }
+
+    /**
+     * Retrieves the boss, if this is a boss level.
+     *
+     * @return The boss entity, or null on regular levels.
+     */
+    public Entity getBoss() {
+        return boss;
+    }
+
+    /**
+     * Retrieves the enemies currently in play.
+     *
+     * @return An unmodifiable view of the enemy list.
+     */
+    public List<Entity> getEnemyUnits() {
+        return Collections.unmodifiableList(enemyUnits);
+    }
+
+    /**
+     * Retrieves the player's projectiles currently in play.
+     *
+     * @return An unmodifiable view of the player's projectiles.
+     */
+    public List<Entity> getUserProjectiles() {
+        return Collections.unmodifiableList(userProjectiles);
+    }
+
+    /**
+     * Retrieves the enemy and boss projectiles currently in play.
+     *
+     * @return An unmodifiable view of the enemy projectiles.
+     */
+    public List<Entity> getEnemyProjectiles() {
+        return Collections.unmodifiableList(enemyProjectiles);
+    }
+
+    /**
+     * Checks if the boss shield is currently active.
+     *
+     * @return True if the shield is active, otherwise false.
+     */
+    public boolean isShieldActive() {
+        return shieldActive;
+    }
+
+    /**
+     * Retrieves the player's score.
+     *
+     * @return The current score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retrieves the player's kill count.
+     *
+     * @return The number of enemies destroyed.
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Retrieves the total damage the player's plane has taken.
+     *
+     * @return The number of hits taken.
+     */
+    public int getDamageTaken() {
+        return damageTaken;
+    }
+
+    /**
+     * Retrieves the number of steps simulated so far.
+     *
+     * @return The tick count.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retrieves the current outcome of the level.
+     *
+     * @return The outcome.
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+}
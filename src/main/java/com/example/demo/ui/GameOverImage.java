@@ -1,6 +1,8 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.utils.ImageCache;
+import com.example.demo.utils.Sprites;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -9,9 +11,6 @@ import javafx.scene.image.ImageView;
  */
 public class GameOverImage extends ImageView {
 
-    // Path to the "Game Over" image file
-    private static final String IMAGE_NAME = "/com/example/demo/images/gameover.png";
-
     /**
      * Constructor for GameOverImage.
      * Sets up the "Game Over" image and its position on the screen.
@@ -21,7 +20,7 @@ public class GameOverImage extends ImageView {
      */
     public GameOverImage(double xPosition, double yPosition) {
         // Set the image for the "Game Over" screen
-        setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        setImage(ImageCache.getShared().get(Sprites.GAME_OVER));
 
         // Set the position of the image on the screen
         setLayoutX(xPosition);
@@ -1,6 +1,8 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.utils.Sprites;
+import com.example.demo.utils.TextureAtlas;
+
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -10,9 +12,7 @@ import javafx.scene.layout.HBox;
  */
 public class HeartDisplay {
 
-    // Constants for the heart image and display properties
-    private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png"; // Path to the heart image
-    private static final int HEART_HEIGHT = 50;                                         // Height of the heart icon
+    // Constants for the heart display properties
     private static final int INDEX_OF_FIRST_ITEM = 0;                                   // Index for removing the first heart
 
     // Fields for managing the heart container and its properties
@@ -54,11 +54,12 @@ public class HeartDisplay {
      */
     private void initializeHearts() {
         for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-            // Create a new ImageView for the heart icon
-            ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+            // Create a new ImageView showing the heart from the shared texture atlas
+            ImageView heart = new ImageView();
+            TextureAtlas.getShared().apply(heart, Sprites.HEART);
             
             // Set the size and preserve the aspect ratio of the heart icon
-            heart.setFitHeight(HEART_HEIGHT);
+            heart.setFitHeight(Sprites.HEART.height());
             heart.setPreserveRatio(true);
 
             // Add the heart icon to the container
@@ -76,6 +77,17 @@ public class HeartDisplay {
         }
     }
 
+    /**
+     * Shows the given number of hearts again, e.g. when a level restarts.
+     *
+     * @param heartsToDisplay The number of hearts to display.
+     */
+    public void resetHearts(int heartsToDisplay) {
+        numberOfHeartsToDisplay = heartsToDisplay;
+        container.getChildren().clear(); // The heart image stays in the texture atlas
+        initializeHearts();
+    }
+
     /**
      * Retrieves the container holding the hearts.
      *
@@ -1,9 +1,19 @@
 package com.example.demo.ui;
 
+import com.example.demo.audio.MusicService;
+import com.example.demo.audio.SoundEffect;
+import com.example.demo.audio.SoundEffects;
 import com.example.demo.controller.Controller;
 import com.example.demo.controller.HowToPlayWindow;
+import com.example.demo.levels.LevelParent;
+import com.example.demo.levels.LevelRegistry;
+import com.example.demo.utils.AssetLoad;
+import com.example.demo.utils.AssetLoader;
+import com.example.demo.utils.GameLogger;
+import com.example.demo.utils.ImageCache;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -11,27 +21,40 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main menu for the Space Battle application.
  * Displays options to start the game, view "How To Play", or quit.
  */
 public class MainMenu extends Application {
 
+    private static final GameLogger LOG = GameLogger.getLogger(MainMenu.class); // Logger for menu errors
     protected MediaPlayer backgroundMusicPlayer; // Background music player
     private final HowToPlayWindow howToPlayWindow; // Reference to the HowToPlayWindow instance
+    private final LevelRegistry registry; // Levels of the game, shared with the LevelManager that plays them
 
     /**
      * Default constructor for production use.
-     * Initializes with a default HowToPlayWindow instance.
+     * Initializes with a default HowToPlayWindow instance and loads the registered levels.
      */
     public MainMenu() {
-        this.howToPlayWindow = new HowToPlayWindow();
+        this(new HowToPlayWindow(), LevelRegistry.load());
+    }
+
+    /**
+     * Constructor for returning to the menu from a game.
+     * Reuses the registry the game was played with instead of scanning for levels again.
+     *
+     * @param registry The registered levels.
+     */
+    public MainMenu(LevelRegistry registry) {
+        this(new HowToPlayWindow(), registry);
     }
 
     /**
@@ -41,7 +64,18 @@ public class MainMenu extends Application {
      * @param howToPlayWindow The HowToPlayWindow instance to use.
      */
     public MainMenu(HowToPlayWindow howToPlayWindow) {
+        this(howToPlayWindow, LevelRegistry.load());
+    }
+
+    /**
+     * Constructor for dependency injection of both the HowToPlayWindow and the registered levels.
+     *
+     * @param howToPlayWindow The HowToPlayWindow instance to use.
+     * @param registry        The registered levels, prefetched by the menu and played by the game.
+     */
+    public MainMenu(HowToPlayWindow howToPlayWindow, LevelRegistry registry) {
         this.howToPlayWindow = howToPlayWindow;
+        this.registry = registry;
     }
 
     /**
@@ -52,8 +86,8 @@ public class MainMenu extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
-        // Set up the background image for the menu
-        Image backgroundImage = new Image(getClass().getResource("/com/example/demo/images/menu_background.jpg").toExternalForm());
+        // Set up the background image for the menu, decoded directly at the window size
+        Image backgroundImage = ImageCache.getShared().get("/com/example/demo/images/background1.jpg", 1300, 750, false);
         ImageView backgroundView = new ImageView(backgroundImage);
         backgroundView.setFitWidth(1300); // Set the width of the background
         backgroundView.setFitHeight(750); // Set the height of the background
@@ -63,23 +97,21 @@ public class MainMenu extends Application {
         titleText.setFont(new Font("Arial", 50)); // Set the font and size for the title
         titleText.setStyle("-fx-fill: white;"); // Apply a white color style to the text
 
-        // Set up the background music for the menu
-        Media backgroundMusic = new Media(getClass().getResource("/com/example/demo/sounds/menu_background.wav").toExternalForm());
-        backgroundMusicPlayer = new MediaPlayer(backgroundMusic);
-        backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Loop the music indefinitely
-        backgroundMusicPlayer.play(); // Start playing the background music
+        // Set up the background music for the menu, crossfading from any level music
+        // The menu shares the level track; the repository has no separate menu track
+        // Null when music is muted or cannot be played, e.g. without an audio device
+        backgroundMusicPlayer = MusicService.getShared().play("/com/example/demo/sounds/level_music.wav");
 
         // Set up the START button to begin the game
         Button startButton = new Button("START");
         startButton.setStyle("-fx-background-color: green; -fx-text-fill: white; -fx-font-size: 20px;"); // Style the button
         startButton.setOnAction(e -> { 
-            playButtonClickSound(); // Play a click sound effect
-            backgroundMusicPlayer.stop(); // Stop the background music when starting the game
+            playButtonClickSound(); // Play a click sound effect; the first level crossfades the music
             try {
-                Controller controller = new Controller(primaryStage); // Initialize the game controller
+                Controller controller = new Controller(primaryStage, registry); // Initialize the game controller with the menu's levels
                 controller.launchGame(); // Launch the game
             } catch (Exception ex) {
-                ex.printStackTrace(); // Handle any exceptions during game launch
+                LOG.error("Failed to launch the game", ex); // Handle any exceptions during game launch
             }
         });
    
@@ -98,12 +130,20 @@ public class MainMenu extends Application {
         quitButton.setStyle("-fx-background-color: red; -fx-text-fill: white; -fx-font-size: 20px;"); // Style the button
         quitButton.setOnAction(e -> {
             playButtonClickSound(); // Play a click sound effect
-            backgroundMusicPlayer.stop(); // Stop the background music
+            MusicService.getShared().shutdown(); // Stop and dispose all music players
             primaryStage.close(); // Close the application
         });
 
+        // Decode the sound effects, pack the sprite atlas and load the first level in the background while the menu is shown
+        CompletableFuture.runAsync(SoundEffects.getShared()::preload);
+        CompletableFuture.runAsync(LevelParent::packSpriteAtlas);
+        Text loadingText = new Text();
+        loadingText.setFont(new Font("Arial", 16));
+        loadingText.setStyle("-fx-fill: white;");
+        prefetchFirstLevel(loadingText);
+
         // Arrange buttons and title text in a vertical layout using VBox
-        VBox vbox = new VBox(20, titleText, startButton, howToPlayButton, quitButton); // Add title and buttons with spacing
+        VBox vbox = new VBox(20, titleText, startButton, howToPlayButton, quitButton, loadingText); // Add title, buttons and loading progress with spacing
         vbox.setAlignment(Pos.CENTER); // Center the layout on the screen
 
         // Create the root layout with the background image and VBox
@@ -117,19 +157,29 @@ public class MainMenu extends Application {
         primaryStage.show(); // Display the main menu
     }
 
+    /**
+     * Starts loading the assets of the first level on background threads and shows the progress.
+     * Pressing START before the load is complete is fine; the level then starts when it is.
+     *
+     * @param progressText The text showing the loading progress.
+     */
+    private void prefetchFirstLevel(Text progressText) {
+        try {
+            AssetLoad load = AssetLoader.getShared().load(registry.getStartLevel().assets());
+            load.onProgress(progress -> Platform.runLater(() ->
+                    progressText.setText(progress < 1.0 ? String.format("Loading %.0f%%", progress * 100) : "")));
+        } catch (Exception e) {
+            LOG.error("Failed to prefetch the first level", e); // The level loads its assets when it starts instead
+        }
+    }
+
     /**
      * Plays the button click sound effect.
      * Used to provide auditory feedback when a button is clicked in the UI.
-     * Handles any exceptions that might occur during media playback.
+     * The clip is preloaded and mixed by {@link SoundEffects}, so no player is created per click.
      */
     private void playButtonClickSound() {
-        try {
-            Media clickSound = new Media(getClass().getResource("/com/example/demo/sounds/button_click.wav").toExternalForm());
-            MediaPlayer clickPlayer = new MediaPlayer(clickSound);
-            clickPlayer.play(); // Play the button click sound effect
-        } catch (Exception ex) {
-            ex.printStackTrace(); // Log any exceptions for debugging
-        }
+        SoundEffects.getShared().play(SoundEffect.CLICK); // Play the button click sound effect
     }
 
     /**
@@ -137,7 +187,7 @@ public class MainMenu extends Application {
      * Provides access to the background music MediaPlayer instance,
      * enabling external classes (e.g., for testing) to interact with or modify it.
      *
-     * @return The background music MediaPlayer instance.
+     * @return The background music MediaPlayer instance, or null if music is muted or could not be played.
      */
     public MediaPlayer getBackgroundMusicPlayer() {
         return backgroundMusicPlayer; // Return the background music player instance
@@ -0,0 +1,97 @@
+package com.example.demo.ui;
+
+import javafx.geometry.Insets;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.function.Supplier;
+
+/**
+ * The ProfilerOverlay class shows frame profiling statistics on top of the game.
+ * It is hidden by default and toggled by the level. While visible, its text is refreshed
+ * only every few frames so the overlay itself does not show up in the measurements.
+ */
+public class ProfilerOverlay {
+
+    // Number of rendered frames between text refreshes
+    private static final int REFRESH_INTERVAL_FRAMES = 15;
+
+    private final StackPane root; // Root container for the overlay UI
+    private final Text statistics; // Text showing the profiler report
+    private final Supplier<String> reportSource; // Produces the text to show
+
+    private int framesSinceRefresh; // Frames rendered since the text was last refreshed
+
+    /**
+     * Constructor for ProfilerOverlay.
+     *
+     * @param xPosition    The X position of the overlay.
+     * @param yPosition    The Y position of the overlay.
+     * @param reportSource Produces the statistics text when the overlay is refreshed.
+     */
+    public ProfilerOverlay(double xPosition, double yPosition, Supplier<String> reportSource) {
+        this.reportSource = reportSource;
+
+        // Create the text in a monospaced font so the table columns line up
+        statistics = new Text();
+        statistics.setFont(Font.font("Monospaced", 12));
+        statistics.setFill(Color.LIME);
+
+        // Place the text on a semi-transparent black panel
+        root = new StackPane(statistics);
+        root.setPadding(new Insets(8));
+        root.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7);");
+        root.setLayoutX(xPosition);
+        root.setLayoutY(yPosition);
+        root.setMouseTransparent(true); // Never steal input from the game
+        root.setVisible(false); // Hidden until toggled
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        root.setVisible(!root.isVisible());
+        if (root.isVisible()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Called once per rendered frame; refreshes the text every few frames while visible.
+     */
+    public void onFrame() {
+        if (!root.isVisible()) return;
+        if (++framesSinceRefresh >= REFRESH_INTERVAL_FRAMES) {
+            refresh();
+        }
+    }
+
+    /**
+     * Replaces the overlay text with a fresh report.
+     */
+    private void refresh() {
+        framesSinceRefresh = 0;
+        statistics.setText(reportSource.get());
+    }
+
+    /**
+     * Checks if the overlay is currently shown.
+     *
+     * @return True if the overlay is visible, otherwise false.
+     */
+    public boolean isShowing() {
+        return root.isVisible();
+    }
+
+    /**
+     * Returns the root node of the overlay, which can be added to the game scene.
+     *
+     * @return The StackPane containing the overlay.
+     */
+    public StackPane getRoot() {
+        return root;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.utils.Sprites;
+import com.example.demo.utils.TextureAtlas;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -10,10 +12,6 @@ import javafx.scene.image.ImageView;
  */
 public class ShieldImage extends ImageView {
 
-    // Constants for shield properties
-    private static final int SHIELD_SIZE = 200; // Size of the shield (both width and height)
-    private static final String IMAGE_NAME = "/com/example/demo/images/shield.png"; // Path to the shield image resource
-
     /**
      * Constructor for ShieldImage.
      *
@@ -25,12 +23,12 @@ public class ShieldImage extends ImageView {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
 
-        // Load and set the shield image
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        // Show the shield image from the shared texture atlas
+        TextureAtlas.getShared().apply(this, Sprites.SHIELD);
 
         // Set the shield's size (width and height)
-        this.setFitHeight(SHIELD_SIZE);
-        this.setFitWidth(SHIELD_SIZE);
+        this.setFitHeight(Sprites.SHIELD.height());
+        this.setFitWidth(Sprites.SHIELD.width());
 
         // Initially make the shield invisible
         this.setVisible(false);
@@ -42,7 +40,6 @@ public class ShieldImage extends ImageView {
      */
     public void showShield() {
         this.setVisible(true); // Make the shield visible
-        this.toFront(); // Ensure the shield is drawn above other game elements
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.example.demo.ui;
 
-import javafx.scene.image.Image;
+import com.example.demo.utils.ImageCache;
+import com.example.demo.utils.Sprites;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -9,11 +11,6 @@ import javafx.scene.image.ImageView;
  */
 public class WinImage extends ImageView {
 
-    // Constants for the win image properties
-    private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png"; // Path to the win image resource
-    private static final int HEIGHT = 500; // Height of the win image
-    private static final int WIDTH = 600;  // Width of the win image
-
     /**
      * Constructor for WinImage.
      * Initializes the image, sets its size, and positions it on the screen.
@@ -23,14 +20,14 @@ public class WinImage extends ImageView {
      */
     public WinImage(double xPosition, double yPosition) {
         // Set the win image
-        this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+        this.setImage(ImageCache.getShared().get(Sprites.WIN));
 
         // Make the image initially invisible
         this.setVisible(false);
 
         // Set the size of the image
-        this.setFitHeight(HEIGHT);
-        this.setFitWidth(WIDTH);
+        this.setFitHeight(Sprites.WIN.height());
+        this.setFitWidth(Sprites.WIN.width());
 
         // Position the image on the screen
         this.setLayoutX(xPosition);
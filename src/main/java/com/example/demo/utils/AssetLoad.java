@@ -0,0 +1,114 @@
+package com.example.demo.utils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * AssetLoad tracks the progress of loading one {@link AssetManifest} in the background.
+ * Assets that fail to load are logged and counted but do not fail the load, so whoever waits
+ * for it still proceeds and reports the missing resource where it is used.
+ */
+public final class AssetLoad {
+
+    // Number of assets to load and progress so far
+    private final int total;
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    // Completed once every asset has been handled
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    // Notified with the progress after every asset, on the loading thread
+    private final List<DoubleConsumer> progressListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor for AssetLoad.
+     *
+     * @param total Number of assets to load.
+     */
+    AssetLoad(int total) {
+        this.total = total;
+        if (total == 0) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Records that an asset has been handled.
+     *
+     * @param success Whether the asset was loaded.
+     */
+    void assetDone(boolean success) {
+        if (!success) {
+            failed.incrementAndGet();
+        }
+        int done = loaded.incrementAndGet();
+        double progress = (double) done / total;
+        for (DoubleConsumer listener : progressListeners) {
+            listener.accept(progress);
+        }
+        if (done == total) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Registers a listener for the progress, between 0 and 1. The listener is called right away
+     * with the current progress and then from the loading threads after every asset.
+     *
+     * @param listener The listener to notify.
+     */
+    public void onProgress(DoubleConsumer listener) {
+        progressListeners.add(listener);
+        listener.accept(getProgress());
+    }
+
+    /**
+     * Runs an action once every asset has been loaded, immediately if that already happened.
+     * The action runs on the thread that finished the load.
+     *
+     * @param action The action to run.
+     */
+    public void whenLoaded(Runnable action) {
+        completion.thenRun(action);
+    }
+
+    /**
+     * Checks if every asset has been handled.
+     *
+     * @return True if the load is complete, otherwise false.
+     */
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * Retrieves the share of assets handled so far.
+     *
+     * @return The progress between 0 and 1.
+     */
+    public double getProgress() {
+        return total == 0 ? 1.0 : (double) loaded.get() / total;
+    }
+
+    /**
+     * Retrieves the number of assets that could not be loaded.
+     *
+     * @return The failure count.
+     */
+    public int getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Retrieves the number of assets in the load.
+     *
+     * @return The asset count.
+     */
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetLoader decodes images and opens media on background threads, so menus and levels can
+ * prefetch what the next level needs instead of stalling the JavaFX application thread.
+ * Loaded assets end up in the shared {@link ImageCache} and {@link MediaCache}, where the
+ * actors and levels look them up.
+ *
+ * Each manifest is loaded once; asking for it again returns the same {@link AssetLoad}.
+ */
+public final class AssetLoader {
+
+    // Logger for assets that cannot be loaded
+    private static final GameLogger LOG = GameLogger.getLogger(AssetLoader.class);
+
+    // Number of worker threads; decoding is CPU-bound and must leave room for the game itself
+    private static final int WORKER_THREADS = 2;
+
+    // Loader shared by the whole game
+    private static final AssetLoader SHARED = new AssetLoader(ImageCache.getShared(), MediaCache.getShared(), WORKER_THREADS);
+
+    // Caches the assets are loaded into
+    private final ImageCache imageCache;
+    private final MediaCache mediaCache;
+
+    // Daemon worker threads, so pending loads never keep the application alive
+    private final ExecutorService workers;
+
+    // Loads started so far, by manifest
+    private final Map<AssetManifest, AssetLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for AssetLoader. Most code should use the shared loader from {@link #getShared()}.
+     *
+     * @param imageCache The cache images are decoded into.
+     * @param mediaCache The cache media are opened into.
+     * @param threads    Number of worker threads.
+     */
+    public AssetLoader(ImageCache imageCache, MediaCache mediaCache, int threads) {
+        this.imageCache = imageCache;
+        this.mediaCache = mediaCache;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retrieves the loader shared by the whole game.
+     *
+     * @return The shared asset loader.
+     */
+    public static AssetLoader getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Starts loading the assets of a manifest in the background, unless that already happened.
+     *
+     * @param manifest The assets to load.
+     * @return The load, which may already be complete.
+     */
+    public AssetLoad load(AssetManifest manifest) {
+        AssetLoad load = loads.get(manifest);
+        if (load != null) {
+            return load;
+        }
+        return loads.computeIfAbsent(manifest, this::start);
+    }
+
+    /**
+     * Submits one task per asset of a manifest.
+     *
+     * @param manifest The assets to load.
+     * @return The load tracking the tasks.
+     */
+    private AssetLoad start(AssetManifest manifest) {
+        AssetLoad load = new AssetLoad(manifest.size());
+        for (ImageAsset image : manifest.images()) {
+            workers.execute(() -> load.assetDone(run(image.resourcePath(), () -> imageCache.get(image))));
+        }
+        for (String media : manifest.media()) {
+            workers.execute(() -> load.assetDone(run(media, () -> mediaCache.get(media))));
+        }
+        return load;
+    }
+
+    /**
+     * Loads one asset, logging a failure instead of propagating it.
+     *
+     * @param resourcePath The asset, for the log.
+     * @param task         Loads the asset.
+     * @return True if the asset was loaded, otherwise false.
+     */
+    private static boolean run(String resourcePath, Runnable task) {
+        try {
+            task.run();
+            return true;
+        } catch (RuntimeException e) {
+            LOG.warn("Could not preload " + resourcePath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Forgets all loads, so the next request for a manifest loads it again.
+     * Call this after clearing the image or media cache.
+     */
+    public void clear() {
+        loads.clear();
+    }
+}
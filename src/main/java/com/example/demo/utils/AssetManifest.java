@@ -0,0 +1,140 @@
+package com.example.demo.utils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AssetManifest lists the images and media a part of the game needs, so they can be loaded
+ * by the {@link AssetLoader} before that part is shown.
+ *
+ * @param images The images, each with the size it is displayed at.
+ * @param media  Classpath locations of the audio files.
+ */
+public record AssetManifest(List<ImageAsset> images, List<String> media) {
+
+    /**
+     * A manifest without any assets.
+     */
+    public static final AssetManifest EMPTY = new AssetManifest(List.of(), List.of());
+
+    /**
+     * Constructor for AssetManifest; copies both lists.
+     *
+     * @param images The images.
+     * @param media  The audio files.
+     */
+    public AssetManifest {
+        images = List.copyOf(images);
+        media = List.copyOf(media);
+    }
+
+    /**
+     * Starts building a manifest.
+     *
+     * @return A new, empty builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the total number of assets.
+     *
+     * @return The number of images and audio files.
+     */
+    public int size() {
+        return images.size() + media.size();
+    }
+
+    /**
+     * An image resource at the size it is displayed at, matching the keys of the {@link ImageCache}.
+     *
+     * @param resourcePath  The classpath location of the image.
+     * @param width         The width to scale to, or 0.
+     * @param height        The height to scale to, or 0.
+     * @param preserveRatio Whether the aspect ratio is kept.
+     */
+    public record ImageAsset(String resourcePath, double width, double height, boolean preserveRatio) {
+
+        /**
+         * Describes an image shown at its original size.
+         *
+         * @param resourcePath The classpath location of the image.
+         * @return The image asset.
+         */
+        public static ImageAsset of(String resourcePath) {
+            return new ImageAsset(resourcePath, 0, 0, false);
+        }
+
+        /**
+         * Describes an image scaled to a height, keeping its aspect ratio.
+         *
+         * @param resourcePath The classpath location of the image.
+         * @param height       The height the image is displayed at.
+         * @return The image asset.
+         */
+        public static ImageAsset scaledToHeight(String resourcePath, double height) {
+            return new ImageAsset(resourcePath, 0, height, true);
+        }
+    }
+
+    /**
+     * Builder collecting the assets of a manifest; duplicates are kept once.
+     */
+    public static final class Builder {
+
+        // Assets collected so far, in insertion order
+        private final Set<ImageAsset> images = new LinkedHashSet<>();
+        private final Set<String> media = new LinkedHashSet<>();
+
+        /**
+         * Constructor for Builder; use {@link AssetManifest#builder()}.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Adds an image.
+         *
+         * @param image The image asset.
+         * @return This builder.
+         */
+        public Builder image(ImageAsset image) {
+            images.add(image);
+            return this;
+        }
+
+        /**
+         * Adds an audio file.
+         *
+         * @param resourcePath The classpath location of the audio file.
+         * @return This builder.
+         */
+        public Builder media(String resourcePath) {
+            media.add(resourcePath);
+            return this;
+        }
+
+        /**
+         * Adds all assets of another manifest.
+         *
+         * @param other The manifest to include.
+         * @return This builder.
+         */
+        public Builder include(AssetManifest other) {
+            images.addAll(other.images());
+            media.addAll(other.media());
+            return this;
+        }
+
+        /**
+         * Creates the manifest.
+         *
+         * @return The manifest with all added assets.
+         */
+        public AssetManifest build() {
+            return new AssetManifest(List.copyOf(images), List.copyOf(media));
+        }
+    }
+}
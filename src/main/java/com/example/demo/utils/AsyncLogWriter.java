@@ -0,0 +1,100 @@
+package com.example.demo.utils;
+
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AsyncLogWriter drains a {@link LogRingBuffer} on a background daemon thread and writes the
+ * entries to a stream, so console I/O never happens on the JavaFX application thread.
+ * Remaining entries are flushed when the JVM shuts down.
+ */
+final class AsyncLogWriter implements Runnable {
+
+    // How long the writer sleeps when the buffer is empty
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+
+    // Entries waiting to be written
+    private final LogRingBuffer buffer;
+
+    // Destination of the formatted entries
+    private final PrintStream out;
+
+    // Timestamp format; only used by the writer thread
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+
+    // Dropped-entry count already reported
+    private long reportedDrops;
+
+    /**
+     * Constructor for AsyncLogWriter.
+     *
+     * @param buffer The buffer to drain.
+     * @param out    The stream to write to.
+     */
+    AsyncLogWriter(LogRingBuffer buffer, PrintStream out) {
+        this.buffer = buffer;
+        this.out = out;
+    }
+
+    /**
+     * Starts the writer thread and registers a shutdown hook that flushes what is left.
+     */
+    void start() {
+        Thread thread = new Thread(this, "game-log-writer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "game-log-flush"));
+    }
+
+    /**
+     * Writes entries as they arrive until the JVM exits.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            if (!drain()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes every entry currently in the buffer.
+     *
+     * @return True if at least one entry was written.
+     */
+    synchronized boolean drain() {
+        boolean wroteAny = false;
+        LogRingBuffer.Entry entry;
+        while ((entry = buffer.poll()) != null) {
+            write(entry);
+            wroteAny = true;
+        }
+        long drops = buffer.getDropped();
+        if (drops > reportedDrops) {
+            out.println("[log] " + (drops - reportedDrops) + " messages dropped, log buffer full");
+            reportedDrops = drops;
+            wroteAny = true;
+        }
+        if (wroteAny) {
+            out.flush();
+        }
+        return wroteAny;
+    }
+
+    /**
+     * Formats and writes a single entry.
+     *
+     * @param entry The entry to write.
+     */
+    private void write(LogRingBuffer.Entry entry) {
+        out.println(timeFormat.format(new Date(entry.timeMillis())) + " " + entry.level()
+                + " [" + entry.threadName() + "] " + entry.loggerName() + " - " + entry.message());
+        if (entry.error() != null) {
+            entry.error().printStackTrace(out);
+        }
+    }
+}
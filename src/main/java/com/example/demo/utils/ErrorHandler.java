@@ -9,6 +9,9 @@ import javafx.scene.control.Alert;
  */
 public class ErrorHandler {
 
+    // Logger for reported errors
+    private static final GameLogger LOG = GameLogger.getLogger(ErrorHandler.class);
+
     /**
      * Displays an error alert with the given details.
      *
@@ -17,9 +20,8 @@ public class ErrorHandler {
      * @param cause  The exception or error that occurred.
      */
     public static void showError(String title, String header, Throwable cause) {
-        // Print the error details to the console for debugging purposes
-        System.err.println(header + ": " + cause);
-        cause.printStackTrace();
+        // Log the error details for debugging purposes
+        LOG.error(header, cause);
 
         // Create and configure an error alert to show the error details
         Alert alert = new Alert(Alert.AlertType.ERROR); // Initialize an error-type alert
@@ -0,0 +1,181 @@
+package com.example.demo.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * GameLogger is a small logging facade for the game.
+ * Messages are filtered by a global {@link LogLevel}, and enabled messages are put into a
+ * lock-free ring buffer that a background thread writes to the console. Logging therefore never
+ * blocks the JavaFX application thread on I/O.
+ *
+ * Messages passed as a {@link Supplier} are only built when their level is enabled. Code that logs
+ * every frame should additionally check {@link #isDebugEnabled()} first, so a disabled call does
+ * not even create the supplier.
+ *
+ * The initial level is read from the system property {@code game.log.level} (default INFO).
+ */
+public final class GameLogger {
+
+    // Size of the shared ring buffer
+    private static final int BUFFER_CAPACITY = 4096;
+
+    // Global threshold; messages below it are discarded
+    private static volatile LogLevel level =
+            LogLevel.parse(System.getProperty("game.log.level"), LogLevel.INFO);
+
+    // Shared buffer and its writer, started on first use
+    private static final LogRingBuffer BUFFER = new LogRingBuffer(BUFFER_CAPACITY);
+    private static volatile AsyncLogWriter writer;
+
+    // Name printed with every message of this logger
+    private final String name;
+
+    /**
+     * Constructor for GameLogger.
+     *
+     * @param name The name of the logger.
+     */
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a logger named after a class.
+     *
+     * @param type The class that logs.
+     * @return A logger for the class.
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return new GameLogger(type.getSimpleName());
+    }
+
+    /**
+     * Sets the global log level.
+     *
+     * @param newLevel The lowest level that is written.
+     */
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * Retrieves the global log level.
+     *
+     * @return The lowest level that is written.
+     */
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Retrieves the number of messages dropped because the buffer was full.
+     *
+     * @return The dropped message count.
+     */
+    public static long getDroppedMessages() {
+        return BUFFER.getDropped();
+    }
+
+    /**
+     * Checks if messages of a level are written.
+     *
+     * @param messageLevel The level to check.
+     * @return True if the level is enabled, otherwise false.
+     */
+    public boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel != LogLevel.OFF && messageLevel.ordinal() >= level.ordinal();
+    }
+
+    /**
+     * Checks if debug messages are written.
+     *
+     * @return True if debug logging is enabled, otherwise false.
+     */
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    /**
+     * Logs a debug message built on demand.
+     *
+     * @param message Supplies the message text if debug logging is enabled.
+     */
+    public void debug(Supplier<String> message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            enqueue(LogLevel.DEBUG, message.get(), null);
+        }
+    }
+
+    /**
+     * Logs an informational message.
+     *
+     * @param message The message text.
+     */
+    public void info(String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            enqueue(LogLevel.INFO, message, null);
+        }
+    }
+
+    /**
+     * Logs an informational message built on demand.
+     *
+     * @param message Supplies the message text if info logging is enabled.
+     */
+    public void info(Supplier<String> message) {
+        if (isEnabled(LogLevel.INFO)) {
+            enqueue(LogLevel.INFO, message.get(), null);
+        }
+    }
+
+    /**
+     * Logs a warning.
+     *
+     * @param message The message text.
+     */
+    public void warn(String message) {
+        if (isEnabled(LogLevel.WARN)) {
+            enqueue(LogLevel.WARN, message, null);
+        }
+    }
+
+    /**
+     * Logs an error with the exception that caused it.
+     *
+     * @param message The message text.
+     * @param error   The exception, or null.
+     */
+    public void error(String message, Throwable error) {
+        if (isEnabled(LogLevel.ERROR)) {
+            enqueue(LogLevel.ERROR, message, error);
+        }
+    }
+
+    /**
+     * Puts a message into the shared buffer, starting the writer thread on first use.
+     *
+     * @param messageLevel The level of the message.
+     * @param message      The message text.
+     * @param error        An optional exception.
+     */
+    private void enqueue(LogLevel messageLevel, String message, Throwable error) {
+        ensureWriterStarted();
+        BUFFER.offer(new LogRingBuffer.Entry(System.currentTimeMillis(), messageLevel, name,
+                Thread.currentThread().getName(), message, error));
+    }
+
+    /**
+     * Starts the background writer if it is not running yet.
+     */
+    private static void ensureWriterStarted() {
+        if (writer == null) {
+            synchronized (GameLogger.class) {
+                if (writer == null) {
+                    AsyncLogWriter newWriter = new AsyncLogWriter(BUFFER, System.out);
+                    newWriter.start();
+                    writer = newWriter;
+                }
+            }
+        }
+    }
+}
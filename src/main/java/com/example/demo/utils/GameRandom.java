@@ -0,0 +1,188 @@
+package com.example.demo.utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * GameRandom is the source of randomness for one level.
+ * Each level owns its own generator, seeded from the game seed and the level's name, so a whole
+ * game can be reproduced from a single number and parallel simulations never share (and contend
+ * on) a global generator the way Math.random does.
+ *
+ * The game seed is read from the system property {@code game.seed}; without it a new seed is
+ * chosen for every game. Instances are not thread-safe; each one is meant to be used by one level.
+ */
+public final class GameRandom {
+
+    // Logger for the chosen game seed
+    private static final GameLogger LOG = GameLogger.getLogger(GameRandom.class);
+
+    // Odd constant used to spread level name hashes over all 64 bits
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Seed of the current game, from which every level seed is derived
+    private static volatile long gameSeed = initialGameSeed();
+
+    // Seed of this generator and its state
+    private long seed;
+    private SplittableRandom random;
+
+    /**
+     * Constructor for GameRandom.
+     *
+     * @param seed The seed of the generator; equal seeds produce equal sequences.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates the generator for a level of the current game.
+     *
+     * @param levelName The name of the level, e.g. its simple class name.
+     * @return A generator whose sequence depends only on the game seed and the level name.
+     */
+    public static GameRandom forLevel(String levelName) {
+        return new GameRandom(levelSeed(gameSeed, levelName));
+    }
+
+    /**
+     * Derives the seed of a level from a game seed.
+     *
+     * @param gameSeed  The seed of the game.
+     * @param levelName The name of the level.
+     * @return The seed of the level.
+     */
+    public static long levelSeed(long gameSeed, String levelName) {
+        return gameSeed ^ (levelName.hashCode() * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Retrieves the seed of the current game.
+     *
+     * @return The game seed.
+     */
+    public static long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Sets the seed of the current game. Levels created afterwards derive their seeds from it.
+     *
+     * @param seed The new game seed.
+     */
+    public static void setGameSeed(long seed) {
+        gameSeed = seed;
+    }
+
+    /**
+     * Chooses the seed for a new game: the {@code game.seed} system property if it is set,
+     * otherwise a fresh random seed.
+     *
+     * @return The new game seed.
+     */
+    public static long startNewGame() {
+        gameSeed = initialGameSeed();
+        return gameSeed;
+    }
+
+    /**
+     * Reads the game seed from the {@code game.seed} system property, or picks a new one.
+     *
+     * @return The initial game seed.
+     */
+    private static long initialGameSeed() {
+        String property = System.getProperty("game.seed");
+        if (property != null) {
+            try {
+                return Long.parseLong(property.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Ignoring invalid game.seed: " + property);
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Restarts this generator from a new seed, as if it had just been created with it.
+     * Everything that shares the generator, such as a level and its actors, sees the new sequence.
+     *
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Retrieves the seed this generator was created with or last reseeded with.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the next value between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return A uniformly distributed double.
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Returns the next value between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound The upper bound; must be positive.
+     * @return A uniformly distributed double.
+     */
+    public double nextDouble(double bound) {
+        return random.nextDouble() * bound;
+    }
+
+    /**
+     * Returns the next integer between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound The upper bound; must be positive.
+     * @return A uniformly distributed int.
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Decides an event that happens with the given probability.
+     *
+     * @param probability The probability of the event, between 0 and 1.
+     * @return True if the event happens, otherwise false.
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Shuffles a list in place with the Fisher-Yates algorithm.
+     *
+     * @param list The list to shuffle.
+     * @param <T>  The element type.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i))); // Swap elements i and j
+        }
+    }
+
+    /**
+     * Provides a string representation of the generator.
+     *
+     * @return A string containing the seed.
+     */
+    @Override
+    public String toString() {
+        return "GameRandom{seed=" + seed + '}';
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import javafx.scene.image.Image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ImageCache decodes each image resource once per requested size and shares the result.
+ * Actors and UI elements that show the same picture at the same size reuse one decoded,
+ * pre-scaled Image instead of decoding the PNG again for every node.
+ *
+ * Images requested at a size are decoded directly at that size, never at full resolution first.
+ * For those, the cache reads the source dimensions from the file header and keeps track of the
+ * decoded memory saved compared with a full-resolution decode.
+ *
+ * The cache is safe to use from any thread, so images can also be decoded ahead of time
+ * away from the JavaFX application thread.
+ */
+public final class ImageCache {
+
+    // Logger for the memory saved by decoding at display size
+    private static final GameLogger LOG = GameLogger.getLogger(ImageCache.class);
+
+    // Bytes per pixel of a decoded image (32-bit ARGB)
+    private static final int BYTES_PER_PIXEL = 4;
+
+    // Cache shared by the whole game
+    private static final ImageCache SHARED = new ImageCache();
+
+    // Decoded images by resource path and requested size
+    private final Map<Key, Image> images = new ConcurrentHashMap<>();
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * Identifies a decoded image by its resource and the size it was scaled to.
+     */
+    private record Key(String resourcePath, double width, double height, boolean preserveRatio) {
+    }
+
+    /**
+     * Constructor for ImageCache. Most code should use the shared cache from {@link #getShared()}.
+     */
+    public ImageCache() {
+    }
+
+    /**
+     * Retrieves the cache shared by the whole game.
+     *
+     * @return The shared image cache.
+     */
+    public static ImageCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves an image at its original size.
+     *
+     * @param resourcePath The classpath location of the image, e.g. "/com/example/demo/images/heart.png".
+     * @return The decoded image.
+     * @throws IllegalArgumentException if the resource does not exist.
+     */
+    public Image get(String resourcePath) {
+        return get(resourcePath, 0, 0, false);
+    }
+
+    /**
+     * Retrieves an image scaled to the given height, keeping its aspect ratio.
+     *
+     * @param resourcePath The classpath location of the image.
+     * @param height       The height the image is displayed at.
+     * @return The decoded, pre-scaled image.
+     * @throws IllegalArgumentException if the resource does not exist.
+     */
+    public Image getScaledToHeight(String resourcePath, double height) {
+        return get(resourcePath, 0, height, true);
+    }
+
+    /**
+     * Retrieves an image scaled to the given size.
+     * A width or height of zero keeps the original size in that direction (or derives it from
+     * the other one when the aspect ratio is preserved), like the JavaFX Image constructor.
+     *
+     * @param resourcePath  The classpath location of the image.
+     * @param width         The width to scale to, or 0.
+     * @param height        The height to scale to, or 0.
+     * @param preserveRatio Whether the aspect ratio of the original image is kept.
+     * @return The decoded, pre-scaled image.
+     * @throws IllegalArgumentException if the resource does not exist.
+     */
+    public Image get(String resourcePath, double width, double height, boolean preserveRatio) {
+        Key key = new Key(resourcePath, width, height, preserveRatio);
+        Image image = images.get(key);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        return images.computeIfAbsent(key, this::decode);
+    }
+
+    /**
+     * Retrieves an image described by an asset manifest entry.
+     *
+     * @param asset The image and the size it is displayed at.
+     * @return The decoded, pre-scaled image.
+     * @throws IllegalArgumentException if the resource does not exist.
+     */
+    public Image get(ImageAsset asset) {
+        return get(asset.resourcePath(), asset.width(), asset.height(), asset.preserveRatio());
+    }
+
+    /**
+     * Decodes an image for a key that is not cached yet.
+     *
+     * @param key The image to decode.
+     * @return The decoded image.
+     */
+    private Image decode(Key key) {
+        URL url = ImageCache.class.getResource(key.resourcePath());
+        if (url == null) {
+            throw new IllegalArgumentException("Image resource not found: " + key.resourcePath());
+        }
+        misses.increment();
+        Image image = new Image(url.toExternalForm(), key.width(), key.height(), key.preserveRatio(), true);
+        if (key.width() > 0 || key.height() > 0) {
+            recordSaving(key.resourcePath(), url, image);
+        }
+        return image;
+    }
+
+    /**
+     * Records how much memory decoding at the requested size saved over a full-resolution decode.
+     *
+     * @param resourcePath The image resource, for the log.
+     * @param url          The location of the image file.
+     * @param image        The image decoded at the requested size.
+     */
+    private void recordSaving(String resourcePath, URL url, Image image) {
+        long sourceBytes = readSourceBytes(url);
+        long decodedBytes = bytesOf(image);
+        if (sourceBytes <= decodedBytes) return;
+        savedBytes.add(sourceBytes - decodedBytes);
+        LOG.debug(() -> String.format("Decoded %s at %.0fx%.0f: %d KiB instead of %d KiB at full resolution",
+                resourcePath, image.getWidth(), image.getHeight(), decodedBytes / 1024, sourceBytes / 1024));
+    }
+
+    /**
+     * Reads the dimensions of an image from its file header, without decoding the pixels.
+     *
+     * @param url The location of the image file.
+     * @return The memory a full-resolution decode would take, or 0 if the header cannot be read.
+     */
+    private static long readSourceBytes(URL url) {
+        try (InputStream in = url.openStream(); ImageInputStream stream = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) return 0;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0) * BYTES_PER_PIXEL;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Estimates the memory used by the decoded pixels of an image.
+     *
+     * @param image The image.
+     * @return The estimated footprint in bytes.
+     */
+    private static long bytesOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Removes all cached images. Nodes that already show an image keep it.
+     */
+    public void clear() {
+        images.clear();
+    }
+
+    /**
+     * Retrieves the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Retrieves the number of requests that had to decode an image.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Retrieves the number of decoded images held by the cache.
+     *
+     * @return The entry count.
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /**
+     * Estimates the memory used by the decoded pixels of all cached images.
+     *
+     * @return The estimated footprint in bytes.
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (Image image : images.values()) {
+            bytes += bytesOf(image);
+        }
+        return bytes;
+    }
+
+    /**
+     * Retrieves the decoded memory saved by decoding images at their display size instead of
+     * at full resolution, over all decodes so far.
+     *
+     * @return The saving in bytes.
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    /**
+     * Provides a string representation of the cache statistics.
+     *
+     * @return A string describing the cache.
+     */
+    @Override
+    public String toString() {
+        return "ImageCache{" +
+                "images=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", estimatedBytes=" + getEstimatedBytes() +
+                ", savedBytes=" + getSavedBytes() +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.utils;
+
+/**
+ * LogLevel defines the severities understood by {@link GameLogger}, from most to least verbose.
+ * Messages below the configured level are discarded before their text is built.
+ */
+public enum LogLevel {
+    /** Detailed tracing, e.g. per-frame positions. Disabled by default. */
+    DEBUG,
+    /** Notable game events such as level transitions. */
+    INFO,
+    /** Unexpected situations the game can recover from. */
+    WARN,
+    /** Failures, usually with an exception attached. */
+    ERROR,
+    /** Disables all logging. */
+    OFF;
+
+    /**
+     * Parses a level name, ignoring case.
+     *
+     * @param name     The level name, e.g. "debug".
+     * @param fallback The level returned if the name is null or unknown.
+     * @return The matching level, or the fallback.
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name == null) return fallback;
+        for (LogLevel level : values()) {
+            if (level.name().equalsIgnoreCase(name.trim())) {
+                return level;
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * LogRingBuffer is a bounded, lock-free queue of log entries.
+ * Any number of threads may add entries; a single consumer (the log writer thread) removes them.
+ * Each slot carries a sequence number that tells producers and the consumer whose turn it is,
+ * so neither side ever blocks. When the buffer is full new entries are dropped and counted
+ * rather than stalling the game thread.
+ */
+public final class LogRingBuffer {
+
+    /**
+     * A single log message, captured when it was logged.
+     *
+     * @param timeMillis The wall-clock time the message was logged at.
+     * @param level      The severity of the message.
+     * @param loggerName The name of the logger that produced the message.
+     * @param threadName The name of the thread that logged the message.
+     * @param message    The message text.
+     * @param error      An optional exception, or null.
+     */
+    public record Entry(long timeMillis, LogLevel level, String loggerName, String threadName,
+                        String message, Throwable error) {
+    }
+
+    // Slot storage and per-slot sequence numbers
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+
+    // Next position to write (shared by producers) and to read (owned by the consumer)
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    // Entries rejected because the buffer was full
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Constructor for LogRingBuffer.
+     *
+     * @param capacity The number of slots; must be a power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two.");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i); // Slot i is free for the producer at position i
+        }
+    }
+
+    /**
+     * Adds an entry to the buffer. Safe to call from any thread.
+     *
+     * @param entry The entry to add.
+     * @return True if the entry was added, false if the buffer was full and it was dropped.
+     */
+    public boolean offer(Entry entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                // The slot is free for this position; claim it
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, entry);
+                    sequences.set(index, position + 1); // Publish to the consumer
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer has not freed the slot yet: the buffer is full
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get(); // Another producer claimed this position
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest entry. Must only be called from the single consumer thread.
+     *
+     * @return The oldest entry, or null if the buffer is empty.
+     */
+    public Entry poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null; // Not yet published
+        }
+        Entry entry = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + capacity); // Free the slot for the next lap of producers
+        head++;
+        return entry;
+    }
+
+    /**
+     * Retrieves the number of entries dropped because the buffer was full.
+     *
+     * @return The dropped count.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Retrieves the number of slots in the buffer.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.utils;
+
+import javafx.scene.media.Media;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MediaCache opens each audio resource once and shares the resulting Media.
+ * A Media can back any number of MediaPlayers, so levels and menus that play the same music
+ * reuse one instance instead of locating and parsing the file again.
+ *
+ * The cache is safe to use from any thread, so media can be opened ahead of time by the
+ * {@link AssetLoader}.
+ */
+public final class MediaCache {
+
+    // Cache shared by the whole game
+    private static final MediaCache SHARED = new MediaCache();
+
+    // Opened media by resource path
+    private final Map<String, Media> media = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for MediaCache. Most code should use the shared cache from {@link #getShared()}.
+     */
+    public MediaCache() {
+    }
+
+    /**
+     * Retrieves the cache shared by the whole game.
+     *
+     * @return The shared media cache.
+     */
+    public static MediaCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves an audio resource.
+     *
+     * @param resourcePath The classpath location of the file, e.g. "/com/example/demo/sounds/level_music.wav".
+     * @return The opened media.
+     * @throws IllegalArgumentException if the resource does not exist.
+     */
+    public Media get(String resourcePath) {
+        Media cached = media.get(resourcePath);
+        if (cached != null) {
+            return cached;
+        }
+        return media.computeIfAbsent(resourcePath, MediaCache::open);
+    }
+
+    /**
+     * Opens an audio resource that is not cached yet.
+     *
+     * @param resourcePath The classpath location of the file.
+     * @return The opened media.
+     */
+    private static Media open(String resourcePath) {
+        URL url = MediaCache.class.getResource(resourcePath);
+        if (url == null) {
+            throw new IllegalArgumentException("Media resource not found: " + resourcePath);
+        }
+        return new Media(url.toExternalForm());
+    }
+
+    /**
+     * Removes all cached media. Players that already use a media keep it.
+     */
+    public void clear() {
+        media.clear();
+    }
+
+    /**
+     * Retrieves the number of opened media held by the cache.
+     *
+     * @return The entry count.
+     */
+    public int size() {
+        return media.size();
+    }
+}
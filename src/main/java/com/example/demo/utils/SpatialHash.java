@@ -0,0 +1,249 @@
+package com.example.demo.utils;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * SpatialHash is a uniform-grid broadphase for axis-aligned bounding boxes.
+ * Items are inserted into every cell their box covers, and a query only visits the items stored
+ * in the cells covered by the query box, so a collision pass costs roughly O(n + m) instead of O(n·m).
+ *
+ * The grid covers a fixed area; boxes outside of it are clamped into the border cells, which keeps
+ * results exact for objects that are partly or entirely off screen. All storage is kept in
+ * growable primitive arrays that are reused between ticks, so rebuilding and querying the grid
+ * does not allocate once it has warmed up.
+ *
+ * @param <T> The type of item stored in the grid.
+ */
+public final class SpatialHash<T> {
+
+    // Initial capacity for items and cell entries
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Grid geometry
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Index of the first entry of each cell, or -1 if the cell is empty
+    private final int[] cellHeads;
+
+    // Cells that received entries since the last clear, so clearing only touches those
+    private final int[] usedCells;
+    private int usedCellCount;
+
+    // Stored items and their bounds
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private double[] minXs = new double[INITIAL_CAPACITY];
+    private double[] minYs = new double[INITIAL_CAPACITY];
+    private double[] maxXs = new double[INITIAL_CAPACITY];
+    private double[] maxYs = new double[INITIAL_CAPACITY];
+    private int itemCount;
+
+    // Intrusive singly linked lists of cell entries (entry -> item, entry -> next entry in cell)
+    private int[] entryItems = new int[INITIAL_CAPACITY];
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    // Per-item query stamps, used to report an item only once when it spans several cells
+    private int[] stamps = new int[INITIAL_CAPACITY];
+    private int currentStamp;
+
+    /**
+     * Constructor for SpatialHash.
+     *
+     * @param cellSize The width and height of one grid cell.
+     * @param width    The width of the area covered by the grid.
+     * @param height   The height of the area covered by the grid.
+     * @throws IllegalArgumentException if any dimension is not positive.
+     */
+    public SpatialHash(double cellSize, double width, double height) {
+        if (cellSize <= 0 || width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Cell size and grid dimensions must be positive.");
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.cellHeads = new int[columns * rows];
+        this.usedCells = new int[columns * rows];
+        Arrays.fill(cellHeads, -1);
+    }
+
+    /**
+     * Removes all items from the grid. Only the cells that were used are reset.
+     */
+    public void clear() {
+        for (int i = 0; i < usedCellCount; i++) {
+            cellHeads[usedCells[i]] = -1;
+        }
+        Arrays.fill(items, 0, itemCount, null); // Do not keep removed actors reachable
+        usedCellCount = 0;
+        itemCount = 0;
+        entryCount = 0;
+    }
+
+    /**
+     * Inserts an item with the given bounding box.
+     *
+     * @param item The item to insert.
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     */
+    public void insert(T item, double minX, double minY, double maxX, double maxY) {
+        if (itemCount == items.length) {
+            growItems();
+        }
+        int index = itemCount++;
+        items[index] = item;
+        minXs[index] = minX;
+        minYs[index] = minY;
+        maxXs[index] = maxX;
+        maxYs[index] = maxY;
+        stamps[index] = 0;
+
+        int firstColumn = column(minX);
+        int lastColumn = column(maxX);
+        int firstRow = row(minY);
+        int lastRow = row(maxY);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                addEntry(r * columns + c, index);
+            }
+        }
+    }
+
+    /**
+     * Reports every stored item whose bounding box intersects the given box.
+     * Boxes that only touch along an edge count as intersecting, like JavaFX Bounds.intersects.
+     *
+     * @param probe   The object the query is made for, passed through to the handler.
+     * @param minX    The left edge of the query box.
+     * @param minY    The top edge of the query box.
+     * @param maxX    The right edge of the query box.
+     * @param maxY    The bottom edge of the query box.
+     * @param handler Callback invoked with the probe and each intersecting item.
+     * @param <P>     The type of the probe.
+     * @return The number of intersecting items that were reported.
+     */
+    @SuppressWarnings("unchecked")
+    public <P> int query(P probe, double minX, double minY, double maxX, double maxY,
+                         BiConsumer<? super P, ? super T> handler) {
+        if (itemCount == 0) return 0;
+        nextStamp();
+
+        int found = 0;
+        int firstColumn = column(minX);
+        int lastColumn = column(maxX);
+        int firstRow = row(minY);
+        int lastRow = row(maxY);
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                for (int entry = cellHeads[r * columns + c]; entry != -1; entry = entryNext[entry]) {
+                    int index = entryItems[entry];
+                    if (stamps[index] == currentStamp) continue; // Already checked through another cell
+                    stamps[index] = currentStamp;
+                    if (overlaps(minX, minY, maxX, maxY, minXs[index], minYs[index], maxXs[index], maxYs[index])) {
+                        handler.accept(probe, (T) items[index]);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Retrieves the number of items currently stored.
+     *
+     * @return The item count.
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Retrieves the number of cells in the grid.
+     *
+     * @return The cell count.
+     */
+    public int getCellCount() {
+        return cellHeads.length;
+    }
+
+    /**
+     * Converts an x coordinate to a column index, clamped to the grid.
+     */
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : Math.min(c, columns - 1);
+    }
+
+    /**
+     * Converts a y coordinate to a row index, clamped to the grid.
+     */
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : Math.min(r, rows - 1);
+    }
+
+    /**
+     * Links a new entry for the given item at the head of a cell's list.
+     */
+    private void addEntry(int cell, int itemIndex) {
+        if (entryCount == entryItems.length) {
+            entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        if (cellHeads[cell] == -1) {
+            usedCells[usedCellCount++] = cell;
+        }
+        entryItems[entryCount] = itemIndex;
+        entryNext[entryCount] = cellHeads[cell];
+        cellHeads[cell] = entryCount++;
+    }
+
+    /**
+     * Doubles the capacity of the per-item arrays.
+     */
+    private void growItems() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        minXs = Arrays.copyOf(minXs, capacity);
+        minYs = Arrays.copyOf(minYs, capacity);
+        maxXs = Arrays.copyOf(maxXs, capacity);
+        maxYs = Arrays.copyOf(maxYs, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+    }
+
+    /**
+     * Checks whether two boxes overlap. Boxes that only touch along an edge count as overlapping,
+     * like JavaFX Bounds.intersects. The grid, the game's collision pass and the headless World
+     * all use this test, so a pair that collides in one of them collides in the others.
+     *
+     * @param minX      The left edge of the first box.
+     * @param minY      The top edge of the first box.
+     * @param maxX      The right edge of the first box.
+     * @param maxY      The bottom edge of the first box.
+     * @param otherMinX The left edge of the second box.
+     * @param otherMinY The top edge of the second box.
+     * @param otherMaxX The right edge of the second box.
+     * @param otherMaxY The bottom edge of the second box.
+     * @return True if the boxes overlap or touch, otherwise false.
+     */
+    public static boolean overlaps(double minX, double minY, double maxX, double maxY,
+                                   double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+        return minX <= otherMaxX && maxX >= otherMinX && minY <= otherMaxY && maxY >= otherMinY;
+    }
+
+    /**
+     * Advances the query stamp, resetting all stamps when the counter wraps around.
+     */
+    private void nextStamp() {
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            currentStamp = 1;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+
+import java.util.List;
+
+/**
+ * Sprites lists every image shown by the actors and the level views, each at the size it is displayed.
+ * The actors, the views, the asset manifests and the texture atlas all refer to these constants,
+ * so an image is decoded and cached under the same key wherever it is used.
+ */
+public final class Sprites {
+
+    // Directory where the game's images are stored
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+    // Planes, scaled to their display height
+    public static final ImageAsset USER_PLANE = scaledToHeight("userplane.png", 150);
+    public static final ImageAsset ENEMY_PLANE = scaledToHeight("enemyplane.png", 150);
+    public static final ImageAsset BOSS = scaledToHeight("bossplane.png", 300);
+
+    // Projectiles, scaled to their display height
+    public static final ImageAsset USER_PROJECTILE = scaledToHeight("projectile.png", 125);
+    public static final ImageAsset ENEMY_PROJECTILE = scaledToHeight("enemyFire.png", 35);
+    public static final ImageAsset BOSS_PROJECTILE = scaledToHeight("fireball.png", 50);
+
+    // Level view images
+    public static final ImageAsset HEART = scaledToHeight("heart.png", 50);
+    public static final ImageAsset SHIELD = new ImageAsset(IMAGE_LOCATION + "shield.png", 200, 200, false);
+    public static final ImageAsset WIN = new ImageAsset(IMAGE_LOCATION + "youwin.png", 600, 500, false);
+    public static final ImageAsset GAME_OVER = ImageAsset.of(IMAGE_LOCATION + "gameover.png");
+
+    /**
+     * The sprites packed into the shared texture atlas: the planes and projectiles of every level,
+     * the hearts and the boss's shield.
+     */
+    public static final List<ImageAsset> ATLAS = List.of(
+            USER_PLANE, USER_PROJECTILE,
+            ENEMY_PLANE, ENEMY_PROJECTILE,
+            BOSS, BOSS_PROJECTILE,
+            HEART, SHIELD);
+
+    /**
+     * Private constructor; Sprites only holds constants.
+     */
+    private Sprites() {
+    }
+
+    /**
+     * Describes an image that is scaled to a height, keeping its aspect ratio.
+     *
+     * @param imageName The name of the image file.
+     * @param height    The height the image is displayed at.
+     * @return The image asset.
+     */
+    private static ImageAsset scaledToHeight(String imageName, double height) {
+        return ImageAsset.scaledToHeight(IMAGE_LOCATION + imageName, height);
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TextureAtlas packs several sprite images into one image and remembers where each sprite is.
+ * Views show a sprite by displaying the atlas through a viewport on the sprite's region, so every
+ * plane, projectile, heart and shield shares a single image and the renderer binds one texture
+ * instead of switching between one texture per sprite type.
+ *
+ * The sprites are decoded at their display size and packed when the atlas is first built.
+ * Sprites that are not in the atlas are shown from the {@link ImageCache} instead, so views work
+ * the same before the shared atlas is packed.
+ */
+public final class TextureAtlas {
+
+    // Logger for the packed atlas size
+    private static final GameLogger LOG = GameLogger.getLogger(TextureAtlas.class);
+
+    // Widest the atlas grows before starting a new shelf
+    private static final int MAX_WIDTH = 1024;
+
+    // Transparent gutter around every sprite, so smoothed sampling never picks up a neighbour
+    private static final int PADDING = 2;
+
+    // Atlas without any sprites, in use until the shared atlas is packed
+    private static final TextureAtlas EMPTY = new TextureAtlas(null, Map.of());
+
+    // Atlas shared by the whole game
+    private static volatile TextureAtlas shared = EMPTY;
+
+    // The packed image and the region of each sprite in it
+    private final Image image;
+    private final Map<ImageAsset, Rectangle2D> regions;
+
+    /**
+     * Constructor for TextureAtlas; use {@link #pack(List)}.
+     *
+     * @param image   The packed image.
+     * @param regions The region of each sprite.
+     */
+    private TextureAtlas(Image image, Map<ImageAsset, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Retrieves the atlas shared by the whole game.
+     *
+     * @return The shared atlas, which is empty until {@link #packShared(List)} has run.
+     */
+    public static TextureAtlas getShared() {
+        return shared;
+    }
+
+    /**
+     * Packs the shared atlas, unless that already happened.
+     * Safe to call from any thread, so the atlas can be packed while a menu is shown.
+     *
+     * @param sprites The sprites to pack.
+     * @return The shared atlas.
+     */
+    public static synchronized TextureAtlas packShared(List<ImageAsset> sprites) {
+        if (shared == EMPTY) {
+            shared = pack(sprites);
+        }
+        return shared;
+    }
+
+    /**
+     * Decodes the given sprites at their display size and packs them into a new atlas.
+     * Sprites that cannot be loaded are left out and logged.
+     *
+     * @param sprites The sprites to pack.
+     * @return The atlas.
+     */
+    public static TextureAtlas pack(List<ImageAsset> sprites) {
+        // Decode every sprite synchronously; the atlas needs their pixels right away
+        List<ImageAsset> packed = new ArrayList<>();
+        List<Image> images = new ArrayList<>();
+        for (ImageAsset sprite : sprites) {
+            Image decoded = decode(sprite);
+            if (decoded != null && !packed.contains(sprite)) {
+                packed.add(sprite);
+                images.add(decoded);
+            }
+        }
+        if (packed.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Place the sprites, then copy their pixels into one image
+        int[] widths = new int[images.size()];
+        int[] heights = new int[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            widths[i] = (int) Math.ceil(images.get(i).getWidth());
+            heights[i] = (int) Math.ceil(images.get(i).getHeight());
+        }
+        Rectangle2D[] placements = layout(widths, heights, MAX_WIDTH);
+        WritableImage atlas = new WritableImage(
+                (int) Math.ceil(maxX(placements)) + PADDING, (int) Math.ceil(maxY(placements)) + PADDING);
+        PixelWriter writer = atlas.getPixelWriter();
+        Map<ImageAsset, Rectangle2D> regions = new HashMap<>();
+        for (int i = 0; i < images.size(); i++) {
+            PixelReader reader = images.get(i).getPixelReader();
+            Rectangle2D region = placements[i];
+            writer.setPixels((int) region.getMinX(), (int) region.getMinY(), widths[i], heights[i], reader, 0, 0);
+            regions.put(packed.get(i), region);
+        }
+        LOG.info(() -> String.format("Packed %d sprites into a %.0fx%.0f texture atlas",
+                regions.size(), atlas.getWidth(), atlas.getHeight()));
+        return new TextureAtlas(atlas, Collections.unmodifiableMap(regions));
+    }
+
+    /**
+     * Places rectangles on shelves: sorted by height, left to right, starting a new shelf below
+     * the tallest rectangle of the current one when the next would exceed the maximum width.
+     *
+     * @param widths   The width of each rectangle.
+     * @param heights  The height of each rectangle.
+     * @param maxWidth The width a shelf may reach; a wider rectangle gets a shelf of its own.
+     * @return The placed rectangles, in the order of the input, separated by the padding.
+     */
+    static Rectangle2D[] layout(int[] widths, int[] heights, int maxWidth) {
+        // Tallest first, so each shelf wastes little height
+        Integer[] order = new Integer[widths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(heights[b], heights[a]));
+
+        Rectangle2D[] placements = new Rectangle2D[widths.length];
+        int x = PADDING;
+        int shelfY = PADDING;
+        int shelfHeight = 0;
+        for (int index : order) {
+            if (x > PADDING && x + widths[index] + PADDING > maxWidth) {
+                // Start a new shelf below the current one
+                shelfY += shelfHeight + PADDING;
+                x = PADDING;
+                shelfHeight = 0;
+            }
+            placements[index] = new Rectangle2D(x, shelfY, widths[index], heights[index]);
+            x += widths[index] + PADDING;
+            shelfHeight = Math.max(shelfHeight, heights[index]);
+        }
+        return placements;
+    }
+
+    /**
+     * Decodes a sprite at its display size.
+     *
+     * @param sprite The sprite.
+     * @return The decoded image, or null if it cannot be loaded.
+     */
+    private static Image decode(ImageAsset sprite) {
+        URL url = TextureAtlas.class.getResource(sprite.resourcePath());
+        if (url == null) {
+            LOG.warn("Could not pack " + sprite.resourcePath() + ": resource not found");
+            return null;
+        }
+        Image decoded = new Image(url.toExternalForm(), sprite.width(), sprite.height(), sprite.preserveRatio(), true, false);
+        if (decoded.isError()) {
+            LOG.warn("Could not pack " + sprite.resourcePath() + ": " + decoded.getException());
+            return null;
+        }
+        return decoded;
+    }
+
+    /**
+     * Finds the right edge of the rightmost rectangle.
+     *
+     * @param rectangles The rectangles.
+     * @return The largest maximum X.
+     */
+    private static double maxX(Rectangle2D[] rectangles) {
+        double max = 0;
+        for (Rectangle2D rectangle : rectangles) {
+            max = Math.max(max, rectangle.getMaxX());
+        }
+        return max;
+    }
+
+    /**
+     * Finds the bottom edge of the lowest rectangle.
+     *
+     * @param rectangles The rectangles.
+     * @return The largest maximum Y.
+     */
+    private static double maxY(Rectangle2D[] rectangles) {
+        double max = 0;
+        for (Rectangle2D rectangle : rectangles) {
+            max = Math.max(max, rectangle.getMaxY());
+        }
+        return max;
+    }
+
+    /**
+     * Shows a sprite in a view: through a viewport on the atlas if the sprite is packed, otherwise
+     * as its own image from the shared {@link ImageCache}.
+     *
+     * @param view   The view to show the sprite in.
+     * @param sprite The sprite.
+     */
+    public void apply(ImageView view, ImageAsset sprite) {
+        Rectangle2D region = regions.get(sprite);
+        if (region != null) {
+            view.setImage(image);
+            view.setViewport(region);
+        } else {
+            view.setImage(ImageCache.getShared().get(sprite));
+            view.setViewport(null);
+        }
+    }
+
+    /**
+     * Retrieves the packed image.
+     *
+     * @return The atlas image, or null if the atlas is empty.
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Retrieves the region of a sprite in the atlas image.
+     *
+     * @param sprite The sprite.
+     * @return The region, or null if the sprite is not packed.
+     */
+    public Rectangle2D getRegion(ImageAsset sprite) {
+        return regions.get(sprite);
+    }
+
+    /**
+     * Retrieves the number of packed sprites.
+     *
+     * @return The region count.
+     */
+    public int size() {
+        return regions.size();
+    }
+}
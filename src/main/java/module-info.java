@@ -6,7 +6,7 @@ module com.example.demo {
     // Required JavaFX modules for UI components, media playback, and base classes
     requires javafx.controls; // JavaFX controls for building the UI (e.g., Button, TextField)
     requires javafx.fxml; // JavaFX FXML support for defining UI in XML files
-    requires javafx.media; // JavaFX media support for audio and video playback
+    requires transitive javafx.media; // JavaFX media support for audio and video playback, transitive because media types appear in the exported API
     requires javafx.base; // JavaFX base classes for properties and collections
     requires transitive javafx.graphics; // JavaFX graphics module, transitive to pass visibility to dependent modules
 
@@ -19,4 +19,18 @@ module com.example.demo {
     // Exports packages for use by other modules or external code
     exports com.example.demo.controller; // Exports the controller package for managing app logic
     exports com.example.demo; // Exports the main package for launching and app-level resources
+    exports com.example.demo.simulation; // Exports the headless simulation core for tools and tests
+    exports com.example.demo.levels; // Exports the level registry so other modules can provide levels
+    exports com.example.demo.events; // Exports the game events so listeners outside the game can subscribe
+
+    // Exports the packages whose types appear in the signatures of the packages above
+    exports com.example.demo.actors; // Planes passed to level hooks and carried by events
+    exports com.example.demo.utils; // Random numbers, asset manifests, texture atlases and latency histograms
+    exports com.example.demo.replay; // Input recorders and replays accepted by levels
+    exports com.example.demo.listeners; // Event listeners registered through the LevelManager
+    exports com.example.demo.ui; // Shield image shown by the boss level view
+
+    // Levels are discovered through LevelProvider services
+    uses com.example.demo.levels.LevelProvider;
+    provides com.example.demo.levels.LevelProvider with com.example.demo.levels.DefaultLevelProvider;
 }
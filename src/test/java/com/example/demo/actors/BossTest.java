@@ -31,7 +31,11 @@ class BossTest {
     @BeforeAll
     static void initJavaFX() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
-        Platform.startup(() -> latch.countDown()); // Initialize JavaFX platform
+        try {
+            Platform.startup(() -> latch.countDown()); // Initialize JavaFX platform
+        } catch (IllegalStateException e) {
+            return; // Already started by an earlier test in the same JVM
+        }
         latch.await(); // Wait for JavaFX initialization to complete
     }
 
@@ -171,6 +171,23 @@ class UserPlaneTest {
         assertTrue(userPlane.getTranslateY() < 0, "TranslateY should be updated correctly during movement.");
     }
 
+    /**
+     * Tests that interpolation reports a stationary plane as unchanged after its first frame
+     * and a moving plane as changed.
+     */
+    @Test
+    void testInterpolatePositionReportsMovement() {
+        assertTrue(userPlane.interpolatePosition(1.0), "The first frame should place the plane.");
+        assertFalse(userPlane.interpolatePosition(1.0), "A stationary plane should not be marked dirty.");
+
+        userPlane.beginStep();
+        userPlane.moveDown();
+        userPlane.updatePosition();
+        assertTrue(userPlane.interpolatePosition(0.5), "A moving plane should be marked dirty.");
+        assertTrue(userPlane.interpolatePosition(1.0), "The plane should keep moving towards its simulated position.");
+        assertFalse(userPlane.interpolatePosition(1.0), "The plane should be unchanged once it reached that position.");
+    }
+
     /**
      * Tests the toString method of UserPlane.
      * Ensures the returned string contains relevant state information.
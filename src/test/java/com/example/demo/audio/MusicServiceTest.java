@@ -0,0 +1,225 @@
+package com.example.demo.audio;
+
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the MusicService class.
+ * Uses mocked players, so crossfades, player reuse and disposal are checked without an audio device.
+ */
+class MusicServiceTest {
+
+    private static final String MENU = "/menu.wav";
+    private static final String LEVEL = "/level.wav";
+
+    // How long to wait for a fade or an action on the JavaFX thread
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private Map<String, Integer> opened;
+    private MusicService music;
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run; fades run on its timelines.
+     */
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Creates a service that opens mocked players and counts how often each track is opened.
+     */
+    @BeforeEach
+    void setUp() {
+        opened = new HashMap<>();
+        music = new MusicService(track -> {
+            opened.merge(track, 1, Integer::sum);
+            return mockPlayer();
+        });
+        music.setMuted(false); // Test runs set game.mute, but the mocked players need no audio device
+    }
+
+    /**
+     * Tests that playing the current track again keeps its player instead of opening a new one.
+     */
+    @Test
+    void testReusesOnePlayerPerTrack() throws Exception {
+        MediaPlayer[] players = new MediaPlayer[2];
+        onFx(() -> {
+            players[0] = music.play(MENU, Duration.ZERO);
+            players[1] = music.play(MENU, Duration.ZERO);
+        });
+
+        assertSame(players[0], players[1], "The track that is playing should keep its player.");
+        assertEquals(1, opened.get(MENU), "The track should be opened once.");
+        assertEquals(1, music.getPlayerCount(), "Only one player should be live.");
+        verify(players[0], times(1)).play();
+    }
+
+    /**
+     * Tests that changing the track fades the old one out while the new one fades in,
+     * and disposes the old player once it is silent.
+     */
+    @Test
+    void testCrossfadeDisposesOldPlayer() throws Exception {
+        MediaPlayer[] players = new MediaPlayer[2];
+        onFx(() -> {
+            players[0] = music.play(MENU, Duration.ZERO);
+            players[1] = music.play(LEVEL, Duration.millis(200));
+        });
+
+        assertEquals(LEVEL, music.getCurrentTrack(), "The new track should be current right away.");
+        assertEquals(2, music.getPlayerCount(), "Both players should be live during the crossfade.");
+
+        waitFor(() -> onFxGet(() -> music.getPlayerCount() == 1));
+        verify(players[0]).dispose();
+        verify(players[1], never()).dispose();
+        assertEquals(0.0, players[0].getVolume(), 1e-9, "The old track should fade out completely.");
+        assertEquals(1.0, players[1].getVolume(), 1e-9, "The new track should fade in to the music volume.");
+    }
+
+    /**
+     * Tests that stopping and shutting down dispose every player.
+     */
+    @Test
+    void testStopAndShutdownDisposePlayers() throws Exception {
+        MediaPlayer[] players = new MediaPlayer[2];
+        onFx(() -> {
+            players[0] = music.play(MENU, Duration.ZERO);
+            music.stop(Duration.ZERO);
+            players[1] = music.play(LEVEL, Duration.ZERO);
+            music.shutdown();
+        });
+
+        verify(players[0]).dispose();
+        verify(players[1]).dispose();
+        assertEquals(0, music.getPlayerCount(), "No player should be left.");
+        assertNull(music.getCurrentTrack(), "No track should be current.");
+    }
+
+    /**
+     * Tests that a muted service opens no players and that a track that cannot be played is skipped.
+     */
+    @Test
+    void testMutedAndFailingTracksOpenNoPlayer() throws Exception {
+        MusicService failing = new MusicService(track -> {
+            throw mock(MediaException.class); // As thrown by JavaFX without an audio device
+        });
+        failing.setMuted(false);
+        MediaPlayer[] players = new MediaPlayer[2];
+        onFx(() -> {
+            music.setMuted(true);
+            players[0] = music.play(MENU);
+            players[1] = failing.play(MENU);
+        });
+
+        assertNull(players[0], "A muted service should not play.");
+        assertNull(opened.get(MENU), "A muted service should not open a player.");
+        assertNull(players[1], "A track that cannot be played should be skipped.");
+        assertEquals(0, failing.getPlayerCount(), "A failed track should leave no player.");
+    }
+
+    /**
+     * Creates a mocked player whose volume and status behave like a real one.
+     *
+     * @return The player.
+     */
+    private static MediaPlayer mockPlayer() {
+        MediaPlayer player = mock(MediaPlayer.class);
+        DoubleProperty volume = new SimpleDoubleProperty(1.0);
+        AtomicReference<MediaPlayer.Status> status = new AtomicReference<>(MediaPlayer.Status.READY);
+        when(player.volumeProperty()).thenReturn(volume);
+        when(player.getVolume()).thenAnswer(invocation -> volume.get());
+        doAnswer(invocation -> {
+            volume.set(invocation.getArgument(0));
+            return null;
+        }).when(player).setVolume(anyDouble());
+        when(player.getStatus()).thenAnswer(invocation -> status.get());
+        doAnswer(invocation -> {
+            status.set(MediaPlayer.Status.PLAYING);
+            return null;
+        }).when(player).play();
+        doAnswer(invocation -> {
+            status.set(MediaPlayer.Status.STOPPED);
+            return null;
+        }).when(player).stop();
+        return player;
+    }
+
+    /**
+     * Runs an action on the JavaFX thread and waits for it.
+     *
+     * @param action The action.
+     */
+    private static void onFx(Runnable action) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "The JavaFX thread did not respond.");
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+
+    /**
+     * Evaluates a condition on the JavaFX thread.
+     *
+     * @param condition The condition.
+     * @return The value of the condition.
+     */
+    private static boolean onFxGet(BooleanSupplier condition) throws Exception {
+        boolean[] result = new boolean[1];
+        onFx(() -> result[0] = condition.getAsBoolean());
+        return result[0];
+    }
+
+    /**
+     * Waits until a condition holds, failing the test after the timeout.
+     *
+     * @param condition The condition, which may throw.
+     */
+    private static void waitFor(ThrowingCondition condition) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.holds()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The condition did not hold in time.");
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * A condition that may throw while it is evaluated.
+     */
+    @FunctionalInterface
+    private interface ThrowingCondition {
+        boolean holds() throws Exception;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.audio;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the VoiceAllocator class.
+ * Checks the voice limits and voice stealing of the sound effect mixer without an audio device.
+ */
+class VoiceAllocatorTest {
+
+    // Length of every clip in the tests
+    private static final long CLIP_NANOS = 100;
+
+    private VoiceAllocator voices;
+    private List<SoundEffect> stopped;
+
+    /**
+     * Creates an allocator with the game's voice limit and records the effects it stops.
+     */
+    @BeforeEach
+    void setUp() {
+        voices = new VoiceAllocator(SoundEffects.MAX_VOICES);
+        stopped = new ArrayList<>();
+    }
+
+    /**
+     * Tests that a sound over its own voice limit is rejected until one of its voices ends.
+     */
+    @Test
+    void testRejectsSoundOverItsVoiceLimit() {
+        assertEquals(1, SoundEffect.LEVEL_UP.getMaxVoices(), "The test relies on LEVEL_UP having one voice.");
+
+        assertTrue(start(SoundEffect.LEVEL_UP, 0), "The first voice should be granted.");
+        assertFalse(start(SoundEffect.LEVEL_UP, 50), "A voice over the limit should be rejected.");
+        assertTrue(start(SoundEffect.LEVEL_UP, CLIP_NANOS), "The voice should be free once the clip has ended.");
+        assertTrue(stopped.isEmpty(), "No clip should be stopped.");
+    }
+
+    /**
+     * Tests that a higher-priority sound takes the voices of the lowest-priority effect when all voices are in use.
+     */
+    @Test
+    void testHigherPriorityTakesLowestPriorityVoices() {
+        fill(SoundEffect.SHOT, 3);
+        fill(SoundEffect.HIT, 3);
+        fill(SoundEffect.EXPLOSION, 2);
+        assertEquals(SoundEffects.MAX_VOICES, voices.totalActiveVoices(0), "Every voice should be in use.");
+
+        assertTrue(start(SoundEffect.CLICK, 0), "A higher-priority sound should get a voice.");
+        assertEquals(List.of(SoundEffect.SHOT), stopped, "The lowest-priority effect should be stopped.");
+        assertEquals(0, voices.activeVoices(SoundEffect.SHOT.ordinal(), 0), "All voices of the stopped effect should be freed.");
+        assertEquals(3, voices.activeVoices(SoundEffect.HIT.ordinal(), 0), "Other effects should keep their voices.");
+        assertEquals(6, voices.totalActiveVoices(0), "Five voices should remain plus the new one.");
+    }
+
+    /**
+     * Tests that a sound is dropped when every voice belongs to an effect of equal or higher priority.
+     */
+    @Test
+    void testDropsSoundOfEqualPriority() {
+        voices = new VoiceAllocator(3);
+        fill(SoundEffect.HIT, 2);
+        fill(SoundEffect.EXPLOSION, 1);
+
+        assertFalse(start(SoundEffect.HIT, 0), "A sound should not take voices of equal or higher priority.");
+        assertTrue(stopped.isEmpty(), "No clip should be stopped.");
+        assertEquals(3, voices.totalActiveVoices(0), "The playing voices should be kept.");
+    }
+
+    /**
+     * Tests that clearing the allocator releases every voice.
+     */
+    @Test
+    void testClearReleasesAllVoices() {
+        fill(SoundEffect.HIT, 3);
+        voices.clear();
+
+        assertEquals(0, voices.totalActiveVoices(0), "No voice should be active after clearing.");
+    }
+
+    /**
+     * Asks the allocator for a voice, recording the effect it stops.
+     *
+     * @param effect The effect to start.
+     * @param now    The current time in nanoseconds.
+     * @return True if the effect may start.
+     */
+    private boolean start(SoundEffect effect, long now) {
+        return voices.start(effect, CLIP_NANOS, now, index -> stopped.add(SoundEffect.values()[index]));
+    }
+
+    /**
+     * Starts an effect several times at time zero, failing if a voice is refused.
+     *
+     * @param effect The effect to start.
+     * @param count  The number of voices to start.
+     */
+    private void fill(SoundEffect effect, int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(start(effect, 0), effect + " voice " + i + " should be granted.");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GameEventBus.
+ * Verifies immediate and deferred delivery, ordering, and that reused events are copied when posted.
+ */
+class GameEventBusTest {
+
+    /**
+     * Tests that published events reach only the listeners of their type, right away.
+     */
+    @Test
+    void testPublishDeliversImmediately() {
+        GameEventBus bus = new GameEventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(LevelTransitionEvent.class, event -> received.add(event.getLevelId()));
+        bus.subscribe(ScoreEvent.class, event -> fail("Score listeners should not receive transitions."));
+
+        bus.publish(new LevelTransitionEvent().set("LevelTwo"));
+
+        assertEquals(List.of("LevelTwo"), received, "The transition should be delivered during publish.");
+        assertEquals(0, bus.getPendingCount(), "Published events should not be queued.");
+    }
+
+    /**
+     * Tests that posted events are copied, held until the flush and delivered in posting order.
+     */
+    @Test
+    void testPostDefersAndKeepsOrder() {
+        GameEventBus bus = new GameEventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(ScoreEvent.class, event -> received.add("score " + event.getScore()));
+        bus.subscribe(KillEvent.class, event -> received.add("kills " + event.getTotalKills()));
+
+        ScoreEvent score = new ScoreEvent();
+        KillEvent kill = new KillEvent();
+        for (int i = 1; i <= 40; i++) { // More than the initial capacity, so the queue has to grow
+            bus.post(kill.set(1, i));
+            bus.post(score.set(100, i * 100)); // The same instance is reused for every post
+        }
+        assertTrue(received.isEmpty(), "Posted events should wait for the flush.");
+        assertEquals(80, bus.getPendingCount(), "Every posted event should be queued.");
+
+        bus.flush();
+
+        assertEquals(80, received.size(), "Every posted event should be delivered.");
+        assertEquals("kills 1", received.get(0), "Events should be delivered in posting order.");
+        assertEquals("score 100", received.get(1), "Each posted event should keep its own values.");
+        assertEquals("score 4000", received.get(79), "The last event should be delivered last.");
+        assertEquals(0, bus.getPendingCount(), "The queue should be empty after the flush.");
+    }
+
+    /**
+     * Tests that events posted by a listener during a flush are delivered in the same flush.
+     */
+    @Test
+    void testEventsPostedWhileFlushingAreDelivered() {
+        GameEventBus bus = new GameEventBus();
+        List<Integer> scores = new ArrayList<>();
+        ScoreEvent score = new ScoreEvent();
+        bus.subscribe(KillEvent.class, event -> bus.post(score.set(100, event.getTotalKills() * 100)));
+        bus.subscribe(ScoreEvent.class, event -> scores.add(event.getScore()));
+
+        bus.post(new KillEvent().set(1, 3));
+        bus.flush();
+
+        assertEquals(List.of(300), scores, "The score posted by the kill listener should arrive in the same flush.");
+    }
+
+    /**
+     * Tests that unsubscribed listeners no longer receive events and unheard posts are dropped.
+     */
+    @Test
+    void testUnsubscribe() {
+        GameEventBus bus = new GameEventBus();
+        List<Boolean> received = new ArrayList<>();
+        GameEventListener<ShieldToggleEvent> listener = event -> received.add(event.isActive());
+        bus.subscribe(ShieldToggleEvent.class, listener);
+        bus.unsubscribe(ShieldToggleEvent.class, listener);
+
+        bus.post(new ShieldToggleEvent().set(true));
+        bus.flush();
+
+        assertTrue(received.isEmpty(), "Removed listeners should not be called.");
+        assertEquals(0, bus.getPendingCount(), "Events without listeners should not be queued.");
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.projectiles.ProjectilePool;
+import com.example.demo.projectiles.ProjectilePools;
+import com.example.demo.utils.GameRandom;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the removal of destroyed actors in LevelParent.
+ * Checks that the compaction pass keeps the survivors in order, that each layer changes once,
+ * and that destroyed projectiles go back to their pool.
+ */
+public class ActorRemovalTest {
+
+    // Number of actors of each kind and how often one of them is destroyed
+    private static final int ACTOR_COUNT = 12;
+    private static final int DESTROYED_EVERY = 3;
+
+    private SceneLayers layers;
+    private Set<ActiveActorDestructible> removedActors;
+    private int[] changeEvents;
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run; the actors are image views.
+     */
+    @BeforeAll
+    public static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Creates the scene layers and counts the change notifications of the actor layers.
+     */
+    @BeforeEach
+    public void setUp() {
+        layers = new SceneLayers(new Group());
+        removedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+        changeEvents = new int[Layer.values().length];
+        for (Layer layer : List.of(Layer.PLANES, Layer.PROJECTILES)) {
+            layers.get(layer).getChildren().addListener((ListChangeListener<Object>) change -> changeEvents[layer.ordinal()]++);
+        }
+    }
+
+    /**
+     * Test to verify that destroying every n-th actor keeps the survivors in their original order,
+     * in the list and in the scene, with one change notification per layer.
+     */
+    @Test
+    public void testRemovesDestroyedActorsInOrder() {
+        GameRandom random = new GameRandom(1L);
+        List<ActiveActorDestructible> enemies = new ArrayList<>();
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            enemies.add(new EnemyPlane(1000, i * 10, random));
+        }
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            projectiles.add(ProjectilePools.userProjectile(100, i * 10));
+        }
+        List<ActiveActorDestructible> survivingEnemies = destroyEveryNth(enemies);
+        List<ActiveActorDestructible> survivingProjectiles = destroyEveryNth(projectiles);
+        layers.get(Layer.PLANES).getChildren().setAll(enemies);
+        layers.get(Layer.PROJECTILES).getChildren().setAll(projectiles);
+        changeEvents = new int[Layer.values().length]; // Only count the removal
+
+        LevelParent.removeDestroyedActors(enemies, removedActors);
+        LevelParent.removeDestroyedActors(projectiles, removedActors);
+        LevelParent.removeCollectedFromScene(removedActors, layers);
+
+        // Assert the survivors kept their order in the lists and in the layers
+        assertEquals(survivingEnemies, enemies, "Surviving enemies should keep their order.");
+        assertEquals(survivingProjectiles, projectiles, "Surviving projectiles should keep their order.");
+        assertEquals(survivingEnemies, layers.get(Layer.PLANES).getChildren(), "The planes layer should hold the survivors in order.");
+        assertEquals(survivingProjectiles, layers.get(Layer.PROJECTILES).getChildren(), "The projectiles layer should hold the survivors in order.");
+
+        // Assert each layer was changed exactly once and the removal set was emptied
+        assertEquals(1, changeEvents[Layer.PLANES.ordinal()], "The planes layer should change once.");
+        assertEquals(1, changeEvents[Layer.PROJECTILES.ordinal()], "The projectiles layer should change once.");
+        assertTrue(removedActors.isEmpty(), "The removal set should be cleared.");
+    }
+
+    /**
+     * Test to verify that destroyed projectiles are returned to their pool and survivors are not.
+     */
+    @Test
+    public void testReturnsDestroyedProjectilesToPool() {
+        ProjectilePool<?> userPool = ProjectilePools.all().get(0);
+        int inUseBefore = userPool.getInUse();
+        List<ActiveActorDestructible> projectiles = new ArrayList<>();
+        for (int i = 0; i < ACTOR_COUNT; i++) {
+            projectiles.add(ProjectilePools.userProjectile(100, i * 10));
+        }
+        int destroyed = ACTOR_COUNT - destroyEveryNth(projectiles).size();
+        layers.get(Layer.PROJECTILES).getChildren().setAll(projectiles);
+
+        LevelParent.removeDestroyedActors(projectiles, removedActors);
+        LevelParent.removeCollectedFromScene(removedActors, layers);
+
+        assertEquals(inUseBefore + ACTOR_COUNT - destroyed, userPool.getInUse(),
+                "Only the destroyed projectiles should go back to the pool.");
+
+        // Release the survivors so later tests see the pool as it was
+        projectiles.forEach(ActiveActorDestructible::destroy);
+        LevelParent.removeDestroyedActors(projectiles, removedActors);
+        LevelParent.removeCollectedFromScene(removedActors, layers);
+        assertEquals(inUseBefore, userPool.getInUse(), "Every projectile should be back in the pool.");
+    }
+
+    /**
+     * Destroys every n-th actor of a list, starting with the first.
+     *
+     * @param actors The actors.
+     * @return The actors that were not destroyed, in their original order.
+     */
+    private static List<ActiveActorDestructible> destroyEveryNth(List<ActiveActorDestructible> actors) {
+        List<ActiveActorDestructible> survivors = new ArrayList<>();
+        for (int i = 0; i < actors.size(); i++) {
+            if (i % DESTROYED_EVERY == 0) {
+                actors.get(i).destroy();
+            } else {
+                survivors.add(actors.get(i));
+            }
+        }
+        return survivors;
+    }
+}
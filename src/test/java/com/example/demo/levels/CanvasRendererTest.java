@@ -0,0 +1,92 @@
+package com.example.demo.levels;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.UserPlane;
+import com.example.demo.levels.SceneLayers.Layer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the canvas render backend.
+ * Verifies that a canvas level keeps its actors out of the scene graph and that the
+ * CanvasRenderer draws exactly the visible actors.
+ */
+public class CanvasRendererTest extends ApplicationTest {
+
+    private LevelBoss levelBoss;
+
+    @Override
+    public void start(Stage stage) {
+        // The boss level opts into the canvas backend
+        levelBoss = new LevelBoss(600, 800, stage);
+    }
+
+    /**
+     * Tests that the actors of a canvas level are not added as nodes; the canvas is the only one.
+     */
+    @Test
+    public void testCanvasLevelAddsNoActorNodes() {
+        interact(() -> {
+            levelBoss.initializeFriendlyUnits();
+            levelBoss.spawnEnemyUnits();
+        });
+
+        assertEquals(RenderBackend.CANVAS, levelBoss.getRenderBackend(), "The boss level should draw onto a canvas.");
+        List<?> planes = levelBoss.getLayer(Layer.PLANES).getChildren();
+        assertEquals(1, planes.size(), "Only the canvas should be in the planes layer.");
+        assertInstanceOf(Canvas.class, planes.get(0), "The planes layer should hold the canvas.");
+        assertTrue(levelBoss.getLayer(Layer.PROJECTILES).getChildren().isEmpty(), "No projectile nodes should be added.");
+    }
+
+    /**
+     * Tests that the renderer draws visible actors and skips hidden ones.
+     */
+    @Test
+    public void testDrawsVisibleActors() {
+        CanvasRenderer renderer = new CanvasRenderer(800, 600);
+        UserPlane visible = new UserPlane(5);
+        UserPlane hidden = new UserPlane(5);
+        hidden.setTranslateY(-250); // Keep the hidden plane clear of the visible one
+        hidden.setVisible(false);
+
+        WritableImage[] frame = new WritableImage[1];
+        interact(() -> {
+            renderer.beginFrame();
+            renderer.draw(List.of(visible, hidden));
+            frame[0] = renderer.getCanvas().snapshot(null, null);
+        });
+
+        assertTrue(hasPaint(frame[0], visible), "The visible plane should be drawn.");
+        assertFalse(hasPaint(frame[0], hidden), "The hidden plane should not be drawn.");
+    }
+
+    /**
+     * Checks whether anything was drawn where an actor is rendered.
+     *
+     * @param frame The drawn frame.
+     * @param actor The actor.
+     * @return True if a pixel within the actor's rendered bounds differs from the white snapshot fill.
+     */
+    private static boolean hasPaint(WritableImage frame, ActiveActor actor) {
+        PixelReader pixels = frame.getPixelReader();
+        int minX = (int) Math.max(0, actor.getRenderX());
+        int minY = (int) Math.max(0, actor.getRenderY());
+        int maxX = (int) Math.min(frame.getWidth(), actor.getRenderX() + actor.getRenderWidth());
+        int maxY = (int) Math.min(frame.getHeight(), actor.getRenderY() + actor.getRenderHeight());
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                if (!Color.WHITE.equals(pixels.getColor(x, y))) return true;
+            }
+        }
+        return false;
+    }
+}
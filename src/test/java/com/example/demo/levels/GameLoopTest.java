@@ -0,0 +1,165 @@
+package com.example.demo.levels;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GameLoop class.
+ * Feeds elapsed times straight into advance, so the fixed-step arithmetic is checked
+ * without waiting for real frames.
+ */
+public class GameLoopTest {
+
+    // Length of one simulation step and the catch-up cap used by the tests
+    private static final long STEP_MILLIS = 10;
+    private static final long STEP_NANOS = STEP_MILLIS * 1_000_000L;
+    private static final int MAX_STEPS = 3;
+
+    private int steps;
+    private List<Double> alphas;
+    private GameLoop loop;
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run; the loop's timer needs it.
+     */
+    @BeforeAll
+    public static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Creates a loop that counts its steps and records every interpolation factor.
+     */
+    @BeforeEach
+    public void setUp() {
+        steps = 0;
+        alphas = new ArrayList<>();
+        loop = new GameLoop(STEP_MILLIS, MAX_STEPS, () -> steps++, alphas::add);
+    }
+
+    /**
+     * Tests that the loop runs one step per full step length and keeps the remainder for the next frame.
+     */
+    @Test
+    public void testRunsOneStepPerStepLength() throws Exception {
+        int[] ran = new int[2];
+        whileRunning(() -> {
+            ran[0] = loop.advance(25_000_000L);
+            ran[1] = loop.advance(5_000_000L);
+        });
+
+        assertEquals(2, ran[0], "25 ms should run two 10 ms steps.");
+        assertEquals(1, ran[1], "The 5 ms remainder plus 5 ms should run one more step.");
+        assertEquals(3, loop.getTotalSteps(), "The total should count every step.");
+        assertEquals(3, steps, "The step action should run once per step.");
+        assertEquals(0, loop.getDroppedNanos(), "No time should be dropped while the loop keeps up.");
+    }
+
+    /**
+     * Tests that the render callback receives the leftover fraction of a step.
+     */
+    @Test
+    public void testRendersWithInterpolationAlpha() throws Exception {
+        whileRunning(() -> {
+            loop.advance(25_000_000L);
+            loop.advance(2_500_000L);
+            loop.advance(2_500_000L);
+        });
+
+        assertEquals(List.of(0.5, 0.75, 0.0), alphas, "Alpha should be the unconsumed fraction of a step.");
+    }
+
+    /**
+     * Tests that a long frame runs at most the capped number of steps and drops the whole-step backlog.
+     */
+    @Test
+    public void testCapsStepsAndDropsBacklog() throws Exception {
+        int[] ran = new int[1];
+        whileRunning(() -> ran[0] = loop.advance(105_000_000L));
+
+        assertEquals(MAX_STEPS, ran[0], "A long frame should run no more than the step cap.");
+        assertEquals(70_000_000L, loop.getDroppedNanos(), "The whole steps beyond the cap should be dropped.");
+        assertEquals(List.of(0.5), alphas, "The partial step should be kept for interpolation.");
+    }
+
+    /**
+     * Tests that a time scale speeds up simulated time and raises the step cap with it.
+     */
+    @Test
+    public void testTimeScaleSpeedsUpSimulation() throws Exception {
+        int[] ran = new int[1];
+        whileRunning(() -> {
+            loop.setTimeScale(2.0);
+            ran[0] = loop.advance(25_000_000L);
+        });
+
+        assertEquals(5, ran[0], "25 ms at double speed should run five steps.");
+        assertEquals(0, loop.getDroppedNanos(), "The raised cap should let a faster clock keep up.");
+        assertEquals(2.0, loop.getTimeScale(), "The time scale should be kept.");
+        assertThrows(IllegalArgumentException.class, () -> loop.setTimeScale(0), "A zero time scale should be rejected.");
+    }
+
+    /**
+     * Tests that a stopped loop neither steps nor renders, and that negative frame times are ignored.
+     */
+    @Test
+    public void testIgnoresStoppedLoopAndNegativeTime() throws Exception {
+        assertEquals(0, loop.advance(STEP_NANOS * 2), "A stopped loop should not step.");
+        assertTrue(alphas.isEmpty(), "A stopped loop should not render.");
+
+        int[] ran = new int[1];
+        whileRunning(() -> ran[0] = loop.advance(-STEP_NANOS));
+
+        assertEquals(0, ran[0], "A negative frame time should not run steps.");
+        assertEquals(List.of(0.0), alphas, "A negative frame time should not add to the accumulator.");
+    }
+
+    /**
+     * Tests that the constructor rejects a step length or step cap that is not positive.
+     */
+    @Test
+    public void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(0, () -> {}, alpha -> {}));
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(STEP_MILLIS, 0, () -> {}, alpha -> {}));
+    }
+
+    /**
+     * Starts the loop, runs an action and stops the loop again, all in one turn of the JavaFX thread,
+     * so no real timer pulse can advance the loop in between.
+     *
+     * @param action The action to run while the loop is running.
+     */
+    private void whileRunning(Runnable action) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                loop.start();
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                loop.stop();
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The JavaFX thread did not respond.");
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.levels;
+
+import com.example.demo.listeners.EventListener;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the level lifecycle.
+ * Verifies that dispose() releases a level and that levels played one after another through the
+ * LevelManager are garbage collected instead of piling up on the heap.
+ */
+public class LevelLifecycleTest extends ApplicationTest {
+
+    // Number of times the whole campaign is played through
+    private static final int CAMPAIGN_CYCLES = 200;
+
+    // How much the used heap may grow between the first and the last cycle
+    private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+    // How long the assets of a level may take to load
+    private static final long ASSET_TIMEOUT_SECONDS = 30;
+
+    private LevelManager levelManager;
+
+    @Override
+    public void start(Stage stage) {
+        levelManager = new LevelManager(stage);
+        levelManager.setEventListener(new EventListener(levelManager));
+    }
+
+    /**
+     * Loads the assets of every level, so each transition starts its level right away.
+     */
+    @BeforeEach
+    public void loadCampaignAssets() throws InterruptedException {
+        for (LevelDefinition level : levelManager.getRegistry().walk()) {
+            CountDownLatch loaded = new CountDownLatch(1);
+            levelManager.prefetch(level.id()).whenLoaded(loaded::countDown);
+            assertTrue(loaded.await(ASSET_TIMEOUT_SECONDS, TimeUnit.SECONDS), "Assets of " + level.id() + " did not load.");
+        }
+    }
+
+    /**
+     * Tests that a disposed level is emptied, deaf to events and cannot be started again.
+     */
+    @Test
+    public void testDisposeReleasesLevel() {
+        LevelParent[] level = new LevelParent[1];
+        interact(() -> {
+            goToLevel(levelManager.getRegistry().getStartLevel().id());
+            level[0] = levelManager.getCurrentLevel();
+            levelManager.disposeCurrentLevel();
+            level[0].dispose(); // A second call should do nothing
+        });
+
+        assertNull(levelManager.getCurrentLevel(), "The manager should forget the disposed level.");
+        assertTrue(level[0].isDisposed(), "The level should report that it is disposed.");
+        assertTrue(level[0].getRoot().getChildren().isEmpty(), "The scene graph should be emptied.");
+        assertEquals(0, level[0].getCurrentNumberOfEnemies(), "No enemies should be kept.");
+        assertThrows(IllegalStateException.class, () -> level[0].startGame(),
+                "A disposed level should not start again.");
+    }
+
+    /**
+     * Tests that a level moves on to the level that follows it in the registry.
+     */
+    @Test
+    public void testNextLevelComesFromRegistry() {
+        LevelDefinition start = levelManager.getRegistry().getStartLevel();
+        interact(() -> {
+            goToLevel(start.id());
+            levelManager.getCurrentLevel().goToNextLevel();
+        });
+
+        assertEquals(start.nextLevels().get(0), levelManager.getCurrentLevel().getClass().getName(),
+                "The level declared next in the registry should start.");
+        interact(() -> levelManager.disposeCurrentLevel());
+    }
+
+    /**
+     * Tests that playing every level of the campaign in a loop through the LevelManager, which
+     * disposes each level when the next one takes the stage, leaves no level reachable and does
+     * not grow the heap.
+     */
+    @Test
+    public void testDisposedLevelsAreCollected() throws InterruptedException {
+        List<LevelDefinition> campaign = levelManager.getRegistry().walk();
+        List<WeakReference<LevelParent>> playedLevels = new ArrayList<>();
+        long heapAfterFirstCycle = 0;
+
+        for (int cycle = 0; cycle < CAMPAIGN_CYCLES; cycle++) {
+            for (LevelDefinition definition : campaign) {
+                interact(() -> {
+                    LevelParent previous = levelManager.getCurrentLevel();
+                    goToLevel(definition.id());
+                    if (previous != null) {
+                        assertTrue(previous.isDisposed(), "The manager should dispose the level it replaces.");
+                        playedLevels.add(new WeakReference<>(previous));
+                    }
+                });
+            }
+            if (cycle == 0) {
+                heapAfterFirstCycle = usedHeapAfterGc();
+            }
+        }
+        long heapAfterLastCycle = usedHeapAfterGc();
+
+        // Give the collector a few chances to clear every reference
+        long reachable = countReachable(playedLevels);
+        for (int attempt = 0; attempt < 10 && reachable > 0; attempt++) {
+            usedHeapAfterGc();
+            reachable = countReachable(playedLevels);
+        }
+
+        assertEquals(0, reachable, "Every disposed level should be garbage collected.");
+        long growth = heapAfterLastCycle - heapAfterFirstCycle;
+        assertTrue(growth < MAX_HEAP_GROWTH,
+                "The heap should not grow with the number of levels played, but grew by " + growth + " bytes.");
+
+        interact(() -> levelManager.disposeCurrentLevel());
+    }
+
+    /**
+     * Transitions to a level through the LevelManager, failing the test if that fails.
+     *
+     * @param levelId Id of the level.
+     */
+    private void goToLevel(String levelId) {
+        try {
+            levelManager.goToLevel(levelId);
+        } catch (Exception e) {
+            fail("Could not start " + levelId, e);
+        }
+        assertEquals(levelId, levelManager.getCurrentLevel().getClass().getName(), "The level should start right away.");
+    }
+
+    /**
+     * Counts the levels that are still reachable.
+     *
+     * @param levels Weak references to the levels.
+     * @return The number of references that have not been cleared.
+     */
+    private static long countReachable(List<WeakReference<LevelParent>> levels) {
+        return levels.stream().filter(reference -> reference.get() != null).count();
+    }
+
+    /**
+     * Requests garbage collection and measures the used heap afterwards.
+     *
+     * @return The used heap in bytes.
+     */
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50); // Let reference processing finish
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -3,7 +3,11 @@ package com.example.demo.levels;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import org.testfx.framework.junit5.ApplicationTest;
+import com.example.demo.levels.SceneLayers.Layer;
+import com.example.demo.projectiles.ProjectilePool;
+import com.example.demo.projectiles.ProjectilePools;
 import com.example.demo.ui.GameOverImage;
+import javafx.scene.Node;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -32,8 +36,8 @@ public class LevelOneTest extends ApplicationTest {
         // Assert the user plane is not null
         assertNotNull(levelOne.getUser(), "User plane should be initialized.");
         
-        // Assert the user plane is part of the root scene graph
-        assertTrue(levelOne.getRoot().getChildren().contains(levelOne.getUser()),
+        // Assert the user plane is part of the planes layer of the scene graph
+        assertTrue(levelOne.getLayer(Layer.PLANES).getChildren().contains(levelOne.getUser()),
                 "User plane should be added to the scene graph.");
     }
 
@@ -72,7 +76,7 @@ public class LevelOneTest extends ApplicationTest {
         levelOne.checkIfGameOver();
 
         // Step 4: Check if the "Game Over" image is added to the scene
-        boolean gameOverImagePresent = levelOne.getRoot().getChildren().stream()
+        boolean gameOverImagePresent = levelOne.getLayer(Layer.HUD).getChildren().stream()
                 .anyMatch(node -> node instanceof GameOverImage);
 
         // Step 5: Assert that the "Game Over" image is displayed in the scene
@@ -116,6 +120,28 @@ public class LevelOneTest extends ApplicationTest {
 
     
 
+    /**
+     * Test to verify that the dirty node count of a frame only includes the actors that moved.
+     */
+    @Test
+    public void testDirtyNodesCountMovingActors() {
+        interact(() -> {
+            levelOne.renderFrame(1.0); // First frame places every actor
+            levelOne.renderFrame(1.0);
+        });
+        assertEquals(0, levelOne.getMetrics().getDirtyNodesLastFrame(),
+                "A frame in which nothing moved should mark no nodes dirty.");
+
+        interact(() -> {
+            levelOne.getUser().beginStep();
+            levelOne.getUser().moveUp();
+            levelOne.getUser().updatePosition();
+            levelOne.renderFrame(0.5);
+        });
+        assertEquals(1, levelOne.getMetrics().getDirtyNodesLastFrame(),
+                "Only the moving user plane should be marked dirty.");
+    }
+
     /**
      * Test to verify enemy spawning limits are respected over multiple updates.
      */
@@ -129,4 +155,48 @@ public class LevelOneTest extends ApplicationTest {
         assertTrue(levelOne.getCurrentNumberOfEnemies() <= 5, 
                 "Enemy count should not exceed the maximum limit of 5.");
     }
+
+    /**
+     * Test to verify that a projectile beyond the culling margin is destroyed, removed from the scene,
+     * returned to its pool and counted, while a projectile inside the margin survives.
+     */
+    @Test
+    public void testCullsProjectilesBeyondMargin() {
+        double margin = 50;
+        levelOne.setCullingMargin(margin);
+        ProjectilePool<?> userPool = ProjectilePools.all().get(0);
+        Node[] projectiles = new Node[2];
+        int inUseBefore = userPool.getInUse();
+
+        interact(() -> {
+            levelOne.fireProjectile();
+            levelOne.fireProjectile();
+            var fired = levelOne.getLayer(Layer.PROJECTILES).getChildren();
+            projectiles[0] = fired.get(fired.size() - 2);
+            projectiles[1] = fired.get(fired.size() - 1);
+
+            // Push one projectile just past the right-hand margin and keep the other just inside it
+            projectiles[0].setTranslateX(800 + margin + 10 - projectiles[0].getLayoutX());
+            projectiles[1].setTranslateX(800 + margin - 10 - projectiles[1].getLayoutX());
+
+            levelOne.cullOffscreenProjectiles();
+            levelOne.removeAllDestroyedActors();
+        });
+
+        var remaining = levelOne.getLayer(Layer.PROJECTILES).getChildren();
+        assertFalse(remaining.contains(projectiles[0]), "A projectile beyond the margin should leave the scene.");
+        assertTrue(remaining.contains(projectiles[1]), "A projectile inside the margin should stay in the scene.");
+        assertEquals(inUseBefore + 1, userPool.getInUse(), "The culled projectile should return to its pool.");
+        assertEquals(1, levelOne.getMetrics().getCulledLastStep(), "One projectile should be counted as culled.");
+        assertEquals(1, levelOne.getMetrics().getCulledUserProjectiles(), "The culled projectile was the player's.");
+    }
+
+    /**
+     * Test to verify that a negative culling margin is rejected.
+     */
+    @Test
+    public void testNegativeCullingMarginThrows() {
+        assertThrows(IllegalArgumentException.class, () -> levelOne.setCullingMargin(-1),
+                "A negative culling margin should be rejected.");
+    }
 }
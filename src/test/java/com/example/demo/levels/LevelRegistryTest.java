@@ -0,0 +1,48 @@
+package com.example.demo.levels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LevelRegistry.
+ * Checks level discovery, the level graph and validation without creating any level.
+ */
+public class LevelRegistryTest {
+
+    /**
+     * Test to verify that the built-in levels are discovered and form the campaign in order.
+     */
+    @Test
+    public void testDefaultLevelsFormCampaign() {
+        LevelRegistry registry = LevelRegistry.load();
+
+        List<String> campaign = registry.walk().stream().map(LevelDefinition::id).toList();
+
+        // Assert the campaign starts with LevelOne and ends with the boss
+        assertEquals(List.of(LevelOne.class.getName(), LevelTwo.class.getName(), LevelBoss.class.getName()), campaign,
+                "The level graph should lead from LevelOne through LevelTwo to LevelBoss.");
+        assertTrue(registry.get(LevelBoss.class.getName()).isFinal(), "The boss level should end the game.");
+        assertEquals(LevelTwo.class, registry.getNextLevels(LevelOne.class.getName()).get(0).type(),
+                "LevelOne should lead to LevelTwo.");
+    }
+
+    /**
+     * Test to verify that unknown ids, duplicate levels and dangling transitions are rejected.
+     */
+    @Test
+    public void testInvalidRegistrationsAreRejected() {
+        LevelRegistry registry = new LevelRegistry();
+        registry.register(LevelOne.class, LevelOne::new, LevelTwo.class);
+
+        // Assert the registry reports every kind of mistake
+        assertThrows(IllegalArgumentException.class, () -> registry.get("com.example.demo.levels.LevelThree"),
+                "Looking up an unregistered level should fail.");
+        assertThrows(IllegalArgumentException.class, () -> registry.register(LevelOne.class, LevelOne::new),
+                "Registering a level twice should fail.");
+        assertThrows(IllegalStateException.class, registry::validate,
+                "A transition to an unregistered level should fail validation.");
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.levels;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import org.testfx.framework.junit5.ApplicationTest;
+import com.example.demo.levels.SceneLayers.Layer;
 import com.example.demo.ui.GameOverImage;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,8 +36,8 @@ public class LevelTwoTest extends ApplicationTest {
         // Assert the user plane is not null
         assertNotNull(levelTwo.getUser(), "User plane should be initialized.");
         
-        // Assert the user plane is part of the root scene graph
-        assertTrue(levelTwo.getRoot().getChildren().contains(levelTwo.getUser()),
+        // Assert the user plane is part of the planes layer of the scene graph
+        assertTrue(levelTwo.getLayer(Layer.PLANES).getChildren().contains(levelTwo.getUser()),
                 "User plane should be added to the scene graph.");
     }
 
@@ -75,7 +76,7 @@ public class LevelTwoTest extends ApplicationTest {
         levelTwo.checkIfGameOver();
 
         // Step 4: Check if the "Game Over" image is added to the scene
-        boolean gameOverImagePresent = levelTwo.getRoot().getChildren().stream()
+        boolean gameOverImagePresent = levelTwo.getLayer(Layer.HUD).getChildren().stream()
                 .anyMatch(node -> node instanceof GameOverImage);
 
         // Step 5: Assert that the "Game Over" image is displayed in the scene
@@ -0,0 +1,86 @@
+package com.example.demo.projectiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the ProjectilePool class.
+ * Verifies reuse of recycled projectiles, the growth policies and the pool statistics.
+ */
+class ProjectilePoolTest {
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run.
+     * Projectiles are ImageViews and need the toolkit to load their images.
+     */
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            javafx.application.Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Tests that a recycled projectile is reused and reset to its new position.
+     */
+    @Test
+    void testRecycledProjectileIsReused() {
+        ProjectilePool<EnemyProjectile> pool = new ProjectilePool<>(
+                "test", EnemyProjectile::new, 4, ProjectilePool.GrowthPolicy.FIXED);
+
+        EnemyProjectile first = pool.acquire(100, 200);
+        first.updateActor();
+        first.destroy();
+        first.recycle();
+        EnemyProjectile second = pool.acquire(300, 400);
+
+        assertSame(first, second, "The recycled projectile should be handed out again.");
+        assertFalse(second.isDestroyed(), "A reused projectile should not be destroyed.");
+        assertEquals(300, second.getLayoutX(), "A reused projectile should move to its new X position.");
+        assertEquals(0, second.getTranslateX(), "A reused projectile should not keep its old movement.");
+        assertEquals(1, pool.getHits(), "Reusing a projectile should count as a hit.");
+        assertEquals(1, pool.getMisses(), "Creating the first projectile should count as a miss.");
+    }
+
+    /**
+     * Tests that recycling the same projectile twice only returns it to the pool once.
+     */
+    @Test
+    void testDoubleRecycleIsIgnored() {
+        ProjectilePool<EnemyProjectile> pool = new ProjectilePool<>(
+                "test", EnemyProjectile::new, 4, ProjectilePool.GrowthPolicy.FIXED);
+
+        EnemyProjectile projectile = pool.acquire(0, 0);
+        projectile.recycle();
+        projectile.recycle();
+
+        assertEquals(1, pool.getIdleCount(), "A projectile should only be pooled once.");
+    }
+
+    /**
+     * Tests that a fixed pool discards projectiles beyond its capacity while a growing pool keeps them.
+     */
+    @Test
+    void testGrowthPolicies() {
+        ProjectilePool<EnemyProjectile> fixed = new ProjectilePool<>(
+                "fixed", EnemyProjectile::new, 1, ProjectilePool.GrowthPolicy.FIXED);
+        ProjectilePool<EnemyProjectile> growing = new ProjectilePool<>(
+                "growing", EnemyProjectile::new, 1, ProjectilePool.GrowthPolicy.GROW);
+
+        for (ProjectilePool<EnemyProjectile> pool : java.util.List.of(fixed, growing)) {
+            EnemyProjectile a = pool.acquire(0, 0);
+            EnemyProjectile b = pool.acquire(0, 0);
+            a.recycle();
+            b.recycle();
+            assertEquals(2, pool.getPeakInUse(), "Peak usage should count both projectiles.");
+        }
+
+        assertEquals(1, fixed.getIdleCount(), "A fixed pool should keep at most its capacity.");
+        assertEquals(1, fixed.getDiscarded(), "A fixed pool should discard the extra projectile.");
+        assertEquals(2, growing.getIdleCount(), "A growing pool should keep every projectile.");
+        assertEquals(2, growing.getCapacity(), "A growing pool should raise its capacity.");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InputRecorder and InputReplay.
+ * Verifies that recordings round-trip and are handed out per level and per step.
+ */
+class InputReplayTest {
+
+    /**
+     * Tests that a recording of two levels is read back with its seed, inputs and step counts.
+     */
+    @Test
+    void testRecordingRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputRecorder recorder = new InputRecorder(bytes, -123456789L)) {
+            recorder.beginLevel("LevelOne");
+            recorder.record(0, InputAction.FIRE);
+            recorder.record(3, InputAction.UP);
+            recorder.record(3, InputAction.FIRE);
+            recorder.record(400, InputAction.STOP);
+            recorder.endLevel(1_000);
+            recorder.beginLevel("LevelTwo");
+            recorder.record(5, InputAction.DOWN);
+        }
+
+        InputReplay replay = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(-123456789L, replay.getGameSeed(), "The game seed should be preserved.");
+        assertEquals(2, replay.getLevelCount(), "Both levels should be recorded.");
+
+        LevelReplay first = replay.nextLevel("LevelOne");
+        assertEquals(4, first.getInputCount(), "Every input of the first level should be recorded.");
+        assertEquals(1_000, first.getTickCount(), "The step count of the first level should be preserved.");
+        assertEquals(List.of(InputAction.FIRE), inputsAt(first, 0), "Step 0 should fire.");
+        assertEquals(List.of(), inputsAt(first, 1), "Step 1 should have no input.");
+        assertEquals(List.of(InputAction.UP, InputAction.FIRE), inputsAt(first, 3),
+                "Inputs of one step should keep their order.");
+        assertFalse(first.isFinished(500), "The level should run until its recorded end.");
+        assertEquals(List.of(InputAction.STOP), inputsAt(first, 400), "Step 400 should stop.");
+        assertTrue(first.isFinished(1_000), "The level should finish at its recorded end.");
+
+        LevelReplay second = replay.nextLevel("LevelTwo");
+        assertEquals(5, second.getTickCount(), "A level closed by the recorder should end at its last input.");
+        assertNull(replay.nextLevel("LevelBoss"), "No levels should remain.");
+    }
+
+    /**
+     * Tests that a replay refuses to feed a different level than the one recorded.
+     */
+    @Test
+    void testLevelMismatchIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputRecorder recorder = new InputRecorder(bytes, 1L)) {
+            recorder.beginLevel("LevelOne");
+        }
+
+        InputReplay replay = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThrows(IllegalStateException.class, () -> replay.nextLevel("LevelTwo"),
+                "A replay should not drive a level it was not recorded for.");
+    }
+
+    /**
+     * Tests that files that are not recordings are rejected.
+     */
+    @Test
+    void testInvalidFileIsRejected() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+        assertThrows(IOException.class, () -> InputReplay.read(new ByteArrayInputStream(garbage)),
+                "Reading a file without the recording header should fail.");
+    }
+
+    /**
+     * Collects the inputs a level replay hands out for a step.
+     *
+     * @param level The level replay.
+     * @param tick  The step.
+     * @return The inputs in order.
+     */
+    private static List<InputAction> inputsAt(LevelReplay level, long tick) {
+        List<InputAction> inputs = new ArrayList<>();
+        level.forEachInputAt(tick, inputs::add);
+        return inputs;
+    }
+}
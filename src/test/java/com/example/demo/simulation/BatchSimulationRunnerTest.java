@@ -0,0 +1,59 @@
+package com.example.demo.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BatchSimulationRunner.
+ * Checks that batches are reproducible and independent of the number of worker threads.
+ */
+public class BatchSimulationRunnerTest {
+
+    /**
+     * Test to verify that a batch produces the same statistics on one thread and on several.
+     */
+    @Test
+    public void testResultsDoNotDependOnThreadCount() {
+        BatchSimulationRunner runner = new BatchSimulationRunner(LevelRules.LEVEL_ONE, TrackingBot::new, 7L, 5_000);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            BatchStatistics first = runner.run(200, single);
+            BatchStatistics second = runner.run(200, several);
+
+            // Assert every game was played and both batches agree
+            assertEquals(200, first.getGames(), "Every game of the batch should be played.");
+            assertEquals(first.getWon(), second.getWon(), "Win counts should not depend on threads.");
+            assertEquals(first.getLost(), second.getLost(), "Loss counts should not depend on threads.");
+            assertEquals(first.getTotalTicks(), second.getTotalTicks(), "Step totals should not depend on threads.");
+            assertEquals(first.getMeanDamage(), second.getMeanDamage(), "Damage should not depend on threads.");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * Test to verify that merging statistics adds up their games.
+     */
+    @Test
+    public void testMergeAddsGames() {
+        BatchStatistics first = new BatchStatistics();
+        first.add(new GameResult(GameOutcome.WON, 100, 1, 10));
+        BatchStatistics second = new BatchStatistics();
+        second.add(new GameResult(GameOutcome.LOST, 50, 5, 2));
+        second.add(new GameResult(GameOutcome.RUNNING, 300, 0, 4));
+
+        first.merge(second);
+
+        // Assert counts, rates and the clear-time histogram were combined
+        assertEquals(3, first.getGames(), "All games should be counted.");
+        assertEquals(1, first.getTimedOut(), "Games hitting the step limit should count as timed out.");
+        assertEquals(1.0 / 3, first.getWinRate(), 1e-9, "The win rate should cover all games.");
+        assertEquals(2.0, first.getMeanDamage(), 1e-9, "Damage should be averaged over all games.");
+        assertEquals(1, first.getTicksToClear().getCount(), "Only won games should be in the clear times.");
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.simulation;
+
+import com.example.demo.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the headless World simulation.
+ * Runs without the JavaFX toolkit and checks determinism, input handling and level outcomes.
+ */
+public class WorldTest {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+
+    /**
+     * Test to verify that two worlds with the same seed and input produce the same state.
+     */
+    @Test
+    public void testSameSeedIsDeterministic() {
+        World first = new World(LevelRules.LEVEL_ONE, SCREEN_WIDTH, SCREEN_HEIGHT, 42L);
+        World second = new World(LevelRules.LEVEL_ONE, SCREEN_WIDTH, SCREEN_HEIGHT, 42L);
+        TickInput input = new TickInput();
+
+        for (int tick = 0; tick < 2000; tick++) {
+            input.set(false, false, tick % 10 == 0);
+            first.step(input);
+            second.step(input);
+        }
+
+        // Assert both runs ended in the same state
+        assertEquals(first.getScore(), second.getScore(), "Scores should match for the same seed.");
+        assertEquals(first.getDamageTaken(), second.getDamageTaken(), "Damage should match for the same seed.");
+        assertEquals(first.getEnemyUnits().size(), second.getEnemyUnits().size(),
+                "Enemy counts should match for the same seed.");
+        assertEquals(first.getOutcome(), second.getOutcome(), "Outcomes should match for the same seed.");
+    }
+
+    /**
+     * Test to verify that the user plane stays within the vertical bounds of the level.
+     */
+    @Test
+    public void testUserStaysWithinBounds() {
+        World world = new World(LevelRules.LEVEL_ONE, SCREEN_WIDTH, SCREEN_HEIGHT, 1L);
+        TickInput input = new TickInput().set(true, false, false);
+
+        for (int tick = 0; tick < 500 && world.getOutcome() == GameOutcome.RUNNING; tick++) {
+            world.step(input);
+        }
+        double topOfUser = world.getUser().getY();
+
+        // Assert the user plane did not move above the top of the screen
+        assertTrue(topOfUser >= -40, "User plane should not leave the top of the screen.");
+    }
+
+    /**
+     * Test to verify that firing adds a user projectile to the world.
+     */
+    @Test
+    public void testFiringSpawnsProjectile() {
+        World world = new World(LevelRules.LEVEL_ONE, SCREEN_WIDTH, SCREEN_HEIGHT, 7L);
+
+        world.step(new TickInput().set(false, false, true));
+
+        // Assert a single projectile was fired
+        assertEquals(1, world.getUserProjectiles().size(), "Firing should create one user projectile.");
+    }
+
+    /**
+     * Test to verify that an idle player eventually loses the boss level.
+     */
+    @Test
+    public void testIdlePlayerLosesBossLevel() {
+        World world = new World(LevelRules.LEVEL_BOSS, SCREEN_WIDTH, SCREEN_HEIGHT, 3L);
+        TickInput idle = new TickInput();
+
+        while (world.getOutcome() == GameOutcome.RUNNING && world.getTick() < 100_000) {
+            world.step(idle);
+        }
+
+        // Assert the boss won and the player lost all health
+        assertEquals(GameOutcome.LOST, world.getOutcome(), "An idle player should lose the boss level.");
+        assertEquals(0, world.getUser().getHealth(), "User health should be depleted.");
+    }
+
+    /**
+     * Test to verify that hitboxes touching along an edge collide, as the JavaFX actors' bounds do.
+     */
+    @Test
+    public void testTouchingHitboxesIntersect() {
+        double width = EntityKind.ENEMY_PLANE.getWidth();
+        Entity first = new Entity(EntityKind.ENEMY_PLANE, 100, 100, 1);
+        Entity touching = new Entity(EntityKind.ENEMY_PLANE, 100 + width, 100, 1);
+        Entity apart = new Entity(EntityKind.ENEMY_PLANE, 100 + width + 1, 100, 1);
+
+        assertTrue(first.intersects(touching), "Hitboxes sharing an edge should intersect.");
+        assertTrue(touching.intersects(first), "The overlap test should be symmetric.");
+        assertFalse(first.intersects(apart), "Hitboxes with a gap should not intersect.");
+    }
+
+    /**
+     * Test to verify that the shared spawn rule fills free slots only, drawing one chance per slot.
+     */
+    @Test
+    public void testSpawnRuleFillsFreeSlots() {
+        LevelRules alwaysSpawn = new LevelRules("Test", 4, 1.0, 1, 1, false);
+        List<Double> spawned = new ArrayList<>();
+
+        alwaysSpawn.spawnEnemies(1, new GameRandom(5L), 300, spawned::add);
+
+        // Assert an enemy appeared in each of the three free slots, within the allowed range
+        assertEquals(3, spawned.size(), "Every free slot should be filled.");
+        for (double y : spawned) {
+            assertTrue(y >= 0 && y < 300, "Enemies should spawn within the allowed range.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.ui;
 
+import com.example.demo.audio.MusicService;
 import com.example.demo.controller.HowToPlayWindow;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.AfterEach;
@@ -10,6 +11,7 @@ import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.ApplicationTest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 
@@ -98,9 +100,13 @@ public class MainMenuTest extends ApplicationTest {
         // Simulate clicking the START button
         robot.clickOn("START");
 
-        // Verify that background music is stopped
-        assertNotNull(mainMenu.getBackgroundMusicPlayer(), "Background music player should not be null.");
-        assertNotNull(mainMenu.getBackgroundMusicPlayer().getStatus(), "Background music should stop.");
+        // Verify that the menu music played, unless music is muted (as in headless test runs)
+        boolean muted = MusicService.getShared().isMuted();
+        assertEquals(muted, mainMenu.getBackgroundMusicPlayer() == null,
+                "Background music player should exist unless music is muted.");
+        if (!muted) {
+            assertNotNull(mainMenu.getBackgroundMusicPlayer().getStatus(), "Background music should stop.");
+        }
     }
 
     /**
@@ -0,0 +1,59 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AssetLoader.
+ * Uses resources that do not exist, so no image is decoded and no JavaFX toolkit is needed.
+ */
+class AssetLoaderTest {
+
+    /**
+     * Tests that a load completes and reports progress even when its assets cannot be found.
+     */
+    @Test
+    void testMissingAssetsCompleteTheLoad() throws InterruptedException {
+        AssetLoader loader = new AssetLoader(new ImageCache(), new MediaCache(), 2);
+        AssetManifest manifest = AssetManifest.builder()
+                .image(ImageAsset.of("/missing/background.jpg"))
+                .image(ImageAsset.scaledToHeight("/missing/plane.png", 150))
+                .media("/missing/music.wav")
+                .build();
+
+        AssetLoad load = loader.load(manifest);
+        List<Double> progress = new CopyOnWriteArrayList<>();
+        load.onProgress(progress::add);
+        CountDownLatch loaded = new CountDownLatch(1);
+        load.whenLoaded(loaded::countDown);
+
+        assertTrue(loaded.await(5, TimeUnit.SECONDS), "The load should complete.");
+        assertEquals(3, load.getFailedCount(), "Every missing asset should be counted as failed.");
+        assertEquals(1.0, load.getProgress(), "A complete load should report full progress.");
+        assertEquals(1.0, progress.get(progress.size() - 1).doubleValue(), "Listeners should see the load complete.");
+    }
+
+    /**
+     * Tests that a manifest is loaded once and that duplicates and empty manifests are handled.
+     */
+    @Test
+    void testManifestIsLoadedOnce() {
+        AssetLoader loader = new AssetLoader(new ImageCache(), new MediaCache(), 1);
+        AssetManifest manifest = AssetManifest.builder()
+                .media("/missing/music.wav")
+                .media("/missing/music.wav")
+                .build();
+
+        assertEquals(1, manifest.size(), "Duplicate assets should be listed once.");
+        assertSame(loader.load(manifest), loader.load(AssetManifest.builder().include(manifest).build()),
+                "Loading an equal manifest again should return the same load.");
+        assertTrue(loader.load(AssetManifest.EMPTY).isDone(), "An empty manifest should be loaded at once.");
+    }
+}
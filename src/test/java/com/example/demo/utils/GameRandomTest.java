@@ -0,0 +1,90 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the GameRandom class.
+ * Verifies that sequences and shuffles are reproducible from the seed.
+ */
+class GameRandomTest {
+
+    /**
+     * Tests that two generators with the same seed produce the same values.
+     */
+    @Test
+    void testSameSeedProducesSameSequence() {
+        GameRandom first = new GameRandom(7);
+        GameRandom second = new GameRandom(7);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble(), "Sequences should match for the same seed.");
+            assertEquals(first.chance(0.3), second.chance(0.3), "Chances should match for the same seed.");
+        }
+    }
+
+    /**
+     * Tests that a reseeded generator restarts the sequence of a new generator with that seed.
+     */
+    @Test
+    void testReseedRestartsSequence() {
+        GameRandom used = new GameRandom(7);
+        for (int i = 0; i < 100; i++) {
+            used.nextDouble(); // Advance the generator, as a level does while it is played
+        }
+        used.reseed(7);
+
+        GameRandom fresh = new GameRandom(7);
+        assertEquals(7, used.getSeed(), "The new seed should be reported.");
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(fresh.nextDouble(), used.nextDouble(), "A reseeded generator should replay the sequence.");
+        }
+    }
+
+    /**
+     * Tests that shuffling is reproducible and keeps every element.
+     */
+    @Test
+    void testShuffleIsDeterministicPermutation() {
+        List<Integer> first = numbers(50);
+        List<Integer> second = numbers(50);
+        new GameRandom(99).shuffle(first);
+        new GameRandom(99).shuffle(second);
+
+        assertEquals(first, second, "Shuffles should match for the same seed.");
+        assertNotEquals(numbers(50), first, "The list should be reordered.");
+        List<Integer> sorted = new ArrayList<>(first);
+        sorted.sort(null);
+        assertEquals(numbers(50), sorted, "Shuffling should keep every element exactly once.");
+    }
+
+    /**
+     * Tests that level seeds depend on both the game seed and the level name.
+     */
+    @Test
+    void testLevelSeeds() {
+        assertEquals(GameRandom.levelSeed(1, "LevelOne"), GameRandom.levelSeed(1, "LevelOne"),
+                "The same game and level should give the same seed.");
+        assertNotEquals(GameRandom.levelSeed(1, "LevelOne"), GameRandom.levelSeed(1, "LevelTwo"),
+                "Different levels should get different seeds.");
+        assertNotEquals(GameRandom.levelSeed(1, "LevelOne"), GameRandom.levelSeed(2, "LevelOne"),
+                "Different games should give a level different seeds.");
+    }
+
+    /**
+     * Creates the list 0, 1, ..., count - 1.
+     *
+     * @param count The number of elements.
+     * @return The new list.
+     */
+    private static List<Integer> numbers(int count) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
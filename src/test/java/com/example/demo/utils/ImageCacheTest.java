@@ -0,0 +1,84 @@
+package com.example.demo.utils;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the ImageCache class.
+ * Verifies that images are decoded once per size and that the statistics are tracked.
+ */
+class ImageCacheTest {
+
+    private static final String HEART = "/com/example/demo/images/heart.png";
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run.
+     */
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            javafx.application.Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Tests that the same resource and size return the same decoded image.
+     */
+    @Test
+    void testSameSizeIsDecodedOnce() {
+        ImageCache cache = new ImageCache();
+
+        Image first = cache.getScaledToHeight(HEART, 50);
+        Image second = cache.getScaledToHeight(HEART, 50);
+
+        assertSame(first, second, "The cached image should be reused.");
+        assertEquals(1, cache.getMisses(), "The image should be decoded once.");
+        assertEquals(1, cache.getHits(), "The second request should be a hit.");
+        assertEquals(50, first.getHeight(), 0.5, "The image should be pre-scaled to the requested height.");
+    }
+
+    /**
+     * Tests that different sizes of the same resource are cached separately.
+     */
+    @Test
+    void testDifferentSizesAreSeparateEntries() {
+        ImageCache cache = new ImageCache();
+
+        Image small = cache.getScaledToHeight(HEART, 50);
+        Image large = cache.getScaledToHeight(HEART, 100);
+
+        assertNotSame(small, large, "Each size should have its own image.");
+        assertEquals(2, cache.size(), "Both sizes should be cached.");
+        assertTrue(cache.getEstimatedBytes() > 0, "The memory footprint should be reported.");
+    }
+
+    /**
+     * Tests that a missing resource is reported clearly.
+     */
+    @Test
+    void testMissingResourceThrows() {
+        ImageCache cache = new ImageCache();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("/com/example/demo/images/missing.png"));
+    }
+
+    /**
+     * Tests that decoding a large background at screen size records the memory saved.
+     */
+    @Test
+    void testScreenSizeDecodeRecordsSaving() {
+        ImageCache cache = new ImageCache();
+
+        Image background = cache.get("/com/example/demo/images/space.jpg", 1300, 750, false);
+
+        assertEquals(1300, background.getWidth(), "The image should be decoded at the requested width.");
+        assertEquals(750, background.getHeight(), "The image should be decoded at the requested height.");
+        assertTrue(cache.getSavedBytes() > cache.getEstimatedBytes(),
+                "A 6000x4000 source decoded at screen size should save more than it uses.");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LatencyHistogram class.
+ * Verifies percentile accuracy, extremes and resetting.
+ */
+class LatencyHistogramTest {
+
+    /**
+     * Tests that percentiles of a uniform distribution are within the bucket error.
+     */
+    @Test
+    void testPercentilesAreAccurate() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000); // 1 us to 100 ms
+        }
+
+        assertEquals(100_000, histogram.getCount(), "Every sample should be counted.");
+        assertEquals(50_000_000, histogram.getPercentile(50), 50_000_000 * 0.07, "p50 should be near 50 ms.");
+        assertEquals(99_000_000, histogram.getPercentile(99), 99_000_000 * 0.07, "p99 should be near 99 ms.");
+        assertEquals(100_000_000, histogram.getMax(), "The maximum should be exact.");
+        assertEquals(100_000_000, histogram.getPercentile(100), "p100 should be the maximum.");
+    }
+
+    /**
+     * Tests that small and very large values are handled.
+     */
+    @Test
+    void testExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(1), "Negative values should be recorded as zero.");
+        assertEquals(3, histogram.getPercentile(50), "Small values should be exact.");
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100), "The largest value should be supported.");
+    }
+
+    /**
+     * Tests that resetting discards all samples.
+     */
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount(), "No samples should remain after a reset.");
+        assertEquals(0, histogram.getPercentile(99), "An empty histogram should report zero.");
+    }
+}
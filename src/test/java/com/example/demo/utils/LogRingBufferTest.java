@@ -0,0 +1,79 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the LogRingBuffer class.
+ * Verifies ordering, overflow handling and concurrent producers.
+ */
+class LogRingBufferTest {
+
+    /**
+     * Creates an entry with the given message.
+     */
+    private static LogRingBuffer.Entry entry(String message) {
+        return new LogRingBuffer.Entry(0, LogLevel.INFO, "test", "main", message, null);
+    }
+
+    /**
+     * Tests that entries come out in the order they were added and that a full buffer drops entries.
+     */
+    @Test
+    void testFifoOrderAndOverflow() {
+        LogRingBuffer buffer = new LogRingBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(entry("m" + i));
+        }
+
+        assertEquals(2, buffer.getDropped(), "Entries beyond the capacity should be dropped.");
+        for (int i = 0; i < 4; i++) {
+            assertEquals("m" + i, buffer.poll().message(), "Entries should come out in order.");
+        }
+        assertNull(buffer.poll(), "The buffer should be empty.");
+        assertTrue(buffer.offer(entry("again")), "Freed slots should be reusable.");
+    }
+
+    /**
+     * Tests that entries from several producer threads all arrive exactly once.
+     */
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 5000;
+        LogRingBuffer buffer = new LogRingBuffer(1 << 15);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(entry(id + ":" + i));
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<String> seen = new HashSet<>();
+        LogRingBuffer.Entry next;
+        while ((next = buffer.poll()) != null) {
+            assertTrue(seen.add(next.message()), "Every entry should be delivered once.");
+        }
+        assertEquals(producers * perProducer, seen.size(), "No entry should be lost.");
+        assertEquals(0, buffer.getDropped(), "Nothing should be dropped when the buffer is large enough.");
+    }
+
+    /**
+     * Tests that a capacity that is not a power of two is rejected.
+     */
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer(3));
+    }
+}
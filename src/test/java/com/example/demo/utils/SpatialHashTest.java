@@ -0,0 +1,66 @@
+package com.example.demo.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SpatialHash broadphase.
+ * Compares grid queries against a brute-force check, including boxes outside the grid area.
+ */
+public class SpatialHashTest {
+
+    /**
+     * Test to verify that queries report exactly the boxes a brute-force check finds, each once.
+     */
+    @Test
+    public void testQueryMatchesBruteForce() {
+        SpatialHash<double[]> grid = new SpatialHash<>(200, 1300, 750);
+        Random random = new Random(12345);
+        List<double[]> boxes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 1800 - 250; // Some boxes lie partly or fully off screen
+            double y = random.nextDouble() * 1000 - 125;
+            double[] box = {x, y, x + 20 + random.nextDouble() * 400, y + 20 + random.nextDouble() * 300};
+            boxes.add(box);
+            grid.insert(box, box[0], box[1], box[2], box[3]);
+        }
+
+        for (double[] probe : boxes) {
+            Set<double[]> expected = new HashSet<>();
+            for (double[] other : boxes) {
+                if (probe[0] <= other[2] && probe[2] >= other[0] && probe[1] <= other[3] && probe[3] >= other[1]) {
+                    expected.add(other);
+                }
+            }
+            List<double[]> reported = new ArrayList<>();
+            int found = grid.query(probe, probe[0], probe[1], probe[2], probe[3], (p, other) -> reported.add(other));
+
+            // Assert the grid found the same boxes without duplicates
+            assertEquals(expected.size(), found, "Query should report every intersecting box.");
+            assertEquals(expected, new HashSet<>(reported), "Query should report exactly the intersecting boxes.");
+        }
+    }
+
+    /**
+     * Test to verify that clearing the grid removes all items.
+     */
+    @Test
+    public void testClearRemovesItems() {
+        SpatialHash<String> grid = new SpatialHash<>(100, 500, 500);
+        grid.insert("plane", 10, 10, 60, 60);
+
+        grid.clear();
+
+        // Assert nothing is found after clearing
+        assertEquals(0, grid.size(), "Grid should be empty after clearing.");
+        assertEquals(0, grid.query("probe", 0, 0, 500, 500, (p, item) -> fail("No item expected.")),
+                "Query on an empty grid should report nothing.");
+    }
+}
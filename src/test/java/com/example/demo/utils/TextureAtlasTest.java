@@ -0,0 +1,76 @@
+package com.example.demo.utils;
+
+import com.example.demo.utils.AssetManifest.ImageAsset;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TextureAtlas class.
+ * Verifies that sprites are packed without overlapping and that views show their atlas region.
+ */
+class TextureAtlasTest {
+
+    private static final ImageAsset HEART = ImageAsset.scaledToHeight("/com/example/demo/images/heart.png", 50);
+    private static final ImageAsset SHIELD = new ImageAsset("/com/example/demo/images/shield.png", 200, 200, false);
+
+    /**
+     * Initializes the JavaFX toolkit before all tests run.
+     */
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            javafx.application.Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Ignore if JavaFX is already initialized
+        }
+    }
+
+    /**
+     * Tests that the shelf layout keeps every rectangle inside the width and apart from the others.
+     */
+    @Test
+    void testLayoutDoesNotOverlap() {
+        int[] widths = {300, 120, 120, 500, 40, 40, 200};
+        int[] heights = {100, 50, 80, 300, 20, 20, 200};
+
+        Rectangle2D[] placements = TextureAtlas.layout(widths, heights, 640);
+
+        for (int i = 0; i < placements.length; i++) {
+            assertEquals(widths[i], placements[i].getWidth(), "Each rectangle should keep its width.");
+            assertEquals(heights[i], placements[i].getHeight(), "Each rectangle should keep its height.");
+            assertTrue(placements[i].getMaxX() <= 640, "Rectangles should stay within the maximum width.");
+            for (int j = i + 1; j < placements.length; j++) {
+                assertFalse(placements[i].intersects(placements[j]), "Rectangles " + i + " and " + j + " overlap.");
+            }
+        }
+    }
+
+    /**
+     * Tests that packed sprites are shown through a viewport on the atlas, and others from the cache.
+     */
+    @Test
+    void testApplyUsesAtlasRegion() {
+        TextureAtlas atlas = TextureAtlas.pack(List.of(HEART, SHIELD));
+
+        assertEquals(2, atlas.size(), "Both sprites should be packed.");
+        assertEquals(50, atlas.getRegion(HEART).getHeight(), 0.5, "The heart should be packed at its display height.");
+        assertEquals(200, atlas.getRegion(SHIELD).getWidth(), 0.5, "The shield should be packed at its display size.");
+
+        ImageView heart = new ImageView();
+        atlas.apply(heart, HEART);
+        assertSame(atlas.getImage(), heart.getImage(), "Packed sprites should share the atlas image.");
+        assertEquals(atlas.getRegion(HEART), heart.getViewport(), "The view should show the sprite's region.");
+
+        ImageAsset unpacked = ImageAsset.scaledToHeight("/com/example/demo/images/heart.png", 30);
+        ImageView other = new ImageView();
+        atlas.apply(other, unpacked);
+        assertNotSame(atlas.getImage(), other.getImage(), "Sprites outside the atlas should use their own image.");
+        assertNull(other.getViewport(), "Sprites outside the atlas should not use a viewport.");
+    }
+}